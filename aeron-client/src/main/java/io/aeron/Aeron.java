@@ -90,6 +90,17 @@ public final class Aeron implements AutoCloseable
      */
     public static final long PUBLICATION_CONNECTION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
 
+    /**
+     * Property name for whether the pages of mapped log buffers should be pre-touched before being handed out.
+     */
+    public static final String PRE_TOUCH_MAPPED_MEMORY_PROP_NAME = "aeron.pre.touch.mapped.memory";
+
+    /**
+     * Should the pages of mapped log buffers be pre-touched by the client conductor before a {@link Publication} or
+     * {@link Image} is handed out so page faults are not taken on the first send or poll.
+     */
+    public static final boolean PRE_TOUCH_MAPPED_MEMORY = Boolean.getBoolean(PRE_TOUCH_MAPPED_MEMORY_PROP_NAME);
+
     private final Lock clientLock;
     private final ClientConductor conductor;
     private final AgentRunner conductorRunner;
@@ -279,6 +290,169 @@ public final class Aeron implements AutoCloseable
         }
     }
 
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers. The command is sent to the
+     * media driver without waiting for the response so many registrations can be in flight at once. The result is
+     * collected by polling {@link #getPublication(long)} with the returned registration id.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used to get the Publication once it is ready.
+     */
+    public long asyncAddPublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            return conductor.asyncAddPublication(channel, streamId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Asynchronously add an {@link ExclusivePublication} for publishing messages to subscribers from a single thread.
+     * The result is collected by polling {@link #getExclusivePublication(long)} with the returned registration id.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used to get the ExclusivePublication once it is
+     * ready.
+     */
+    public long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            return conductor.asyncAddExclusivePublication(channel, streamId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers, using the image
+     * handlers from the {@link Aeron.Context}. The result is collected by polling {@link #getSubscription(long)} with
+     * the returned registration id.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the subscription which can be used to get the Subscription once it is ready.
+     */
+    public long asyncAddSubscription(final String channel, final int streamId)
+    {
+        final Context ctx = conductor.context();
+
+        return asyncAddSubscription(channel, streamId, ctx.availableImageHandler(), ctx.unavailableImageHandler());
+    }
+
+    /**
+     * Asynchronously add a new {@link Subscription} for subscribing to messages from publishers. The result is
+     * collected by polling {@link #getSubscription(long)} with the returned registration id.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption.
+     * @return the registration id of the subscription which can be used to get the Subscription once it is ready.
+     */
+    public long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        clientLock.lock();
+        try
+        {
+            return conductor.asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Get the {@link Publication} for a registration made with {@link #asyncAddPublication(String, int)}.
+     *
+     * Once the Publication, or the error for the registration, has been returned the registration id is forgotten.
+     * Callers must keep polling until one of them is returned. A result not collected within the driver timeout of
+     * the media driver responding is discarded and the Publication closed.
+     *
+     * @param registrationId returned from {@link #asyncAddPublication(String, int)}.
+     * @return the Publication if the media driver has responded, otherwise null if still in progress.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     * @throws IllegalArgumentException if the registration id is not for an outstanding publication.
+     */
+    public Publication getPublication(final long registrationId)
+    {
+        clientLock.lock();
+        try
+        {
+            return conductor.getPublication(registrationId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Get the {@link ExclusivePublication} for a registration made with
+     * {@link #asyncAddExclusivePublication(String, int)}.
+     *
+     * Once the ExclusivePublication, or the error for the registration, has been returned the registration id is
+     * forgotten. Callers must keep polling until one of them is returned. A result not collected within the driver
+     * timeout of the media driver responding is discarded and the ExclusivePublication closed.
+     *
+     * @param registrationId returned from {@link #asyncAddExclusivePublication(String, int)}.
+     * @return the ExclusivePublication if the media driver has responded, otherwise null if still in progress.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     * @throws IllegalArgumentException if the registration id is not for an outstanding exclusive publication.
+     */
+    public ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        clientLock.lock();
+        try
+        {
+            return conductor.getExclusivePublication(registrationId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    /**
+     * Get the {@link Subscription} for a registration made with {@link #asyncAddSubscription(String, int)}.
+     *
+     * Once the Subscription, or the error for the registration, has been returned the registration id is forgotten.
+     * Callers must keep polling until one of them is returned. A result not collected within the driver timeout of
+     * the media driver responding is discarded and the Subscription closed.
+     *
+     * @param registrationId returned from {@link #asyncAddSubscription(String, int)}.
+     * @return the Subscription if the media driver has responded, otherwise null if still in progress.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the registration.
+     * @throws IllegalArgumentException if the registration id is not for an outstanding subscription.
+     */
+    public Subscription getSubscription(final long registrationId)
+    {
+        clientLock.lock();
+        try
+        {
+            return conductor.getSubscription(registrationId);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
     /**
      * Generate the next correlation id that is unique for the connected Media Driver.
      *
@@ -353,6 +527,7 @@ public final class Aeron implements AutoCloseable
         private long interServiceTimeout = 0;
         private long publicationConnectionTimeout = PUBLICATION_CONNECTION_TIMEOUT_MS;
         private FileChannel.MapMode imageMapMode;
+        private boolean preTouchMappedMemory = PRE_TOUCH_MAPPED_MEMORY;
         private ThreadFactory threadFactory = Thread::new;
 
         /**
@@ -853,7 +1028,9 @@ public final class Aeron implements AutoCloseable
         }
 
         /**
-         * The file memory mapping mode for {@link Image}s.
+         * The file memory mapping mode for {@link Image}s which defaults to {@link FileChannel.MapMode#READ_ONLY}.
+         * Read-only and read-write mappings of a log are shared by all {@link Image}s of the same stream in the
+         * client, and can be pre-faulted by {@link #preTouchMappedMemory(boolean)}.
          *
          * @param imageMapMode file memory mapping mode for {@link Image}s.
          * @return this for a fluent API.
@@ -874,6 +1051,31 @@ public final class Aeron implements AutoCloseable
             return imageMapMode;
         }
 
+        /**
+         * Should the pages of mapped log buffers be pre-touched before a {@link Publication} or {@link Image} is
+         * handed out.
+         *
+         * @param preTouchMappedMemory true if pages should be pre-touched.
+         * @return this for a fluent API.
+         * @see Aeron#PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+         */
+        public Context preTouchMappedMemory(final boolean preTouchMappedMemory)
+        {
+            this.preTouchMappedMemory = preTouchMappedMemory;
+            return this;
+        }
+
+        /**
+         * Should the pages of mapped log buffers be pre-touched before a {@link Publication} or {@link Image} is
+         * handed out.
+         *
+         * @return true if pages should be pre-touched.
+         */
+        public boolean preTouchMappedMemory()
+        {
+            return preTouchMappedMemory;
+        }
+
         /**
          * Specify the thread factory to use when starting the conductor thread.
          *
@@ -20,11 +20,15 @@ import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
  * Reusable Builder for appending a sequence of buffers that grows internal capacity as needed.
  *
+ * The internal buffer can be on heap, off heap in a direct {@link ByteBuffer} so that large messages do not add to
+ * GC pressure, or a {@link MutableDirectBuffer} provided by the caller which will not be grown.
+ *
  * Similar in concept to {@link StringBuilder}.
  */
 public class BufferBuilder
@@ -39,6 +43,8 @@ public class BufferBuilder
      */
     public static final int INITIAL_CAPACITY = 4096;
 
+    private final boolean isDirect;
+    private final boolean isExternal;
     private final MutableDirectBuffer mutableDirectBuffer;
 
     private byte[] buffer;
@@ -60,9 +66,44 @@ public class BufferBuilder
      */
     public BufferBuilder(final int initialCapacity)
     {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Construct a buffer builder with an initial capacity that will be rounded up to the nearest power of 2.
+     *
+     * @param initialCapacity at which the capacity will start.
+     * @param isDirect        should the internal buffer be allocated off heap in a direct {@link ByteBuffer}.
+     */
+    public BufferBuilder(final int initialCapacity, final boolean isDirect)
+    {
+        this.isDirect = isDirect;
+        this.isExternal = false;
         capacity = BitUtil.findNextPositivePowerOfTwo(initialCapacity);
-        buffer = new byte[capacity];
-        mutableDirectBuffer = new UnsafeBuffer(buffer);
+
+        if (isDirect)
+        {
+            mutableDirectBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+        }
+        else
+        {
+            buffer = new byte[capacity];
+            mutableDirectBuffer = new UnsafeBuffer(buffer);
+        }
+    }
+
+    /**
+     * Construct a buffer builder which appends into a buffer provided by the caller. The buffer is not grown so an
+     * append beyond its capacity will result in an {@link IllegalStateException}.
+     *
+     * @param buffer into which appends are made.
+     */
+    public BufferBuilder(final MutableDirectBuffer buffer)
+    {
+        isDirect = false;
+        isExternal = true;
+        capacity = buffer.capacity();
+        mutableDirectBuffer = buffer;
     }
 
     /**
@@ -75,6 +116,16 @@ public class BufferBuilder
         return capacity;
     }
 
+    /**
+     * Is the internal buffer allocated off heap in a direct {@link ByteBuffer}?
+     *
+     * @return true if the internal buffer is allocated off heap in a direct {@link ByteBuffer}.
+     */
+    public boolean isDirect()
+    {
+        return isDirect;
+    }
+
     /**
      * The current limit of the buffer that has been used by append operations.
      *
@@ -123,15 +174,16 @@ public class BufferBuilder
     }
 
     /**
-     * Compact the buffer to reclaim unused space above the limit.
+     * Compact the buffer to reclaim unused space above the limit. A buffer provided by the caller is left as is.
      *
      * @return the builder for fluent API usage.
      */
     public BufferBuilder compact()
     {
-        capacity = Math.max(INITIAL_CAPACITY, BitUtil.findNextPositivePowerOfTwo(limit));
-        buffer = Arrays.copyOf(buffer, capacity);
-        mutableDirectBuffer.wrap(buffer);
+        if (!isExternal)
+        {
+            resize(Math.max(INITIAL_CAPACITY, BitUtil.findNextPositivePowerOfTwo(limit)));
+        }
 
         return this;
     }
@@ -148,7 +200,7 @@ public class BufferBuilder
     {
         ensureCapacity(length);
 
-        srcBuffer.getBytes(srcOffset, buffer, limit, length);
+        mutableDirectBuffer.putBytes(limit, srcBuffer, srcOffset, length);
         limit += length;
 
         return this;
@@ -166,13 +218,32 @@ public class BufferBuilder
 
         if (requiredCapacity > capacity)
         {
-            final int newCapacity = findSuitableCapacity(capacity, requiredCapacity);
-            final byte[] newBuffer = Arrays.copyOf(buffer, newCapacity);
+            if (isExternal)
+            {
+                final String s = String.format(
+                    "Insufficient capacity: capacity=%d limit=%d additional=%d", capacity, limit, additionalCapacity);
+                throw new IllegalStateException(s);
+            }
 
-            capacity = newCapacity;
-            buffer = newBuffer;
+            resize(findSuitableCapacity(capacity, requiredCapacity));
+        }
+    }
+
+    private void resize(final int newCapacity)
+    {
+        if (isDirect)
+        {
+            final ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity);
+            mutableDirectBuffer.getBytes(0, newBuffer, Math.min(limit, newCapacity));
             mutableDirectBuffer.wrap(newBuffer);
         }
+        else
+        {
+            buffer = Arrays.copyOf(buffer, newCapacity);
+            mutableDirectBuffer.wrap(buffer);
+        }
+
+        capacity = newCapacity;
     }
 
     private static int findSuitableCapacity(final int currentCapacity, final int requiredCapacity)
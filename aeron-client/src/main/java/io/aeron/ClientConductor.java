@@ -23,6 +23,7 @@ import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.*;
 
@@ -61,20 +62,20 @@ class ClientConductor implements Agent, DriverListener
     private final Aeron.Context ctx;
     private final EpochClock epochClock;
     private final FileChannel.MapMode imageMapMode;
+    private final boolean preTouchMappedMemory;
     private final NanoClock nanoClock;
     private final DriverListenerAdapter driverListener;
     private final LogBuffersFactory logBuffersFactory;
     private final ActivePublications activePublications = new ActivePublications();
     private final Long2ObjectHashMap<ExclusivePublication> activeExclusivePublications = new Long2ObjectHashMap<>();
     private final ActiveSubscriptions activeSubscriptions = new ActiveSubscriptions();
+    private final Long2ObjectHashMap<PendingCommand> pendingCommandByIdMap = new Long2ObjectHashMap<>();
     private final ArrayList<ManagedResource> lingeringResources = new ArrayList<>();
     private final UnsafeBuffer counterValuesBuffer;
     private final DriverProxy driverProxy;
     private final ErrorHandler errorHandler;
     private final AgentInvoker driverAgentInvoker;
 
-    private RegistrationException driverException;
-
     ClientConductor(final Aeron.Context ctx)
     {
         this.ctx = ctx;
@@ -87,6 +88,7 @@ class ClientConductor implements Agent, DriverListener
         driverProxy = ctx.driverProxy();
         logBuffersFactory = ctx.logBuffersFactory();
         imageMapMode = ctx.imageMapMode();
+        preTouchMappedMemory = ctx.preTouchMappedMemory();
         keepAliveIntervalNs = ctx.keepAliveInterval();
         driverTimeoutMs = ctx.driverTimeoutMs();
         driverTimeoutNs = MILLISECONDS.toNanos(driverTimeoutMs);
@@ -115,6 +117,7 @@ class ClientConductor implements Agent, DriverListener
 
             activePublications.close();
             activeSubscriptions.close();
+            pendingCommandByIdMap.clear();
 
             Thread.yield();
 
@@ -140,7 +143,7 @@ class ClientConductor implements Agent, DriverListener
             {
                 if (ACTIVE == status)
                 {
-                    workCount = doWork(NO_CORRELATION_ID, null);
+                    workCount = doWork(NO_CORRELATION_ID);
                 }
             }
             finally
@@ -184,11 +187,12 @@ class ClientConductor implements Agent, DriverListener
         Publication publication = activePublications.get(channel, streamId);
         if (null == publication)
         {
-            awaitResponse(driverProxy.addPublication(channel, streamId), channel);
-            publication = activePublications.get(channel, streamId);
+            publication = (Publication)awaitResponse(asyncAddPublication(channel, streamId));
+        }
+        else
+        {
+            publication.incRef();
         }
-
-        publication.incRef();
 
         return publication;
     }
@@ -197,10 +201,59 @@ class ClientConductor implements Agent, DriverListener
     {
         verifyActive();
 
+        return (ExclusivePublication)awaitResponse(asyncAddExclusivePublication(channel, streamId));
+    }
+
+    long asyncAddPublication(final String channel, final int streamId)
+    {
+        verifyActive();
+
+        final long registrationId = driverProxy.addPublication(channel, streamId);
+        addAsyncPendingCommand(registrationId, Publication.class, channel, null);
+
+        return registrationId;
+    }
+
+    long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        verifyActive();
+
         final long registrationId = driverProxy.addExclusivePublication(channel, streamId);
-        awaitResponse(registrationId, channel);
+        addAsyncPendingCommand(registrationId, ExclusivePublication.class, channel, null);
 
-        return activeExclusivePublications.get(registrationId);
+        return registrationId;
+    }
+
+    long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        verifyActive();
+
+        final long correlationId = driverProxy.addSubscription(channel, streamId);
+        final Subscription subscription = new Subscription(
+            this, channel, streamId, correlationId, availableImageHandler, unavailableImageHandler);
+        activeSubscriptions.add(subscription);
+        addAsyncPendingCommand(correlationId, Subscription.class, channel, subscription);
+
+        return correlationId;
+    }
+
+    Publication getPublication(final long registrationId)
+    {
+        return completedRegistration(registrationId, Publication.class);
+    }
+
+    ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return completedRegistration(registrationId, ExclusivePublication.class);
+    }
+
+    Subscription getSubscription(final long registrationId)
+    {
+        return completedRegistration(registrationId, Subscription.class);
     }
 
     void releasePublication(final Publication publication)
@@ -210,7 +263,7 @@ class ClientConductor implements Agent, DriverListener
         if (publication == activePublications.remove(publication.channel(), publication.streamId()))
         {
             lingerResource(publication.managedResource());
-            awaitResponse(driverProxy.removePublication(publication.registrationId()), null);
+            awaitOperationSuccess(driverProxy.removePublication(publication.registrationId()));
         }
     }
 
@@ -221,7 +274,7 @@ class ClientConductor implements Agent, DriverListener
         if (publication == activeExclusivePublications.remove(publication.registrationId()))
         {
             lingerResource(publication.managedResource());
-            awaitResponse(driverProxy.removePublication(publication.registrationId()), null);
+            awaitOperationSuccess(driverProxy.removePublication(publication.registrationId()));
         }
     }
 
@@ -232,16 +285,7 @@ class ClientConductor implements Agent, DriverListener
 
     Subscription addSubscription(final String channel, final int streamId)
     {
-        verifyActive();
-
-        final long correlationId = driverProxy.addSubscription(channel, streamId);
-        final Subscription subscription = new Subscription(
-            this, channel, streamId, correlationId, ctx.availableImageHandler(), ctx.unavailableImageHandler());
-        activeSubscriptions.add(subscription);
-
-        awaitResponse(correlationId, channel);
-
-        return subscription;
+        return addSubscription(channel, streamId, ctx.availableImageHandler(), ctx.unavailableImageHandler());
     }
 
     Subscription addSubscription(
@@ -252,27 +296,23 @@ class ClientConductor implements Agent, DriverListener
     {
         verifyActive();
 
-        final long correlationId = driverProxy.addSubscription(channel, streamId);
-        final Subscription subscription = new Subscription(
-            this, channel, streamId, correlationId, availableImageHandler, unavailableImageHandler);
-        activeSubscriptions.add(subscription);
-
-        awaitResponse(correlationId, channel);
-
-        return subscription;
+        return (Subscription)awaitResponse(
+            asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler));
     }
 
     void releaseSubscription(final Subscription subscription)
     {
         verifyActive();
 
-        awaitResponse(driverProxy.removeSubscription(subscription.registrationId()), null);
+        pendingCommandByIdMap.remove(subscription.registrationId());
+        awaitOperationSuccess(driverProxy.removeSubscription(subscription.registrationId()));
 
         activeSubscriptions.remove(subscription);
     }
 
     void asyncReleaseSubscription(final Subscription subscription)
     {
+        pendingCommandByIdMap.remove(subscription.registrationId());
         driverProxy.removeSubscription(subscription.registrationId());
     }
 
@@ -280,59 +320,106 @@ class ClientConductor implements Agent, DriverListener
     {
         verifyActive();
 
-        awaitResponse(driverProxy.addDestination(registrationId, endpointChannel), null);
+        awaitOperationSuccess(driverProxy.addDestination(registrationId, endpointChannel));
     }
 
     void removeDestination(final long registrationId, final String endpointChannel)
     {
         verifyActive();
 
-        awaitResponse(driverProxy.removeDestination(registrationId, endpointChannel), null);
+        awaitOperationSuccess(driverProxy.removeDestination(registrationId, endpointChannel));
     }
 
     public void onError(final ErrorCode errorCode, final String message, final long correlationId)
     {
-        driverException = new RegistrationException(errorCode, message);
+        final PendingCommand command = pendingCommandByIdMap.get(correlationId);
+        if (null != command)
+        {
+            if (command.resource instanceof Subscription)
+            {
+                activeSubscriptions.remove((Subscription)command.resource);
+                command.resource = null;
+            }
+
+            command.exception = new RegistrationException(errorCode, message);
+            command.onResponse(nanoClock.nanoTime(), driverTimeoutNs);
+        }
+    }
+
+    public void onOperationSuccess(final long correlationId)
+    {
+        final PendingCommand command = pendingCommandByIdMap.get(correlationId);
+        if (null != command)
+        {
+            command.isComplete = true;
+            command.onResponse(nanoClock.nanoTime(), driverTimeoutNs);
+        }
     }
 
     public void onNewPublication(
-        final String channel,
         final int streamId,
         final int sessionId,
         final int publicationLimitId,
         final String logFileName,
         final long correlationId)
     {
-        final Publication publication = new Publication(
-            this,
-            channel,
-            streamId,
-            sessionId,
-            new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
-            logBuffersFactory.map(logFileName, FileChannel.MapMode.READ_WRITE),
-            correlationId);
+        final PendingCommand command = pendingCommandByIdMap.get(correlationId);
+        if (null == command)
+        {
+            return;
+        }
+
+        final String channel = command.channel;
+        Publication publication = activePublications.get(channel, streamId);
+        if (null == publication)
+        {
+            publication = new Publication(
+                this,
+                channel,
+                streamId,
+                sessionId,
+                new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
+                mapLogBuffers(logFileName, FileChannel.MapMode.READ_WRITE),
+                correlationId);
+
+            activePublications.put(channel, streamId, publication);
+        }
+        else
+        {
+            // an earlier add for the same channel and stream completed first so share it and drop the duplicate.
+            driverProxy.removePublication(correlationId);
+        }
 
-        activePublications.put(channel, streamId, publication);
+        publication.incRef();
+        command.complete(publication);
+        command.onResponse(nanoClock.nanoTime(), driverTimeoutNs);
     }
 
     public void onNewExclusivePublication(
-        final String channel,
         final int streamId,
         final int sessionId,
         final int publicationLimitId,
         final String logFileName,
         final long correlationId)
     {
+        final PendingCommand command = pendingCommandByIdMap.get(correlationId);
+        if (null == command)
+        {
+            return;
+        }
+
         final ExclusivePublication publication = new ExclusivePublication(
             this,
-            channel,
+            command.channel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
-            logBuffersFactory.map(logFileName, FileChannel.MapMode.READ_WRITE),
+            mapLogBuffers(logFileName, FileChannel.MapMode.READ_WRITE),
             correlationId);
 
         activeExclusivePublications.put(correlationId, publication);
+        command.complete(publication);
+        command.onResponse(nanoClock.nanoTime(), driverTimeoutNs);
     }
 
     public void onAvailableImage(
@@ -357,7 +444,7 @@ class ClientConductor implements Agent, DriverListener
                             subscription,
                             sessionId,
                             new UnsafeBufferPosition(counterValuesBuffer, (int)positionId),
-                            logBuffersFactory.map(logFileName, imageMapMode),
+                            mapLogBuffers(logFileName, imageMapMode),
                             errorHandler,
                             sourceIdentity,
                             correlationId);
@@ -417,19 +504,24 @@ class ClientConductor implements Agent, DriverListener
         lingeringResources.add(managedResource);
     }
 
+    void releaseLogBuffers(final LogBuffers logBuffers)
+    {
+        logBuffersFactory.release(logBuffers);
+    }
+
     boolean isPublicationConnected(final long timeOfLastStatusMessageMs)
     {
         return epochClock.time() <= (timeOfLastStatusMessageMs + publicationConnectionTimeoutMs);
     }
 
-    private int doWork(final long correlationId, final String expectedChannel)
+    private int doWork(final long correlationId)
     {
         int workCount = 0;
 
         try
         {
             workCount += onCheckTimeouts();
-            workCount += driverListener.pollMessage(correlationId, expectedChannel);
+            workCount += driverListener.pollMessage();
         }
         catch (final Throwable throwable)
         {
@@ -445,39 +537,110 @@ class ClientConductor implements Agent, DriverListener
         return workCount;
     }
 
-    private void awaitResponse(final long correlationId, final String expectedChannel)
+    private void addPendingCommand(
+        final long correlationId, final Class<?> type, final String channel, final Object resource)
+    {
+        pendingCommandByIdMap.put(correlationId, new PendingCommand(type, channel, resource, Long.MAX_VALUE));
+    }
+
+    private void addAsyncPendingCommand(
+        final long correlationId, final Class<?> type, final String channel, final Object resource)
+    {
+        final long expiryNs = nanoClock.nanoTime() + driverTimeoutNs;
+        pendingCommandByIdMap.put(correlationId, new PendingCommand(type, channel, resource, expiryNs));
+    }
+
+    private void awaitOperationSuccess(final long correlationId)
+    {
+        addPendingCommand(correlationId, Void.class, null, null);
+        awaitResponse(correlationId);
+    }
+
+    /**
+     * Await the response to a pending command. The client lock is released while idle so the conductor duty cycle
+     * and other threads issuing commands are not held up for the round trip to the driver. Responses are dispatched
+     * by whichever thread next polls the driver.
+     *
+     * @param correlationId of the pending command.
+     * @return the resource the command completed with, which may be null.
+     */
+    private Object awaitResponse(final long correlationId)
     {
-        driverException = null;
         final long deadlineNs = nanoClock.nanoTime() + driverTimeoutNs;
 
         do
         {
             if (null == driverAgentInvoker)
             {
-                sleep(1);
+                clientLock.unlock();
+                try
+                {
+                    sleep(1);
+                }
+                finally
+                {
+                    clientLock.lock();
+                }
+
+                if (ACTIVE != status)
+                {
+                    throw new IllegalStateException("Aeron client closed while awaiting driver response");
+                }
             }
             else
             {
                 driverAgentInvoker.invoke();
             }
 
-            doWork(correlationId, expectedChannel);
+            doWork(correlationId);
 
-            if (driverListener.lastReceivedCorrelationId() == correlationId)
+            final PendingCommand command = pendingCommandByIdMap.get(correlationId);
+            if (null != command.exception)
             {
-                if (null != driverException)
-                {
-                    throw driverException;
-                }
+                pendingCommandByIdMap.remove(correlationId);
+                throw command.exception;
+            }
 
-                return;
+            if (command.isComplete)
+            {
+                pendingCommandByIdMap.remove(correlationId);
+                return command.resource;
             }
         }
         while (nanoClock.nanoTime() < deadlineNs);
 
+        pendingCommandByIdMap.remove(correlationId);
+
         throw new DriverTimeoutException("No response from driver within timeout");
     }
 
+    private <T> T completedRegistration(final long registrationId, final Class<T> type)
+    {
+        verifyActive();
+
+        final PendingCommand command = pendingCommandByIdMap.get(registrationId);
+        if (null == command || type != command.type)
+        {
+            throw new IllegalArgumentException(
+                "Unknown " + type.getSimpleName() + " registration id: " + registrationId);
+        }
+
+        if (null != command.exception)
+        {
+            pendingCommandByIdMap.remove(registrationId);
+            throw command.exception;
+        }
+
+        if (!command.isComplete)
+        {
+            return null;
+        }
+
+        pendingCommandByIdMap.remove(registrationId);
+
+        return type.cast(command.resource);
+    }
+
     private void verifyActive()
     {
         if (!isDriverActive)
@@ -534,6 +697,8 @@ class ClientConductor implements Agent, DriverListener
                 }
             }
 
+            expireUncollectedCommands(nowNs);
+
             timeOfLastCheckResourcesNs = nowNs;
             workCount++;
         }
@@ -541,6 +706,51 @@ class ClientConductor implements Agent, DriverListener
         return workCount;
     }
 
+    /**
+     * Discard async registrations which have not been collected by a get call within the driver timeout of the
+     * driver responding, or of the command being sent when no response arrives, and release their resources.
+     *
+     * @param nowNs current time.
+     */
+    private void expireUncollectedCommands(final long nowNs)
+    {
+        final Iterator<PendingCommand> iterator = pendingCommandByIdMap.values().iterator();
+        while (iterator.hasNext())
+        {
+            final PendingCommand command = iterator.next();
+            if (nowNs > command.expiryNs)
+            {
+                iterator.remove();
+                releaseUncollected(command.resource);
+            }
+        }
+    }
+
+    private void releaseUncollected(final Object resource)
+    {
+        if (resource instanceof Subscription)
+        {
+            final Subscription subscription = (Subscription)resource;
+            activeSubscriptions.remove(subscription);
+            subscription.forceClose();
+        }
+        else if (resource instanceof ExclusivePublication)
+        {
+            final ExclusivePublication publication = (ExclusivePublication)resource;
+            activeExclusivePublications.remove(publication.registrationId());
+            publication.forceClose();
+        }
+        else if (resource instanceof Publication)
+        {
+            final Publication publication = (Publication)resource;
+            if (0 == publication.decRef())
+            {
+                activePublications.remove(publication.channel(), publication.streamId());
+                publication.forceClose();
+            }
+        }
+    }
+
     private void checkDriverHeartbeat()
     {
         final long deadlineMs = driverProxy.timeOfLastDriverKeepaliveMs() + driverTimeoutMs;
@@ -552,4 +762,47 @@ class ClientConductor implements Agent, DriverListener
                 "MediaDriver has been inactive for over " + driverTimeoutMs + "ms"));
         }
     }
+
+    private LogBuffers mapLogBuffers(final String logFileName, final FileChannel.MapMode mapMode)
+    {
+        final LogBuffers logBuffers = logBuffersFactory.map(logFileName, mapMode);
+        if (preTouchMappedMemory)
+        {
+            logBuffers.preTouch();
+        }
+
+        return logBuffers;
+    }
+
+    static final class PendingCommand
+    {
+        final Class<?> type;
+        final String channel;
+        Object resource;
+        RegistrationException exception;
+        boolean isComplete;
+        long expiryNs;
+
+        PendingCommand(final Class<?> type, final String channel, final Object resource, final long expiryNs)
+        {
+            this.type = type;
+            this.channel = channel;
+            this.resource = resource;
+            this.expiryNs = expiryNs;
+        }
+
+        void onResponse(final long nowNs, final long timeoutNs)
+        {
+            if (Long.MAX_VALUE != expiryNs)
+            {
+                expiryNs = nowNs + timeoutNs;
+            }
+        }
+
+        void complete(final Object resource)
+        {
+            this.resource = resource;
+            isComplete = true;
+        }
+    }
 }
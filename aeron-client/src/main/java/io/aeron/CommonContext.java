@@ -111,6 +111,47 @@ public class CommonContext implements AutoCloseable
      */
     public static final String RELIABLE_STREAM_PARAM_NAME = "reliable";
 
+    /**
+     * Parameter name for channel URI param to enable FEC parity on a network publication. Value is the number of
+     * datagrams covered by each parity frame.
+     */
+    public static final String FEC_GROUP_SIZE_PARAM_NAME = "fec";
+
+    /**
+     * Parameter name for channel URI param to pace a network publication onto the wire. Value is in bytes per second.
+     */
+    public static final String PACING_RATE_PARAM_NAME = "pacing-rate";
+
+    /**
+     * Parameter name for channel URI param to set the max number of datagrams a network publication may send in a
+     * single Sender duty cycle. Value is the number of datagrams.
+     */
+    public static final String SEND_BURST_PARAM_NAME = "send-burst";
+
+    /**
+     * Parameter name for channel URI param to select the flow control strategy of a network publication, such as one
+     * for multi-destination-cast. Value is one of {@link #FLOW_CONTROL_MIN} optionally followed by ':' and the laggard
+     * timeout in nanoseconds after which a slow receiver stops holding the publication back,
+     * {@link #FLOW_CONTROL_MAX}, or {@link #FLOW_CONTROL_QUORUM} optionally followed by ':' and the number of receivers
+     * which must keep up.
+     */
+    public static final String FLOW_CONTROL_PARAM_NAME = "fc";
+
+    /**
+     * Valid value for {@link #FLOW_CONTROL_PARAM_NAME} to flow control to the slowest receiver.
+     */
+    public static final String FLOW_CONTROL_MIN = "min";
+
+    /**
+     * Valid value for {@link #FLOW_CONTROL_PARAM_NAME} to flow control to the fastest receiver.
+     */
+    public static final String FLOW_CONTROL_MAX = "max";
+
+    /**
+     * Valid value for {@link #FLOW_CONTROL_PARAM_NAME} to flow control to the slowest of the K fastest receivers.
+     */
+    public static final String FLOW_CONTROL_QUORUM = "quorum";
+
     private long driverTimeoutMs = DEFAULT_DRIVER_TIMEOUT_MS;
     private String aeronDirectoryName;
     private File aeronDirectory;
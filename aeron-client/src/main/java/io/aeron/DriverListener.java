@@ -24,6 +24,8 @@ interface DriverListener
 {
     void onError(ErrorCode errorCode, String message, long correlationId);
 
+    void onOperationSuccess(long correlationId);
+
     void onAvailableImage(
         int streamId,
         int sessionId,
@@ -33,7 +35,6 @@ interface DriverListener
         long correlationId);
 
     void onNewPublication(
-        String channel,
         int streamId,
         int sessionId,
         int publicationLimitId,
@@ -43,7 +44,6 @@ interface DriverListener
     void onUnavailableImage(int streamId, long correlationId);
 
     void onNewExclusivePublication(
-        String channel,
         int streamId,
         int sessionId,
         int publicationLimitId,
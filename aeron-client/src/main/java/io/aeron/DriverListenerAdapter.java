@@ -40,30 +40,17 @@ class DriverListenerAdapter implements MessageHandler
     private final DriverListener listener;
     private final Long2LongHashMap subscriberPositionMap = new Long2LongHashMap(MISSING_REGISTRATION_ID);
 
-    private long activeCorrelationId;
-    private long lastReceivedCorrelationId;
-    private String expectedChannel;
-
     DriverListenerAdapter(final CopyBroadcastReceiver broadcastReceiver, final DriverListener listener)
     {
         this.broadcastReceiver = broadcastReceiver;
         this.listener = listener;
     }
 
-    public int pollMessage(final long activeCorrelationId, final String expectedChannel)
+    public int pollMessage()
     {
-        this.activeCorrelationId = activeCorrelationId;
-        this.lastReceivedCorrelationId = -1;
-        this.expectedChannel = expectedChannel;
-
         return broadcastReceiver.receive(this);
     }
 
-    public long lastReceivedCorrelationId()
-    {
-        return lastReceivedCorrelationId;
-    }
-
     @SuppressWarnings("MethodLength")
     public void onMessage(final int msgTypeId, final MutableDirectBuffer buffer, final int index, final int length)
     {
@@ -73,13 +60,10 @@ class DriverListenerAdapter implements MessageHandler
             {
                 errorResponse.wrap(buffer, index);
 
-                final long correlationId = errorResponse.offendingCommandCorrelationId();
-                if (correlationId == activeCorrelationId)
-                {
-                    listener.onError(errorResponse.errorCode(), errorResponse.errorMessage(), correlationId);
-
-                    lastReceivedCorrelationId = correlationId;
-                }
+                listener.onError(
+                    errorResponse.errorCode(),
+                    errorResponse.errorMessage(),
+                    errorResponse.offendingCommandCorrelationId());
                 break;
             }
 
@@ -110,19 +94,12 @@ class DriverListenerAdapter implements MessageHandler
             {
                 publicationReady.wrap(buffer, index);
 
-                final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
-                {
-                    listener.onNewPublication(
-                        expectedChannel,
-                        publicationReady.streamId(),
-                        publicationReady.sessionId(),
-                        publicationReady.publicationLimitCounterId(),
-                        publicationReady.logFileName(),
-                        correlationId);
-
-                    lastReceivedCorrelationId = correlationId;
-                }
+                listener.onNewPublication(
+                    publicationReady.streamId(),
+                    publicationReady.sessionId(),
+                    publicationReady.publicationLimitCounterId(),
+                    publicationReady.logFileName(),
+                    publicationReady.correlationId());
                 break;
             }
 
@@ -130,11 +107,7 @@ class DriverListenerAdapter implements MessageHandler
             {
                 correlatedMessage.wrap(buffer, index);
 
-                final long correlationId = correlatedMessage.correlationId();
-                if (correlationId == activeCorrelationId)
-                {
-                    lastReceivedCorrelationId = correlationId;
-                }
+                listener.onOperationSuccess(correlatedMessage.correlationId());
                 break;
             }
 
@@ -150,19 +123,12 @@ class DriverListenerAdapter implements MessageHandler
             {
                 publicationReady.wrap(buffer, index);
 
-                final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
-                {
-                    listener.onNewExclusivePublication(
-                        expectedChannel,
-                        publicationReady.streamId(),
-                        publicationReady.sessionId(),
-                        publicationReady.publicationLimitCounterId(),
-                        publicationReady.logFileName(),
-                        correlationId);
-
-                    lastReceivedCorrelationId = correlationId;
-                }
+                listener.onNewExclusivePublication(
+                    publicationReady.streamId(),
+                    publicationReady.sessionId(),
+                    publicationReady.publicationLimitCounterId(),
+                    publicationReady.logFileName(),
+                    publicationReady.correlationId());
                 break;
             }
         }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.collections.Int2IntHashMap;
+
+/**
+ * Polls the {@link Image}s of a {@link Subscription} with deficit round-robin scheduling so that a busy session
+ * cannot starve quieter sessions on the same {@link Subscription}.
+ *
+ * Each round every {@link Image} is credited with a quantum of bytes multiplied by the weight of its session and may
+ * consume frames from its log while they fit within its accumulated credit. The fragment limit for a poll is also
+ * shared across {@link Image}s in proportion to weight per round. Rounds continue until the fragment limit is reached
+ * or a round consumes nothing, so budget left unused by idle sessions is given to busy ones. An {@link Image} which
+ * has been drained loses its credit so it cannot build up a burst while idle.
+ *
+ * The byte quantum should be at least the MTU of the stream so a frame can be consumed on each round.
+ *
+ * <b>Note:</b> Like the {@link Subscription} it wraps, this class is not threadsafe.
+ *
+ * @see Subscription#poll(FragmentHandler, int)
+ * @see Image#boundedPoll(FragmentHandler, int, int)
+ */
+public class FairImagePoller
+{
+    /**
+     * Weight of a session which has not been assigned a weight.
+     */
+    public static final int DEFAULT_WEIGHT = 1;
+
+    private static final int[] EMPTY_WEIGHTS = new int[0];
+    private static final long[] EMPTY_DEFICITS = new long[0];
+
+    private final int byteQuantum;
+    private int totalWeight = 0;
+    private int roundRobinIndex = 0;
+    private Image[] images = Subscription.EMPTY_ARRAY;
+    private int[] weights = EMPTY_WEIGHTS;
+    private long[] deficits = EMPTY_DEFICITS;
+    private final Int2IntHashMap weightBySessionIdMap = new Int2IntHashMap(0);
+    private final Subscription subscription;
+
+    /**
+     * Construct a poller which shares the budget for each poll fairly across the {@link Image}s of a
+     * {@link Subscription}.
+     *
+     * @param subscription whose {@link Image}s are to be polled.
+     * @param byteQuantum  credited to an {@link Image} of {@link #DEFAULT_WEIGHT} on each round.
+     */
+    public FairImagePoller(final Subscription subscription, final int byteQuantum)
+    {
+        if (byteQuantum <= 0)
+        {
+            throw new IllegalArgumentException("byteQuantum must be positive: " + byteQuantum);
+        }
+
+        this.subscription = subscription;
+        this.byteQuantum = byteQuantum;
+    }
+
+    /**
+     * The {@link Subscription} whose {@link Image}s are polled.
+     *
+     * @return the {@link Subscription} whose {@link Image}s are polled.
+     */
+    public Subscription subscription()
+    {
+        return subscription;
+    }
+
+    /**
+     * The number of bytes credited to an {@link Image} of {@link #DEFAULT_WEIGHT} on each round.
+     *
+     * @return the number of bytes credited to an {@link Image} of {@link #DEFAULT_WEIGHT} on each round.
+     */
+    public int byteQuantum()
+    {
+        return byteQuantum;
+    }
+
+    /**
+     * Set the weight for a session relative to {@link #DEFAULT_WEIGHT}. A session of weight 2 gets twice the bytes
+     * and fragments per round of a session with the default weight. The weight is kept for when a session has no
+     * {@link Image} so it applies if the session joins later.
+     *
+     * @param sessionId of the {@link Image} to be weighted.
+     * @param weight    for the session which must be positive.
+     * @return this for a fluent API.
+     */
+    public FairImagePoller sessionWeight(final int sessionId, final int weight)
+    {
+        if (weight <= 0)
+        {
+            throw new IllegalArgumentException("weight must be positive: " + weight);
+        }
+
+        weightBySessionIdMap.put(sessionId, weight);
+
+        final Image[] images = this.images;
+        for (int i = 0, length = images.length; i < length; i++)
+        {
+            if (images[i].sessionId() == sessionId)
+            {
+                totalWeight += weight - weights[i];
+                weights[i] = weight;
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Get the weight for a session.
+     *
+     * @param sessionId of the {@link Image}.
+     * @return the weight for the session.
+     */
+    public int sessionWeight(final int sessionId)
+    {
+        final int weight = weightBySessionIdMap.get(sessionId);
+
+        return 0 == weight ? DEFAULT_WEIGHT : weight;
+    }
+
+    /**
+     * Poll the {@link Image}s of the {@link Subscription} for available message fragments, sharing the fragment limit
+     * and bytes consumed fairly across sessions by weight.
+     *
+     * @param fragmentHandler callback for handling each message fragment as it is read.
+     * @param fragmentLimit   number of message fragments to limit for the poll operation across multiple {@link Image}s.
+     * @return the number of fragments received.
+     */
+    public int poll(final FragmentHandler fragmentHandler, final int fragmentLimit)
+    {
+        final Image[] images = refreshImages();
+        final int length = images.length;
+        if (0 == length)
+        {
+            return 0;
+        }
+
+        final int[] weights = this.weights;
+        final long[] deficits = this.deficits;
+        final int totalWeight = this.totalWeight;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        int roundFragmentsRead;
+        do
+        {
+            roundFragmentsRead = 0;
+
+            for (int j = 0; j < length && fragmentsRead < fragmentLimit; j++)
+            {
+                int i = startingIndex + j;
+                if (i >= length)
+                {
+                    i -= length;
+                }
+
+                final Image image = images[i];
+                final int weight = weights[i];
+                final long quantum = (long)byteQuantum * weight;
+                final long deficit = deficits[i] + quantum;
+                final int fragmentShare = Math.max(1, (int)(((long)fragmentLimit * weight) / totalWeight));
+                final int imageFragmentLimit = Math.min(fragmentShare, fragmentLimit - fragmentsRead);
+
+                final long initialPosition = image.position();
+                final int fragments = image.boundedPoll(
+                    fragmentHandler, imageFragmentLimit, (int)Math.min(deficit, Integer.MAX_VALUE));
+                final long remaining = deficit - (image.position() - initialPosition);
+
+                if (fragments == imageFragmentLimit)
+                {
+                    deficits[i] = Math.min(remaining, quantum);
+                }
+                else if (image.isDrained())
+                {
+                    deficits[i] = 0;
+                }
+                else
+                {
+                    deficits[i] = remaining;
+                }
+
+                roundFragmentsRead += fragments;
+                fragmentsRead += fragments;
+            }
+        }
+        while (roundFragmentsRead > 0 && fragmentsRead < fragmentLimit);
+
+        return fragmentsRead;
+    }
+
+    private Image[] refreshImages()
+    {
+        final Image[] oldImages = this.images;
+        final Image[] newImages = subscription.images;
+
+        if (newImages != oldImages)
+        {
+            final int length = newImages.length;
+            final int[] newWeights = new int[length];
+            final long[] newDeficits = new long[length];
+            int newTotalWeight = 0;
+
+            for (int i = 0; i < length; i++)
+            {
+                final Image image = newImages[i];
+                newWeights[i] = sessionWeight(image.sessionId());
+                newTotalWeight += newWeights[i];
+
+                for (int j = 0, oldLength = oldImages.length; j < oldLength; j++)
+                {
+                    if (oldImages[j] == image)
+                    {
+                        newDeficits[i] = deficits[j];
+                        break;
+                    }
+                }
+            }
+
+            this.images = newImages;
+            weights = newWeights;
+            deficits = newDeficits;
+            totalWeight = newTotalWeight;
+        }
+
+        return newImages;
+    }
+}
@@ -20,6 +20,8 @@ import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 
+import java.util.ArrayList;
+
 import static io.aeron.logbuffer.FrameDescriptor.*;
 
 /**
@@ -33,7 +35,9 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  *
  * Session based buffers will be allocated and grown as necessary based on the length of messages to be assembled.
  * When sessions go inactive see {@link UnavailableImageHandler}, it is possible to free the buffer by calling
- * {@link #freeSessionBuffer(int)}.
+ * {@link #freeSessionBuffer(int)}. Freed buffers are kept for reuse by new sessions until {@link #clear()} is called,
+ * so sessions coming and going do not cause allocation. Buffers can be allocated off heap to avoid GC pressure
+ * when assembling large messages.
  *
  * @see Subscription#poll(FragmentHandler, int)
  * @see Image#poll(FragmentHandler, int)
@@ -41,8 +45,10 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
 public class FragmentAssembler implements FragmentHandler
 {
     private final int initialBufferLength;
+    private final boolean isDirectByteBuffer;
     private final FragmentHandler delegate;
     private final Int2ObjectHashMap<BufferBuilder> builderBySessionIdMap = new Int2ObjectHashMap<>();
+    private final ArrayList<BufferBuilder> freeBuilders = new ArrayList<>();
 
     /**
      * Construct an adapter to reassemble message fragments and delegate on whole messages.
@@ -61,8 +67,22 @@ public class FragmentAssembler implements FragmentHandler
      * @param initialBufferLength to be used for each session.
      */
     public FragmentAssembler(final FragmentHandler delegate, final int initialBufferLength)
+    {
+        this(delegate, initialBufferLength, false);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for each session.
+     * @param isDirectByteBuffer  is the underlying buffer for each session to be allocated off heap.
+     */
+    public FragmentAssembler(
+        final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
     {
         this.initialBufferLength = initialBufferLength;
+        this.isDirectByteBuffer = isDirectByteBuffer;
         this.delegate = delegate;
     }
 
@@ -124,23 +144,30 @@ public class FragmentAssembler implements FragmentHandler
     }
 
     /**
-     * Free an existing session buffer to reduce memory pressure when an image goes inactive or no more
-     * large messages are expected.
+     * Free an existing session buffer when an image goes inactive so it can be reused by a new session.
      *
      * @param sessionId to have its buffer freed
      * @return true if a buffer has been freed otherwise false.
      */
     public boolean freeSessionBuffer(final int sessionId)
     {
-        return null != builderBySessionIdMap.remove(sessionId);
+        final BufferBuilder builder = builderBySessionIdMap.remove(sessionId);
+        if (null != builder)
+        {
+            freeBuilders.add(builder.reset());
+            return true;
+        }
+
+        return false;
     }
 
     /**
-     * Clear down the cache of buffers by session for reassembling messages.
+     * Clear down the cache of buffers by session, and those freed for reuse, for reassembling messages.
      */
     public void clear()
     {
         builderBySessionIdMap.clear();
+        freeBuilders.clear();
     }
 
     private BufferBuilder getBufferBuilder(final int sessionId)
@@ -149,7 +176,9 @@ public class FragmentAssembler implements FragmentHandler
 
         if (null == bufferBuilder)
         {
-            bufferBuilder = new BufferBuilder(initialBufferLength);
+            final int size = freeBuilders.size();
+            bufferBuilder = size > 0 ?
+                freeBuilders.remove(size - 1) : new BufferBuilder(initialBufferLength, isDirectByteBuffer);
             builderBySessionIdMap.put(sessionId, bufferBuilder);
         }
 
@@ -344,6 +344,81 @@ public class Image
         return fragmentsRead;
     }
 
+    /**
+     * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
+     * will be delivered to the {@link FragmentHandler} up to a limited number of fragments and a limited number of
+     * bytes consumed from the log. A fragment is only consumed if its aligned frame, including header, fits in what
+     * remains of the byteLimit. Padding at the end of a term counts towards the byteLimit.
+     *
+     * This is useful for schedulers that share a budget across {@link Image}s such as {@link FairImagePoller}.
+     *
+     * @param fragmentHandler to which message fragments are delivered.
+     * @param fragmentLimit   for the number of fragments to be consumed during one polling operation.
+     * @param byteLimit       for the number of bytes of the log to be consumed during one polling operation.
+     * @return the number of fragments that have been consumed.
+     */
+    public int boundedPoll(final FragmentHandler fragmentHandler, final int fragmentLimit, final int byteLimit)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        int fragmentsRead = 0;
+        final long initialPosition = subscriberPosition.get();
+        final int initialOffset = (int)initialPosition & termLengthMask;
+        int offset = initialOffset;
+        final UnsafeBuffer termBuffer = activeTermBuffer(initialPosition);
+        final int limitOffset = (int)Math.min((long)initialOffset + byteLimit, termBuffer.capacity());
+        header.buffer(termBuffer);
+
+        try
+        {
+            while (fragmentsRead < fragmentLimit && offset < limitOffset)
+            {
+                final int length = frameLengthVolatile(termBuffer, offset);
+                if (length <= 0)
+                {
+                    break;
+                }
+
+                final int frameOffset = offset;
+                final int alignedLength = BitUtil.align(length, FRAME_ALIGNMENT);
+                if (frameOffset + alignedLength > limitOffset)
+                {
+                    break;
+                }
+
+                offset += alignedLength;
+
+                if (isPaddingFrame(termBuffer, frameOffset))
+                {
+                    continue;
+                }
+
+                header.offset(frameOffset);
+
+                fragmentHandler.onFragment(termBuffer, frameOffset + HEADER_LENGTH, length - HEADER_LENGTH, header);
+
+                ++fragmentsRead;
+            }
+        }
+        catch (final Throwable t)
+        {
+            errorHandler.onError(t);
+        }
+        finally
+        {
+            final long resultingPosition = initialPosition + (offset - initialOffset);
+            if (resultingPosition > initialPosition)
+            {
+                subscriberPosition.setOrdered(resultingPosition);
+            }
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Peek for new messages in a stream by scanning forward from an initial position. If new messages are found then
      * they will be delivered to the {@link ControlledFragmentHandler} up to a limited position.
@@ -431,6 +506,34 @@ public class Image
         return resultingPosition;
     }
 
+    /**
+     * Peek for a contiguous run of complete fragments in the current term from the subscriber position up to a
+     * limited number of bytes. The run can then be iterated in place with the {@link ImageCursor} and consumed with
+     * a single {@link ImageCursor#commit()} rather than a callback and position update per fragment.
+     *
+     * @param cursor      for this {@link Image} to be positioned over the run of fragments.
+     * @param lengthLimit up to which the run may be in length.
+     * @return the number of bytes in the run including any padding.
+     */
+    public int peek(final ImageCursor cursor, final int lengthLimit)
+    {
+        if (isClosed)
+        {
+            cursor.clear();
+            return 0;
+        }
+
+        final long position = subscriberPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+        final UnsafeBuffer termBuffer = activeTermBuffer(position);
+        final int limit = (int)Math.min((long)termOffset + lengthLimit, termBuffer.capacity());
+
+        final int resultingOffset = TermBlockScanner.scan(termBuffer, termOffset, limit);
+        cursor.wrap(termBuffer, position, termOffset, resultingOffset);
+
+        return resultingOffset - termOffset;
+    }
+
     /**
      * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
      * will be delivered to the {@link BlockHandler} up to a limited number of bytes.
@@ -546,6 +649,13 @@ public class Image
         }
     }
 
+    boolean isDrained()
+    {
+        final long position = subscriberPosition.get();
+
+        return isClosed || frameLengthVolatile(activeTermBuffer(position), (int)position & termLengthMask) <= 0;
+    }
+
     ManagedResource managedResource()
     {
         isClosed = true;
@@ -568,7 +678,7 @@ public class Image
 
         public void delete()
         {
-            logBuffers.close();
+            subscription.clientConductor.releaseLogBuffers(logBuffers);
         }
     }
 }
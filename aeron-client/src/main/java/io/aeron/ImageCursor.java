@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Flyweight cursor over a contiguous run of complete fragments in the current term of an {@link Image} which has
+ * been peeked with {@link Image#peek(ImageCursor, int)}.
+ *
+ * Fragments are iterated in place with {@link #next()} and the subscriber position is only advanced when
+ * {@link #commit()} is called, so a batch of fragments can be processed inline without a callback per fragment and
+ * committed with a single position update. Fragments which are not committed will be peeked again.
+ *
+ * <b>Note:</b> A cursor is for use with the {@link Image} it was constructed for and is not threadsafe.
+ */
+public class ImageCursor
+{
+    private long initialPosition;
+    private int initialOffset;
+    private int limitOffset;
+    private int nextOffset;
+    private int frameOffset;
+    private int frameLength;
+    private UnsafeBuffer termBuffer;
+    private final Header header;
+    private final Image image;
+
+    /**
+     * Construct a cursor for peeking the log of an {@link Image}.
+     *
+     * @param image to be peeked by this cursor.
+     */
+    public ImageCursor(final Image image)
+    {
+        this.image = image;
+        header = new Header(
+            image.initialTermId(), Integer.numberOfTrailingZeros(image.termBufferLength()), image);
+    }
+
+    /**
+     * The {@link Image} this cursor is for.
+     *
+     * @return the {@link Image} this cursor is for.
+     */
+    public Image image()
+    {
+        return image;
+    }
+
+    /**
+     * Advance to the next fragment in the run skipping any padding.
+     *
+     * @return true if the cursor is on a fragment or false if the end of the run has been reached.
+     */
+    public boolean next()
+    {
+        while (nextOffset < limitOffset)
+        {
+            final int offset = nextOffset;
+            final int length = termBuffer.getInt(lengthOffset(offset), LITTLE_ENDIAN);
+            nextOffset += align(length, FRAME_ALIGNMENT);
+
+            if (!isPaddingFrame(termBuffer, offset))
+            {
+                frameOffset = offset;
+                frameLength = length;
+                header.offset(offset);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The buffer containing the current fragment which is only valid until the fragment is committed.
+     *
+     * @return the buffer containing the current fragment.
+     */
+    public DirectBuffer buffer()
+    {
+        return termBuffer;
+    }
+
+    /**
+     * Offset in the {@link #buffer()} at which the payload of the current fragment begins.
+     *
+     * @return offset in the {@link #buffer()} at which the payload of the current fragment begins.
+     */
+    public int offset()
+    {
+        return frameOffset + HEADER_LENGTH;
+    }
+
+    /**
+     * Length of the payload of the current fragment.
+     *
+     * @return length of the payload of the current fragment.
+     */
+    public int length()
+    {
+        return frameLength - HEADER_LENGTH;
+    }
+
+    /**
+     * The {@link Header} of the current fragment.
+     *
+     * @return the {@link Header} of the current fragment.
+     */
+    public Header header()
+    {
+        return header;
+    }
+
+    /**
+     * The position in the stream after the current fragment, which is where a {@link #commit()} will move the
+     * subscriber position to.
+     *
+     * @return the position in the stream after the current fragment.
+     */
+    public long position()
+    {
+        return initialPosition + (nextOffset - initialOffset);
+    }
+
+    /**
+     * The number of bytes remaining in the run after the current fragment.
+     *
+     * @return the number of bytes remaining in the run after the current fragment.
+     */
+    public int remaining()
+    {
+        return limitOffset - nextOffset;
+    }
+
+    /**
+     * Commit the subscriber position for the {@link Image} to be after the current fragment so fragments up to and
+     * including it are consumed.
+     */
+    public void commit()
+    {
+        if (nextOffset > initialOffset)
+        {
+            image.position(position());
+        }
+    }
+
+    void wrap(final UnsafeBuffer termBuffer, final long position, final int termOffset, final int limitOffset)
+    {
+        this.termBuffer = termBuffer;
+        this.initialPosition = position;
+        this.initialOffset = termOffset;
+        this.limitOffset = limitOffset;
+        this.nextOffset = termOffset;
+        this.frameOffset = termOffset;
+        this.frameLength = HEADER_LENGTH;
+        header.buffer(termBuffer);
+    }
+
+    void clear()
+    {
+        initialOffset = 0;
+        limitOffset = 0;
+        nextOffset = 0;
+    }
+}
@@ -18,6 +18,7 @@ package io.aeron;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 
 import static io.aeron.logbuffer.FrameDescriptor.*;
 
@@ -30,6 +31,9 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * buffer for reassembly before delegation.
  *
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ *
+ * The reassembly buffer can be allocated off heap, or provided by the caller so that fragments are copied once
+ * straight into where the application wants the message without further allocation.
  */
 public class ImageFragmentAssembler implements FragmentHandler
 {
@@ -53,9 +57,36 @@ public class ImageFragmentAssembler implements FragmentHandler
      * @param initialBufferLength to be used for each session.
      */
     public ImageFragmentAssembler(final FragmentHandler delegate, final int initialBufferLength)
+    {
+        this(delegate, initialBufferLength, false);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate            onto which whole messages are forwarded.
+     * @param initialBufferLength to be used for each session.
+     * @param isDirectByteBuffer  is the underlying buffer to be allocated off heap.
+     */
+    public ImageFragmentAssembler(
+        final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this.delegate = delegate;
+        this.builder = new BufferBuilder(initialBufferLength, isDirectByteBuffer);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments into a buffer provided by the caller and delegate on
+     * only whole messages. Messages longer than the capacity of the buffer will result in an
+     * {@link IllegalStateException}.
+     *
+     * @param delegate onto which whole messages are forwarded.
+     * @param buffer   into which fragmented messages are reassembled starting at index 0.
+     */
+    public ImageFragmentAssembler(final FragmentHandler delegate, final MutableDirectBuffer buffer)
     {
         this.delegate = delegate;
-        this.builder = new BufferBuilder(initialBufferLength);
+        this.builder = new BufferBuilder(buffer);
     }
 
     /**
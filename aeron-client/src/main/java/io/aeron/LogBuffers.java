@@ -17,6 +17,7 @@ package io.aeron;
 
 import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
+import org.agrona.UnsafeAccess;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.io.IOException;
@@ -35,14 +36,22 @@ import static java.nio.file.StandardOpenOption.WRITE;
  */
 public class LogBuffers implements AutoCloseable
 {
+    private static final int PAGE_SIZE = UnsafeAccess.UNSAFE.pageSize();
+
     private final int termLength;
+    private final FileChannel.MapMode mapMode;
     private final FileChannel fileChannel;
     private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
     private final UnsafeBuffer logMetaDataBuffer;
     private final MappedByteBuffer[] mappedByteBuffers;
+    private long preTouchChecksum;
+    private boolean isPreTouched;
+    private int refCount;
 
     public LogBuffers(final String logFileName, final FileChannel.MapMode mapMode)
     {
+        this.mapMode = mapMode;
+
         try
         {
             fileChannel = FileChannel.open(Paths.get(logFileName), READ, WRITE);
@@ -95,6 +104,53 @@ public class LogBuffers implements AutoCloseable
         logMetaDataBuffer.verifyAlignment();
     }
 
+    /**
+     * Pre-touch every page of the mapped log so the page faults are taken now rather than on the first send or poll.
+     * A read-write mapping has each page touched with a compare-and-set of 0 to 0, which takes the write fault without
+     * changing data other clients may already be using, while a read-only mapping has a byte read from each page.
+     * A mapping which is shared is only pre-touched once.
+     */
+    public void preTouch()
+    {
+        if (isPreTouched)
+        {
+            return;
+        }
+
+        long checksum = 0;
+
+        for (final UnsafeBuffer termBuffer : termBuffers)
+        {
+            checksum += preTouch(termBuffer);
+        }
+
+        checksum += preTouch(logMetaDataBuffer);
+        preTouchChecksum = checksum;
+        isPreTouched = true;
+    }
+
+    private long preTouch(final UnsafeBuffer buffer)
+    {
+        long checksum = 0;
+
+        if (FileChannel.MapMode.READ_WRITE == mapMode)
+        {
+            for (int i = 0, length = buffer.capacity(); i < length; i += PAGE_SIZE)
+            {
+                buffer.compareAndSetInt(i, 0, 0);
+            }
+        }
+        else
+        {
+            for (int i = 0, length = buffer.capacity(); i < length; i += PAGE_SIZE)
+            {
+                checksum += buffer.getByte(i);
+            }
+        }
+
+        return checksum;
+    }
+
     public UnsafeBuffer[] termBuffers()
     {
         return termBuffers;
@@ -124,4 +180,14 @@ public class LogBuffers implements AutoCloseable
     {
         return termLength;
     }
+
+    int incRef()
+    {
+        return ++refCount;
+    }
+
+    int decRef()
+    {
+        return --refCount;
+    }
 }
@@ -30,4 +30,14 @@ interface LogBuffersFactory
      * @return a representation of the mapped log buffer.
      */
     LogBuffers map(String logFileName, FileChannel.MapMode mapMode);
+
+    /**
+     * Release {@link LogBuffers} obtained from {@link #map(String, FileChannel.MapMode)} which are no longer in use.
+     *
+     * @param logBuffers to be released.
+     */
+    default void release(final LogBuffers logBuffers)
+    {
+        logBuffers.close();
+    }
 }
@@ -16,14 +16,63 @@
 package io.aeron;
 
 import java.nio.channels.FileChannel;
+import java.util.HashMap;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
 
 /**
- * Default mapping byteBuffer lifecycle strategy for the client
+ * Default mapping byteBuffer lifecycle strategy for the client.
+ *
+ * Read-only and read-write mappings of the same log file are shared and reference counted so that many
+ * {@link Image}s or {@link Publication}s of the same stream in a process only map the log once. The mapping is
+ * closed when the last user releases it. Private mappings are never shared.
  */
 class MappedLogBuffersFactory implements LogBuffersFactory
 {
+    private final HashMap<String, LogBuffers> readOnlyLogBuffersByFileNameMap = new HashMap<>();
+    private final HashMap<String, LogBuffers> readWriteLogBuffersByFileNameMap = new HashMap<>();
+
     public LogBuffers map(final String logFileName, final FileChannel.MapMode mapMode)
     {
-        return new LogBuffers(logFileName, mapMode);
+        final HashMap<String, LogBuffers> logBuffersByFileNameMap = sharedMappings(mapMode);
+        LogBuffers logBuffers = null != logBuffersByFileNameMap ? logBuffersByFileNameMap.get(logFileName) : null;
+
+        if (null == logBuffers)
+        {
+            logBuffers = new LogBuffers(logFileName, mapMode);
+            if (null != logBuffersByFileNameMap)
+            {
+                logBuffersByFileNameMap.put(logFileName, logBuffers);
+            }
+        }
+
+        logBuffers.incRef();
+
+        return logBuffers;
+    }
+
+    public void release(final LogBuffers logBuffers)
+    {
+        if (0 == logBuffers.decRef())
+        {
+            readOnlyLogBuffersByFileNameMap.values().remove(logBuffers);
+            readWriteLogBuffersByFileNameMap.values().remove(logBuffers);
+            logBuffers.close();
+        }
+    }
+
+    private HashMap<String, LogBuffers> sharedMappings(final FileChannel.MapMode mapMode)
+    {
+        if (READ_ONLY == mapMode)
+        {
+            return readOnlyLogBuffersByFileNameMap;
+        }
+        else if (READ_WRITE == mapMode)
+        {
+            return readWriteLogBuffersByFileNameMap;
+        }
+
+        return null;
     }
 }
@@ -21,8 +21,10 @@ import org.agrona.ManagedResource;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
 
 /**
  * Aeron Publisher API for sending messages to subscribers of a given channel and streamId pair. {@link Publication}s
@@ -368,6 +370,136 @@ public class Publication implements AutoCloseable
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a message composed of vectors of buffers which are gathered into the log without
+     * first being copied into an intermediate buffer.
+     *
+     * @param vectors which make up the message.
+     * @return The new stream position, otherwise a negative error value {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     */
+    public long offer(final DirectBufferVector[] vectors)
+    {
+        return offer(vectors, null);
+    }
+
+    /**
+     * Non-blocking publish of a message composed of vectors of buffers which are gathered into the log without
+     * first being copied into an intermediate buffer.
+     *
+     * @param vectors               which make up the message.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return The new stream position, otherwise a negative error value {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     */
+    public long offer(final DirectBufferVector[] vectors, final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int length = DirectBufferVector.validateAndComputeLength(vectors);
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final int partitionIndex = activePartitionIndex(logMetaDataBuffer);
+            final TermAppender termAppender = termAppenders[partitionIndex];
+            final long rawTail = termAppender.rawTailVolatile();
+            final long termOffset = rawTail & 0xFFFF_FFFFL;
+            final long position =
+                computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
+
+            if (position < limit)
+            {
+                final long result;
+                if (length <= maxPayloadLength)
+                {
+                    result = termAppender.appendUnfragmentedMessage(
+                        headerWriter, vectors, length, reservedValueSupplier);
+                }
+                else
+                {
+                    checkForMaxMessageLength(length);
+                    result = termAppender.appendFragmentedMessage(
+                        headerWriter, vectors, length, maxPayloadLength, reservedValueSupplier);
+                }
+
+                newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
+            }
+            else if (conductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages which are appended contiguously to the log with a single
+     * reservation of space, rather than one per message as with {@link #offer(DirectBuffer, int, int)}. Each message
+     * is framed separately so subscribers receive them as individual messages.
+     *
+     * The batch is appended in full or not at all. Each message must be no longer than {@link #maxPayloadLength()}
+     * and the batch, including frame headers and alignment, no longer than {@link #maxMessageLength()}.
+     *
+     * @param messages to be published with each vector being a separate message.
+     * @return The new stream position after the last message in the batch, otherwise a negative error value
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     */
+    public long offerBatch(final DirectBufferVector[] messages)
+    {
+        return offerBatch(messages, null);
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages which are appended contiguously to the log with a single
+     * reservation of space, rather than one per message as with {@link #offer(DirectBuffer, int, int)}. Each message
+     * is framed separately so subscribers receive them as individual messages.
+     *
+     * The batch is appended in full or not at all. Each message must be no longer than {@link #maxPayloadLength()}
+     * and the batch, including frame headers and alignment, no longer than {@link #maxMessageLength()}.
+     *
+     * @param messages              to be published with each vector being a separate message.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position after the last message in the batch, otherwise a negative error value
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     */
+    public long offerBatch(final DirectBufferVector[] messages, final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int batchLength = computeBatchLength(messages);
+        long newPosition = CLOSED;
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final int partitionIndex = activePartitionIndex(logMetaDataBuffer);
+            final TermAppender termAppender = termAppenders[partitionIndex];
+            final long rawTail = termAppender.rawTailVolatile();
+            final long termOffset = rawTail & 0xFFFF_FFFFL;
+            final long position =
+                computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
+
+            if (position < limit)
+            {
+                final long result = termAppender.appendUnfragmentedBatch(
+                    headerWriter, messages, batchLength, reservedValueSupplier);
+
+                newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
+            }
+            else if (conductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it available.
@@ -434,6 +566,77 @@ public class Publication implements AutoCloseable
         return newPosition;
     }
 
+    /**
+     * Try to claim a range in the publication log into which a message, which may be larger than
+     * {@link #maxPayloadLength()}, can be written with zero copy semantics. The message is split into fragments which
+     * are filled in turn by moving through them with {@link FragmentedBufferClaim#nextFragment()}. Once the message
+     * has been written then {@link FragmentedBufferClaim#commit()} should be called thus making it available.
+     *
+     * <pre>{@code
+     *     final FragmentedBufferClaim bufferClaim = new FragmentedBufferClaim();
+     *
+     *     if (publication.tryClaim(messageLength, bufferClaim) > 0L)
+     *     {
+     *         try
+     *         {
+     *             do
+     *             {
+     *                 final MutableDirectBuffer buffer = bufferClaim.buffer();
+     *                 final int offset = bufferClaim.offset();
+     *                 final int length = bufferClaim.length();
+     *
+     *                 // Work with buffer directly or wrap with a flyweight
+     *             }
+     *             while (bufferClaim.nextFragment());
+     *         }
+     *         finally
+     *         {
+     *             bufferClaim.commit();
+     *         }
+     *     }
+     * }</pre>
+     *
+     * @param length      of the range to claim, in bytes, up to {@link #maxMessageLength()}.
+     * @param bufferClaim to be populated if the claim succeeds.
+     * @return The new stream position, otherwise {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED},
+     * {@link #ADMIN_ACTION}, or {@link #CLOSED}.
+     * @throws IllegalArgumentException if the length is greater than {@link #maxMessageLength()}.
+     * @see FragmentedBufferClaim#commit()
+     * @see FragmentedBufferClaim#abort()
+     */
+    public long tryClaim(final int length, final FragmentedBufferClaim bufferClaim)
+    {
+        checkForMaxMessageLength(length);
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final int partitionIndex = activePartitionIndex(logMetaDataBuffer);
+            final TermAppender termAppender = termAppenders[partitionIndex];
+            final long rawTail = termAppender.rawTailVolatile();
+            final long termOffset = rawTail & 0xFFFF_FFFFL;
+            final long position =
+                computeTermBeginPosition(termId(rawTail), positionBitsToShift, initialTermId) + termOffset;
+
+            if (position < limit)
+            {
+                final long result = termAppender.claim(headerWriter, length, maxPayloadLength, bufferClaim);
+                newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
+            }
+            else if (conductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
+            {
+                newPosition = BACK_PRESSURED;
+            }
+            else
+            {
+                newPosition = NOT_CONNECTED;
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Add a destination manually to a multi-destination-cast Publication.
      *
@@ -478,6 +681,11 @@ public class Publication implements AutoCloseable
         ++refCount;
     }
 
+    int decRef()
+    {
+        return --refCount;
+    }
+
     private long newPosition(final int index, final int currentTail, final long position, final long result)
     {
         long newPosition = ADMIN_ACTION;
@@ -514,6 +722,34 @@ public class Publication implements AutoCloseable
         }
     }
 
+    private int computeBatchLength(final DirectBufferVector[] messages)
+    {
+        if (0 == messages.length)
+        {
+            throw new IllegalArgumentException("Batch must contain at least one message");
+        }
+
+        int batchLength = 0;
+        for (final DirectBufferVector message : messages)
+        {
+            final int length = message.validate().length();
+            if (length > maxPayloadLength)
+            {
+                throw new IllegalArgumentException(
+                    "Batch message exceeds maxPayloadLength of " + maxPayloadLength + ", length=" + length);
+            }
+
+            batchLength += align(length + HEADER_LENGTH, FRAME_ALIGNMENT);
+            if (batchLength > maxMessageLength)
+            {
+                throw new IllegalArgumentException(
+                    "Batch exceeds maxMessageLength of " + maxMessageLength + ", messages=" + messages.length);
+            }
+        }
+
+        return batchLength;
+    }
+
     ManagedResource managedResource()
     {
         return new PublicationManagedResource();
@@ -535,7 +771,7 @@ public class Publication implements AutoCloseable
 
         public void delete()
         {
-            logBuffers.close();
+            conductor.releaseLogBuffers(logBuffers);
         }
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntHashSet;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+
+/**
+ * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern and delivers messages to a
+ * {@link StreamingFragmentHandler} as begin, chunk, and end callbacks per session rather than reassembling them.
+ *
+ * Nothing is copied or buffered so very large messages can be consumed in constant memory and at the rate they
+ * arrive without holding back the {@link Image}.
+ *
+ * Fragments which arrive for a session without the beginning of their message, such as when joining a stream part
+ * way through a message, are dropped until the next message begins.
+ *
+ * @see Subscription#poll(FragmentHandler, int)
+ * @see Image#poll(FragmentHandler, int)
+ */
+public class StreamingFragmentAdapter implements FragmentHandler
+{
+    private final StreamingFragmentHandler delegate;
+    private final IntHashSet sessionsInMessage = new IntHashSet();
+
+    /**
+     * Construct an adapter to stream message fragments to a {@link StreamingFragmentHandler}.
+     *
+     * @param delegate onto which messages are streamed.
+     */
+    public StreamingFragmentAdapter(final StreamingFragmentHandler delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Get the delegate unto which messages are streamed.
+     *
+     * @return the delegate unto which messages are streamed.
+     */
+    public StreamingFragmentHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that streams fragments to the delegate.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            delegate.onBegin(header);
+            delegate.onChunk(buffer, offset, length, header);
+            delegate.onEnd(header);
+        }
+        else if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            sessionsInMessage.add(header.sessionId());
+            delegate.onBegin(header);
+            delegate.onChunk(buffer, offset, length, header);
+        }
+        else if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+        {
+            if (sessionsInMessage.remove(header.sessionId()))
+            {
+                delegate.onChunk(buffer, offset, length, header);
+                delegate.onEnd(header);
+            }
+        }
+        else if (sessionsInMessage.contains(header.sessionId()))
+        {
+            delegate.onChunk(buffer, offset, length, header);
+        }
+    }
+
+    /**
+     * Forget any message in progress for a session, e.g. when its {@link Image} goes unavailable.
+     *
+     * @param sessionId for which the message in progress should be forgotten.
+     * @return true if a message was in progress for the session otherwise false.
+     */
+    public boolean freeSession(final int sessionId)
+    {
+        return sessionsInMessage.remove(sessionId);
+    }
+
+    /**
+     * Forget any messages in progress for all sessions.
+     */
+    public void clear()
+    {
+        sessionsInMessage.clear();
+    }
+}
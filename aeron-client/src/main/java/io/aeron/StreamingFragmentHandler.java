@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+
+/**
+ * Callback interface for streaming messages fragment by fragment without reassembly so that messages of any length
+ * can be consumed in constant memory, e.g. written to disk or fed to an incremental parser.
+ *
+ * Each message is delivered as {@link #onBegin(Header)}, then {@link #onChunk(DirectBuffer, int, int, Header)} for
+ * each fragment in order, then {@link #onEnd(Header)}. Messages from different sessions may be interleaved so
+ * {@link Header#sessionId()} should be used to keep state per session.
+ *
+ * @see StreamingFragmentAdapter
+ */
+@FunctionalInterface
+public interface StreamingFragmentHandler
+{
+    /**
+     * Notification that a new message has begun for the session in the header.
+     *
+     * @param header representing the meta data for the first fragment of the message.
+     */
+    default void onBegin(final Header header)
+    {
+    }
+
+    /**
+     * Callback for a chunk of the message in sequence. The buffer is only valid for the duration of the callback.
+     *
+     * @param buffer containing the chunk.
+     * @param offset at which the chunk begins.
+     * @param length of the chunk in bytes.
+     * @param header representing the meta data for the fragment.
+     */
+    void onChunk(DirectBuffer buffer, int offset, int length, Header header);
+
+    /**
+     * Notification that the message has ended for the session in the header.
+     *
+     * @param header representing the meta data for the last fragment of the message.
+     */
+    default void onEnd(final Header header)
+    {
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aeron.logbuffer;
 
+import io.aeron.DirectBufferVector;
 import io.aeron.ReservedValueSupplier;
 import org.agrona.DirectBuffer;
 import org.agrona.UnsafeAccess;
@@ -135,6 +136,47 @@ public class ExclusiveTermAppender
         return resultingOffset;
     }
 
+    /**
+     * Claim length of a the term buffer for writing in a message, which may be larger than the max payload length,
+     * with zero copy semantics. The headers for all fragments are written and the frames are left uncommitted.
+     *
+     * @param termId           for the current term.
+     * @param termOffset       in the term at which to append.
+     * @param header           for writing the default header.
+     * @param length           of the message to be written.
+     * @param maxPayloadLength that the message will be fragmented into.
+     * @param bufferClaim      to be updated with the claimed region.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED}.
+     */
+    public int claim(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final int length,
+        final int maxPayloadLength,
+        final FragmentedBufferClaim bufferClaim)
+    {
+        final int requiredLength = computeFragmentedFrameLength(length, maxPayloadLength);
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        putRawTailOrdered(termId, termOffset + requiredLength);
+
+        int resultingOffset = termOffset + requiredLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            writeFragmentHeaders(termBuffer, termOffset, header, length, maxPayloadLength, termId);
+            bufferClaim.wrap(termBuffer, termOffset, requiredLength, length, maxPayloadLength);
+        }
+
+        return resultingOffset;
+    }
+
     /**
      * Append an unfragmented message to the the term buffer.
      *
@@ -268,6 +310,211 @@ public class ExclusiveTermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append an unfragmented message to the the term buffer as a gathering of vectors.
+     *
+     * @param termId                for the current term.
+     * @param termOffset            in the term at which to append.
+     * @param header                for writing the default header.
+     * @param vectors               to the buffers.
+     * @param length                of the message as a sum of the vectors.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED}.
+     */
+    public int appendUnfragmentedMessage(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBufferVector[] vectors,
+        final int length,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int frameLength = length + HEADER_LENGTH;
+        final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        putRawTailOrdered(termId, termOffset + alignedLength);
+
+        int resultingOffset = termOffset + alignedLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            header.write(termBuffer, termOffset, frameLength, termId);
+            putVectors(termBuffer, termOffset + HEADER_LENGTH, vectors);
+
+            if (null != reservedValueSupplier)
+            {
+                final long reservedValue = reservedValueSupplier.get(termBuffer, termOffset, frameLength);
+                termBuffer.putLong(termOffset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+            }
+
+            frameLengthOrdered(termBuffer, termOffset, frameLength);
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a fragmented message to the the term buffer as a gathering of vectors.
+     * The message will be split up into fragments of MTU length minus header.
+     *
+     * @param termId                for the current term.
+     * @param termOffset            in the term at which to append.
+     * @param header                for writing the default header.
+     * @param vectors               to the buffers.
+     * @param length                of the message as a sum of the vectors.
+     * @param maxPayloadLength      that the message will be fragmented into.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED}.
+     */
+    public int appendFragmentedMessage(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBufferVector[] vectors,
+        final int length,
+        final int maxPayloadLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int numMaxPayloads = length / maxPayloadLength;
+        final int remainingPayload = length % maxPayloadLength;
+        final int lastFrameLength = remainingPayload > 0 ? align(remainingPayload + HEADER_LENGTH, FRAME_ALIGNMENT) : 0;
+        final int requiredLength = (numMaxPayloads * (maxPayloadLength + HEADER_LENGTH)) + lastFrameLength;
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        putRawTailOrdered(termId, termOffset + requiredLength);
+
+        int resultingOffset = termOffset + requiredLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int offset = termOffset;
+            byte flags = BEGIN_FRAG_FLAG;
+            int remaining = length;
+            int vectorIndex = 0;
+            int vectorOffset = 0;
+
+            do
+            {
+                final int bytesToWrite = Math.min(remaining, maxPayloadLength);
+                final int frameLength = bytesToWrite + HEADER_LENGTH;
+                final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+
+                header.write(termBuffer, offset, frameLength, termId);
+
+                int bytesWritten = 0;
+                int payloadOffset = offset + HEADER_LENGTH;
+                do
+                {
+                    final DirectBufferVector vector = vectors[vectorIndex];
+                    final int vectorRemaining = vector.length() - vectorOffset;
+                    final int numBytes = Math.min(bytesToWrite - bytesWritten, vectorRemaining);
+
+                    termBuffer.putBytes(payloadOffset, vector.buffer(), vector.offset() + vectorOffset, numBytes);
+
+                    bytesWritten += numBytes;
+                    payloadOffset += numBytes;
+                    vectorOffset += numBytes;
+
+                    if (vectorRemaining <= numBytes)
+                    {
+                        vectorIndex++;
+                        vectorOffset = 0;
+                    }
+                }
+                while (bytesWritten < bytesToWrite);
+
+                if (remaining <= maxPayloadLength)
+                {
+                    flags |= END_FRAG_FLAG;
+                }
+
+                frameFlags(termBuffer, offset, flags);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                    termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, offset, frameLength);
+
+                flags = 0;
+                offset += alignedLength;
+                remaining -= bytesToWrite;
+            }
+            while (remaining > 0);
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a batch of unfragmented messages to the the term buffer by reserving the space for all of them with a
+     * single increment of the tail. Each message is framed separately and made visible in order.
+     *
+     * @param termId                for the current term.
+     * @param termOffset            in the term at which to append.
+     * @param header                for writing the default header.
+     * @param messages              each of which is a single unfragmented message.
+     * @param batchLength           of the batch which is the sum of the aligned frame lengths for the messages.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frames.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED}.
+     */
+    public int appendUnfragmentedBatch(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        putRawTailOrdered(termId, termOffset + batchLength);
+
+        int resultingOffset = termOffset + batchLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int offset = termOffset;
+            for (final DirectBufferVector message : messages)
+            {
+                final int frameLength = message.length() + HEADER_LENGTH;
+
+                header.write(termBuffer, offset, frameLength, termId);
+                termBuffer.putBytes(offset + HEADER_LENGTH, message.buffer(), message.offset(), message.length());
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                    termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, offset, frameLength);
+
+                offset += align(frameLength, FRAME_ALIGNMENT);
+            }
+        }
+
+        return resultingOffset;
+    }
+
     private int handleEndOfLogCondition(
         final UnsafeBuffer termBuffer,
         final long termOffset,
@@ -291,4 +538,53 @@ public class ExclusiveTermAppender
     {
         UnsafeAccess.UNSAFE.putOrderedLong(tailBuffer, tailAddressOffset, packTail(termId, termOffset));
     }
+
+    private static void putVectors(
+        final UnsafeBuffer termBuffer, final int termOffset, final DirectBufferVector[] vectors)
+    {
+        int offset = termOffset;
+        for (final DirectBufferVector vector : vectors)
+        {
+            termBuffer.putBytes(offset, vector.buffer(), vector.offset(), vector.length());
+            offset += vector.length();
+        }
+    }
+
+    private static void writeFragmentHeaders(
+        final UnsafeBuffer termBuffer,
+        final int termOffset,
+        final HeaderWriter header,
+        final int length,
+        final int maxPayloadLength,
+        final int termId)
+    {
+        if (length <= maxPayloadLength)
+        {
+            header.write(termBuffer, termOffset, length + HEADER_LENGTH, termId);
+        }
+        else
+        {
+            int offset = termOffset;
+            byte flags = BEGIN_FRAG_FLAG;
+            int remaining = length;
+            do
+            {
+                final int payloadLength = Math.min(remaining, maxPayloadLength);
+
+                header.write(termBuffer, offset, payloadLength + HEADER_LENGTH, termId);
+
+                if (remaining <= maxPayloadLength)
+                {
+                    flags |= END_FRAG_FLAG;
+                }
+
+                frameFlags(termBuffer, offset, flags);
+
+                flags = 0;
+                offset += payloadLength + HEADER_LENGTH;
+                remaining -= payloadLength;
+            }
+            while (remaining > 0);
+        }
+    }
 }
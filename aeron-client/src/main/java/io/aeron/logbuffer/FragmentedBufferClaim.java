@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteOrder;
+
+import static io.aeron.logbuffer.FrameDescriptor.PADDING_FRAME_TYPE;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthOrdered;
+import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Represents a claimed range in a buffer for recording a message, which may be larger than the max payload length,
+ * without copy semantics for later commit. The message is split into fragments which are filled in turn.
+ *
+ * The current fragment is in {@link #buffer()} between {@link #offset()} and {@link #offset()} + {@link #length()}.
+ * Once it has been filled, {@link #nextFragment()} moves to the next one. When all fragments are filled, use
+ * {@link #commit()} to make the whole message available to subscribers.
+ *
+ * <pre>{@code
+ *     final FragmentedBufferClaim bufferClaim = new FragmentedBufferClaim();
+ *
+ *     if (publication.tryClaim(messageLength, bufferClaim) > 0L)
+ *     {
+ *         do
+ *         {
+ *             final MutableDirectBuffer buffer = bufferClaim.buffer();
+ *             // encode up to bufferClaim.length() bytes into the buffer from bufferClaim.offset()
+ *         }
+ *         while (bufferClaim.nextFragment());
+ *
+ *         bufferClaim.commit();
+ *     }
+ * }</pre>
+ *
+ * If the claimed space is no longer required it can be aborted by calling {@link #abort()}.
+ *
+ * @see io.aeron.Publication#tryClaim(int, FragmentedBufferClaim)
+ * @see io.aeron.ExclusivePublication#tryClaim(int, FragmentedBufferClaim)
+ */
+public class FragmentedBufferClaim
+{
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer fragmentBuffer = new UnsafeBuffer(0, 0);
+    private int messageLength;
+    private int maxPayloadLength;
+    private int fragmentCount;
+    private int fragmentIndex;
+
+    /**
+     * Wrap a region of an underlying log buffer, in which the headers for the fragments have been written, so it can
+     * represent a claimed space for use by a publisher.
+     *
+     * @param buffer           to be wrapped.
+     * @param offset           at which the claimed region begins including space for the first header.
+     * @param length           of the underlying claimed region including the space for all headers.
+     * @param messageLength    of the message payload to be spread over the fragments.
+     * @param maxPayloadLength of each fragment.
+     */
+    public void wrap(
+        final AtomicBuffer buffer,
+        final int offset,
+        final int length,
+        final int messageLength,
+        final int maxPayloadLength)
+    {
+        termBuffer.wrap(buffer, offset, length);
+        this.messageLength = messageLength;
+        this.maxPayloadLength = maxPayloadLength;
+        fragmentCount = computeFragmentCount(messageLength, maxPayloadLength);
+        fragmentIndex = 0;
+
+        wrapFragment();
+    }
+
+    /**
+     * The number of fragments the message has been split into.
+     *
+     * @return the number of fragments the message has been split into.
+     */
+    public int fragmentCount()
+    {
+        return fragmentCount;
+    }
+
+    /**
+     * The index of the current fragment starting from zero.
+     *
+     * @return the index of the current fragment starting from zero.
+     */
+    public int fragmentIndex()
+    {
+        return fragmentIndex;
+    }
+
+    /**
+     * Move to the next fragment for filling.
+     *
+     * @return true if moved to the next fragment or false if the current fragment is the last.
+     */
+    public boolean nextFragment()
+    {
+        if (fragmentIndex + 1 < fragmentCount)
+        {
+            fragmentIndex++;
+            wrapFragment();
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * The referenced buffer for the current fragment.
+     *
+     * @return the referenced buffer for the current fragment.
+     */
+    public MutableDirectBuffer buffer()
+    {
+        return fragmentBuffer;
+    }
+
+    /**
+     * The offset in the buffer at which the current fragment begins.
+     *
+     * @return offset in the buffer at which the current fragment begins.
+     */
+    public int offset()
+    {
+        return HEADER_LENGTH;
+    }
+
+    /**
+     * The length of the current fragment in the buffer.
+     *
+     * @return length of the current fragment in the buffer.
+     */
+    public int length()
+    {
+        return fragmentBuffer.capacity() - HEADER_LENGTH;
+    }
+
+    /**
+     * Write the provided value into the reserved space at the end of the data frame header of the current fragment.
+     *
+     * Note: The value will be written in {@link ByteOrder#LITTLE_ENDIAN} format.
+     *
+     * @param value to be stored in the reserve space at the end of a data frame header.
+     * @return this for fluent API semantics.
+     * @see DataHeaderFlyweight
+     */
+    public FragmentedBufferClaim reservedValue(final long value)
+    {
+        fragmentBuffer.putLong(RESERVED_VALUE_OFFSET, value, LITTLE_ENDIAN);
+        return this;
+    }
+
+    /**
+     * Commit the message to the log buffer so that is it available to subscribers.
+     *
+     * Fragments are committed from last to first so the message becomes visible to subscribers as a whole.
+     */
+    public void commit()
+    {
+        for (int i = fragmentCount - 1; i >= 0; i--)
+        {
+            frameLengthOrdered(termBuffer, frameOffset(i), fragmentLength(i) + HEADER_LENGTH);
+        }
+    }
+
+    /**
+     * Abort a claim of the message space to the log buffer so that the log can progress by ignoring this claim.
+     */
+    public void abort()
+    {
+        for (int i = fragmentCount - 1; i >= 0; i--)
+        {
+            final int frameOffset = frameOffset(i);
+            frameType(termBuffer, frameOffset, PADDING_FRAME_TYPE);
+            frameLengthOrdered(termBuffer, frameOffset, fragmentLength(i) + HEADER_LENGTH);
+        }
+    }
+
+    /**
+     * Compute the number of fragments a message will be split into. A zero length message takes a single fragment.
+     *
+     * @param messageLength    of the message payload.
+     * @param maxPayloadLength of each fragment.
+     * @return the number of fragments a message will be split into.
+     */
+    public static int computeFragmentCount(final int messageLength, final int maxPayloadLength)
+    {
+        return Math.max(1, (messageLength + maxPayloadLength - 1) / maxPayloadLength);
+    }
+
+    private void wrapFragment()
+    {
+        fragmentBuffer.wrap(termBuffer, frameOffset(fragmentIndex), fragmentLength(fragmentIndex) + HEADER_LENGTH);
+    }
+
+    private int frameOffset(final int index)
+    {
+        return index * (maxPayloadLength + HEADER_LENGTH);
+    }
+
+    private int fragmentLength(final int index)
+    {
+        return Math.min(maxPayloadLength, messageLength - (index * maxPayloadLength));
+    }
+}
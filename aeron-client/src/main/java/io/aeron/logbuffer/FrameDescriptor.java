@@ -21,7 +21,9 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 import java.nio.ByteOrder;
 
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.align;
 
 /**
  * Description of the structure for message framing in a log buffer.
@@ -124,6 +126,24 @@ public class FrameDescriptor
         return capacity / 4;
     }
 
+    /**
+     * Compute the length of the log buffer space taken by a message once split into fragments, including the headers
+     * and alignment of each frame. A zero length message still takes a header frame.
+     *
+     * @param length           of the message payload.
+     * @param maxPayloadLength of each fragment.
+     * @return the length of the log buffer space taken by all the fragments of the message.
+     */
+    public static int computeFragmentedFrameLength(final int length, final int maxPayloadLength)
+    {
+        final int numMaxPayloads = length / maxPayloadLength;
+        final int remainingPayload = length % maxPayloadLength;
+        final int lastFrameLength = (remainingPayload > 0 || 0 == length) ?
+            align(remainingPayload + HEADER_LENGTH, FRAME_ALIGNMENT) : 0;
+
+        return (numMaxPayloads * (maxPayloadLength + HEADER_LENGTH)) + lastFrameLength;
+    }
+
     /**
      * The buffer offset at which the length field begins.
      *
@@ -438,18 +438,22 @@ public class LogBufferDescriptor
      */
     public static long computeLogLength(final int termLength)
     {
-        return (termLength * PARTITION_COUNT) + LOG_META_DATA_LENGTH;
+        return (termLength * (long)PARTITION_COUNT) + LOG_META_DATA_LENGTH;
     }
 
     /**
      * Compute the term length based on the total length of the log.
      *
+     * The log may be padded between the terms and the meta data, at its end, to a multiple of the file system page
+     * length such as when on huge pages. Term lengths are a multiple of that page length so the padding is less than
+     * a term and the term length is the largest power of two which fits.
+     *
      * @param logLength the total length of the log.
      * @return length of an individual term buffer in the log.
      */
     public static int computeTermLength(final long logLength)
     {
-        return (int)((logLength - LOG_META_DATA_LENGTH) / PARTITION_COUNT);
+        return Integer.highestOneBit((int)((logLength - LOG_META_DATA_LENGTH) / PARTITION_COUNT));
     }
 
     /**
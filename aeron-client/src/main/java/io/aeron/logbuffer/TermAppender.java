@@ -15,6 +15,7 @@
  */
 package io.aeron.logbuffer;
 
+import io.aeron.DirectBufferVector;
 import io.aeron.ReservedValueSupplier;
 import org.agrona.DirectBuffer;
 import org.agrona.UnsafeAccess;
@@ -24,6 +25,7 @@ import static io.aeron.logbuffer.FrameDescriptor.BEGIN_FRAG_FLAG;
 import static io.aeron.logbuffer.FrameDescriptor.END_FRAG_FLAG;
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.FrameDescriptor.PADDING_FRAME_TYPE;
+import static io.aeron.logbuffer.FrameDescriptor.computeFragmentedFrameLength;
 import static io.aeron.logbuffer.FrameDescriptor.frameFlags;
 import static io.aeron.logbuffer.FrameDescriptor.frameLengthOrdered;
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
@@ -133,6 +135,46 @@ public class TermAppender
         return resultingOffset;
     }
 
+    /**
+     * Claim length of a the term buffer for writing in a message, which may be larger than the max payload length,
+     * with zero copy semantics. The headers for all fragments are written and the frames are left uncommitted.
+     *
+     * @param header           for writing the default header.
+     * @param length           of the message to be written.
+     * @param maxPayloadLength that the message will be fragmented into.
+     * @param bufferClaim      to be updated with the claimed region.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED}
+     * or {@link #FAILED} packed with the termId if a padding record was inserted at the end.
+     */
+    public long claim(
+        final HeaderWriter header,
+        final int length,
+        final int maxPayloadLength,
+        final FragmentedBufferClaim bufferClaim)
+    {
+        final int requiredLength = computeFragmentedFrameLength(length, maxPayloadLength);
+        final long rawTail = getAndAddRawTail(requiredLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + requiredLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            final int offset = (int)termOffset;
+            writeFragmentHeaders(termBuffer, offset, header, length, maxPayloadLength, termId);
+            bufferClaim.wrap(termBuffer, offset, requiredLength, length, maxPayloadLength);
+        }
+
+        return resultingOffset;
+    }
+
     /**
      * Append an unfragmented message to the the term buffer.
      *
@@ -262,6 +304,204 @@ public class TermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append an unfragmented message to the the term buffer as a gathering of vectors.
+     *
+     * @param header                for writing the default header.
+     * @param vectors               to the buffers.
+     * @param length                of the message as a sum of the vectors.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED} packed with the termId if a padding record was inserted at the end.
+     */
+    public long appendUnfragmentedMessage(
+        final HeaderWriter header,
+        final DirectBufferVector[] vectors,
+        final int length,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int frameLength = length + HEADER_LENGTH;
+        final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+        final long rawTail = getAndAddRawTail(alignedLength);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + alignedLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId(rawTail));
+        }
+        else
+        {
+            final int offset = (int)termOffset;
+            header.write(termBuffer, offset, frameLength, termId(rawTail));
+            putVectors(termBuffer, offset + HEADER_LENGTH, vectors);
+
+            if (null != reservedValueSupplier)
+            {
+                final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+            }
+
+            frameLengthOrdered(termBuffer, offset, frameLength);
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a fragmented message to the the term buffer as a gathering of vectors.
+     * The message will be split up into fragments of MTU length minus header.
+     *
+     * @param header                for writing the default header.
+     * @param vectors               to the buffers.
+     * @param length                of the message as a sum of the vectors.
+     * @param maxPayloadLength      that the message will be fragmented into.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED} packed with the termId if a padding record was inserted at the end.
+     */
+    public long appendFragmentedMessage(
+        final HeaderWriter header,
+        final DirectBufferVector[] vectors,
+        final int length,
+        final int maxPayloadLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int numMaxPayloads = length / maxPayloadLength;
+        final int remainingPayload = length % maxPayloadLength;
+        final int lastFrameLength = remainingPayload > 0 ? align(remainingPayload + HEADER_LENGTH, FRAME_ALIGNMENT) : 0;
+        final int requiredLength = (numMaxPayloads * (maxPayloadLength + HEADER_LENGTH)) + lastFrameLength;
+        final long rawTail = getAndAddRawTail(requiredLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + requiredLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int offset = (int)termOffset;
+            byte flags = BEGIN_FRAG_FLAG;
+            int remaining = length;
+            int vectorIndex = 0;
+            int vectorOffset = 0;
+
+            do
+            {
+                final int bytesToWrite = Math.min(remaining, maxPayloadLength);
+                final int frameLength = bytesToWrite + HEADER_LENGTH;
+                final int alignedLength = align(frameLength, FRAME_ALIGNMENT);
+
+                header.write(termBuffer, offset, frameLength, termId);
+
+                int bytesWritten = 0;
+                int payloadOffset = offset + HEADER_LENGTH;
+                do
+                {
+                    final DirectBufferVector vector = vectors[vectorIndex];
+                    final int vectorRemaining = vector.length() - vectorOffset;
+                    final int numBytes = Math.min(bytesToWrite - bytesWritten, vectorRemaining);
+
+                    termBuffer.putBytes(payloadOffset, vector.buffer(), vector.offset() + vectorOffset, numBytes);
+
+                    bytesWritten += numBytes;
+                    payloadOffset += numBytes;
+                    vectorOffset += numBytes;
+
+                    if (vectorRemaining <= numBytes)
+                    {
+                        vectorIndex++;
+                        vectorOffset = 0;
+                    }
+                }
+                while (bytesWritten < bytesToWrite);
+
+                if (remaining <= maxPayloadLength)
+                {
+                    flags |= END_FRAG_FLAG;
+                }
+
+                frameFlags(termBuffer, offset, flags);
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                    termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, offset, frameLength);
+
+                flags = 0;
+                offset += alignedLength;
+                remaining -= bytesToWrite;
+            }
+            while (remaining > 0);
+        }
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a batch of unfragmented messages to the the term buffer by reserving the space for all of them with a
+     * single increment of the tail. Each message is framed separately and made visible in order.
+     *
+     * @param header                for writing the default header.
+     * @param messages              each of which is a single unfragmented message.
+     * @param batchLength           of the batch which is the sum of the aligned frame lengths for the messages.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for the frames.
+     * @return the resulting offset of the term after the append on success otherwise {@link #TRIPPED} or
+     * {@link #FAILED} packed with the termId if a padding record was inserted at the end.
+     */
+    public long appendUnfragmentedBatch(
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final long rawTail = getAndAddRawTail(batchLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        long resultingOffset = termOffset + batchLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            int offset = (int)termOffset;
+            for (final DirectBufferVector message : messages)
+            {
+                final int frameLength = message.length() + HEADER_LENGTH;
+
+                header.write(termBuffer, offset, frameLength, termId);
+                termBuffer.putBytes(offset + HEADER_LENGTH, message.buffer(), message.offset(), message.length());
+
+                if (null != reservedValueSupplier)
+                {
+                    final long reservedValue = reservedValueSupplier.get(termBuffer, offset, frameLength);
+                    termBuffer.putLong(offset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+                }
+
+                frameLengthOrdered(termBuffer, offset, frameLength);
+
+                offset += align(frameLength, FRAME_ALIGNMENT);
+            }
+        }
+
+        return resultingOffset;
+    }
 
     /**
      * Pack the values for termOffset and termId into a long for returning on the stack.
@@ -327,4 +567,53 @@ public class TermAppender
     {
         return UnsafeAccess.UNSAFE.getAndAddLong(tailBuffer, tailAddressOffset, alignedLength);
     }
+
+    private static void putVectors(
+        final UnsafeBuffer termBuffer, final int termOffset, final DirectBufferVector[] vectors)
+    {
+        int offset = termOffset;
+        for (final DirectBufferVector vector : vectors)
+        {
+            termBuffer.putBytes(offset, vector.buffer(), vector.offset(), vector.length());
+            offset += vector.length();
+        }
+    }
+
+    private static void writeFragmentHeaders(
+        final UnsafeBuffer termBuffer,
+        final int termOffset,
+        final HeaderWriter header,
+        final int length,
+        final int maxPayloadLength,
+        final int termId)
+    {
+        if (length <= maxPayloadLength)
+        {
+            header.write(termBuffer, termOffset, length + HEADER_LENGTH, termId);
+        }
+        else
+        {
+            int offset = termOffset;
+            byte flags = BEGIN_FRAG_FLAG;
+            int remaining = length;
+            do
+            {
+                final int payloadLength = Math.min(remaining, maxPayloadLength);
+
+                header.write(termBuffer, offset, payloadLength + HEADER_LENGTH, termId);
+
+                if (remaining <= maxPayloadLength)
+                {
+                    flags |= END_FRAG_FLAG;
+                }
+
+                frameFlags(termBuffer, offset, flags);
+
+                flags = 0;
+                offset += payloadLength + HEADER_LENGTH;
+                remaining -= payloadLength;
+            }
+            while (remaining > 0);
+        }
+    }
 }
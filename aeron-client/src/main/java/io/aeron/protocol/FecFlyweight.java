@@ -0,0 +1,268 @@
+/*
+ * Copyright 2014-2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Flyweight for a Forward Error Correction (FEC) parity frame.
+ * <p>
+ * A parity frame covers a group of datagrams previously sent for a term. It lists the term offset and length of
+ * each datagram in the group followed by the XOR of their contents, so a receiver missing exactly one datagram of
+ * the group can rebuild it without waiting for a retransmit.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +---------------------------------------------------------------+
+ *  |                         Frame Length                          |
+ *  +---------------+---------------+-------------------------------+
+ *  |    Version    |     Flags     |            Type               |
+ *  +---------------+---------------+-------------------------------+
+ *  |                          Session ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                            Term ID                            |
+ *  +---------------------------------------------------------------+
+ *  |                        Datagram Count                         |
+ *  +---------------------------------------------------------------+
+ *  |                         Parity Length                         |
+ *  +---------------------------------------------------------------+
+ *  |                           Reserved                            |
+ *  +---------------------------------------------------------------+
+ *  |                    Term Offset (per datagram)                 |
+ *  +---------------------------------------------------------------+
+ *  |                      Length (per datagram)                    |
+ *  +---------------------------------------------------------------+
+ *  |                          Parity Data                         ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ */
+public class FecFlyweight extends HeaderFlyweight
+{
+    public static final int HEADER_LENGTH = 32;
+    public static final int ENTRY_LENGTH = 8;
+
+    private static final int SESSION_ID_FIELD_OFFSET = 8;
+    private static final int STREAM_ID_FIELD_OFFSET = 12;
+    private static final int TERM_ID_FIELD_OFFSET = 16;
+    private static final int DATAGRAM_COUNT_FIELD_OFFSET = 20;
+    private static final int PARITY_LENGTH_FIELD_OFFSET = 24;
+
+    public FecFlyweight()
+    {
+    }
+
+    public FecFlyweight(final ByteBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    public FecFlyweight(final UnsafeBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * The length of the header and entries which precede the parity data for a given number of datagrams.
+     *
+     * @param datagramCount covered by the parity frame.
+     * @return the offset at which the parity data begins.
+     */
+    public static int parityOffset(final int datagramCount)
+    {
+        return HEADER_LENGTH + (datagramCount * ENTRY_LENGTH);
+    }
+
+    /**
+     * return session id field
+     *
+     * @return session id field
+     */
+    public int sessionId()
+    {
+        return getInt(SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set session id field
+     *
+     * @param sessionId field value
+     * @return flyweight
+     */
+    public FecFlyweight sessionId(final int sessionId)
+    {
+        putInt(SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return stream id field
+     *
+     * @return stream id field
+     */
+    public int streamId()
+    {
+        return getInt(STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set stream id field
+     *
+     * @param streamId field value
+     * @return flyweight
+     */
+    public FecFlyweight streamId(final int streamId)
+    {
+        putInt(STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return term id field
+     *
+     * @return term id field
+     */
+    public int termId()
+    {
+        return getInt(TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set term id field
+     *
+     * @param termId field value
+     * @return flyweight
+     */
+    public FecFlyweight termId(final int termId)
+    {
+        putInt(TERM_ID_FIELD_OFFSET, termId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return number of datagrams covered by the parity
+     *
+     * @return number of datagrams covered by the parity
+     */
+    public int datagramCount()
+    {
+        return getInt(DATAGRAM_COUNT_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set number of datagrams covered by the parity
+     *
+     * @param datagramCount field value
+     * @return flyweight
+     */
+    public FecFlyweight datagramCount(final int datagramCount)
+    {
+        putInt(DATAGRAM_COUNT_FIELD_OFFSET, datagramCount, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return length of the parity data which is the length of the longest datagram covered
+     *
+     * @return length of the parity data
+     */
+    public int parityLength()
+    {
+        return getInt(PARITY_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set length of the parity data
+     *
+     * @param parityLength field value
+     * @return flyweight
+     */
+    public FecFlyweight parityLength(final int parityLength)
+    {
+        putInt(PARITY_LENGTH_FIELD_OFFSET, parityLength, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return term offset of a covered datagram
+     *
+     * @param index of the datagram within the group
+     * @return term offset of the datagram
+     */
+    public int datagramTermOffset(final int index)
+    {
+        return getInt(HEADER_LENGTH + (index * ENTRY_LENGTH), LITTLE_ENDIAN);
+    }
+
+    /**
+     * return length of a covered datagram
+     *
+     * @param index of the datagram within the group
+     * @return length of the datagram
+     */
+    public int datagramLength(final int index)
+    {
+        return getInt(HEADER_LENGTH + (index * ENTRY_LENGTH) + 4, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set term offset and length of a covered datagram
+     *
+     * @param index      of the datagram within the group
+     * @param termOffset of the datagram
+     * @param length     of the datagram
+     * @return flyweight
+     */
+    public FecFlyweight datagram(final int index, final int termOffset, final int length)
+    {
+        final int offset = HEADER_LENGTH + (index * ENTRY_LENGTH);
+        putInt(offset, termOffset, LITTLE_ENDIAN);
+        putInt(offset + 4, length, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        final String formattedFlags = String.format("%1$8s", Integer.toBinaryString(flags())).replace(' ', '0');
+
+        sb.append("FEC Message{")
+            .append("frame_length=").append(frameLength())
+            .append(" version=").append(version())
+            .append(" flags=").append(formattedFlags)
+            .append(" type=").append(headerType())
+            .append(" session_id=").append(sessionId())
+            .append(" stream_id=").append(streamId())
+            .append(" term_id=").append(termId())
+            .append(" datagram_count=").append(datagramCount())
+            .append(" parity_length=").append(parityLength())
+            .append("}");
+
+        return sb.toString();
+    }
+}
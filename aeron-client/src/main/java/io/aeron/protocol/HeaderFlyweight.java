@@ -53,6 +53,8 @@ public class HeaderFlyweight extends UnsafeBuffer
     public static final int HDR_TYPE_SETUP = 0x05;
     /** header type RTT Measurement */
     public static final int HDR_TYPE_RTTM = 0x06;
+    /** header type FEC parity */
+    public static final int HDR_TYPE_FEC = 0x07;
     /** header type EXT */
     public static final int HDR_TYPE_EXT = 0xFFFF;
 
@@ -26,7 +26,9 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static io.aeron.BufferBuilder.INITIAL_CAPACITY;
 
 public class BufferBuilderTest
@@ -175,6 +177,59 @@ public class BufferBuilderTest
         assertArrayEquals(temp, buffer);
     }
 
+    @Test
+    public void shouldResizeDirectBufferPreservingContent()
+    {
+        final int bufferLength = 128;
+        final byte[] buffer = new byte[bufferLength * 3];
+        for (int i = 0; i < buffer.length; i++)
+        {
+            buffer[i] = (byte)i;
+        }
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(buffer);
+
+        final BufferBuilder bufferBuilder = new BufferBuilder(bufferLength, true);
+
+        bufferBuilder.append(srcBuffer, 0, bufferLength);
+        bufferBuilder.append(srcBuffer, bufferLength, bufferLength * 2);
+
+        final byte[] temp = new byte[buffer.length];
+        bufferBuilder.buffer().getBytes(0, temp, 0, buffer.length);
+
+        assertTrue(bufferBuilder.isDirect());
+        assertTrue(bufferBuilder.buffer().byteBuffer().isDirect());
+        assertThat(bufferBuilder.limit(), is(buffer.length));
+        assertThat(bufferBuilder.capacity(), greaterThanOrEqualTo(buffer.length));
+        assertArrayEquals(temp, buffer);
+    }
+
+    @Test
+    public void shouldAppendIntoCallerProvidedBuffer()
+    {
+        final byte[] buffer = new byte[64];
+        Arrays.fill(buffer, (byte)7);
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(buffer);
+        final UnsafeBuffer dstBuffer = new UnsafeBuffer(new byte[buffer.length]);
+
+        final BufferBuilder bufferBuilder = new BufferBuilder(dstBuffer);
+
+        bufferBuilder.append(srcBuffer, 0, buffer.length / 2);
+        bufferBuilder.append(srcBuffer, buffer.length / 2, buffer.length / 2);
+
+        assertSame(dstBuffer, bufferBuilder.buffer());
+        assertThat(bufferBuilder.capacity(), is(buffer.length));
+        assertArrayEquals(buffer, dstBuffer.byteArray());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotGrowCallerProvidedBuffer()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[65]);
+        final BufferBuilder bufferBuilder = new BufferBuilder(new UnsafeBuffer(new byte[64]));
+
+        bufferBuilder.append(srcBuffer, 0, srcBuffer.capacity());
+    }
+
     @Test
     public void shouldCompactBufferToLowerLimit()
     {
@@ -31,6 +31,7 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
+import org.mockito.InOrder;
 
 import java.nio.channels.FileChannel;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +47,8 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 import static io.aeron.ErrorCode.INVALID_CHANNEL;
@@ -97,10 +100,12 @@ public class ClientConductorTest
     private final ErrorHandler mockClientErrorHandler = spy(new PrintError());
 
     private DriverProxy driverProxy = mock(DriverProxy.class);
+    private Aeron.Context ctx;
     private ClientConductor conductor;
     private AvailableImageHandler mockAvailableImageHandler = mock(AvailableImageHandler.class);
     private UnavailableImageHandler mockUnavailableImageHandler = mock(UnavailableImageHandler.class);
     private LogBuffersFactory logBuffersFactory = mock(LogBuffersFactory.class);
+    private LogBuffers logBuffersSession1 = mock(LogBuffers.class);
     private Lock mockClientLock = mock(Lock.class);
     private Long2LongHashMap subscriberPositionMap = new Long2LongHashMap(-1L);
     private boolean suppressPrintError = false;
@@ -108,7 +113,7 @@ public class ClientConductorTest
     @Before
     public void setUp() throws Exception
     {
-        final Aeron.Context ctx = new Aeron.Context()
+        ctx = new Aeron.Context()
             .clientLock(mockClientLock)
             .epochClock(epochClock)
             .nanoClock(nanoClock)
@@ -167,7 +172,6 @@ public class ClientConductorTest
         LogBufferDescriptor.storeDefaultFrameHeader(logMetaDataSession1, header1);
         LogBufferDescriptor.storeDefaultFrameHeader(logMetaDataSession2, header2);
 
-        final LogBuffers logBuffersSession1 = mock(LogBuffers.class);
         final LogBuffers logBuffersSession2 = mock(LogBuffers.class);
 
         when(logBuffersFactory.map(SESSION_ID_1 + "-log", READ_WRITE)).thenReturn(logBuffersSession1);
@@ -212,12 +216,44 @@ public class ClientConductorTest
         verify(logBuffersFactory).map(SESSION_ID_1 + "-log", READ_WRITE);
     }
 
+    @Test
+    public void addPublicationShouldPreTouchLogFileWhenConfigured() throws Exception
+    {
+        conductor = new ClientConductor(ctx.preTouchMappedMemory(true));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        verify(logBuffersSession1).preTouch();
+    }
+
     @Test(expected = DriverTimeoutException.class, timeout = 5_000)
     public void addPublicationShouldTimeoutWithoutReadyMessage()
     {
         conductor.addPublication(CHANNEL, STREAM_ID_1);
     }
 
+    @Test
+    public void addPublicationShouldReleaseClientLockWhileAwaitingResponse()
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        final InOrder inOrder = inOrder(driverProxy, mockClientLock, mockToClientReceiver);
+        inOrder.verify(driverProxy).addPublication(CHANNEL, STREAM_ID_1);
+        inOrder.verify(mockClientLock).unlock();
+        inOrder.verify(mockClientLock).lock();
+        inOrder.verify(mockToClientReceiver).receive(any());
+    }
+
     @Test
     public void conductorShouldCachePublicationInstances()
     {
@@ -368,6 +404,52 @@ public class ClientConductorTest
         verify(driverProxy, never()).removePublication(CORRELATION_ID_2);
     }
 
+    @Test
+    public void asyncAddPublicationShouldReturnPublicationOnceReady()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        assertThat(registrationId, is(CORRELATION_ID));
+        assertNull(conductor.getPublication(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        conductor.doWork();
+
+        final Publication publication = conductor.getPublication(registrationId);
+        assertNotNull(publication);
+        assertThat(publication.registrationId(), is(CORRELATION_ID));
+        assertThat(conductor.addPublication(CHANNEL, STREAM_ID_1), sameInstance(publication));
+    }
+
+    @Test(expected = RegistrationException.class)
+    public void asyncAddPublicationShouldFailOnGetWhenMediaDriverErrors()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+
+        conductor.doWork();
+
+        conductor.getPublication(registrationId);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToGetPublicationForUnknownRegistrationId()
+    {
+        conductor.getPublication(UNKNOWN_CORRELATION_ID);
+    }
+
     @Test
     public void shouldNotMapBuffersForUnknownCorrelationId() throws Exception
     {
@@ -468,6 +550,63 @@ public class ClientConductorTest
         conductor.addSubscription(CHANNEL, STREAM_ID_1);
     }
 
+    @Test
+    public void asyncAddSubscriptionShouldReturnSubscriptionOnceReady()
+    {
+        final long registrationId = conductor.asyncAddSubscription(
+            CHANNEL, STREAM_ID_1, mockAvailableImageHandler, mockUnavailableImageHandler);
+
+        assertNull(conductor.getSubscription(registrationId));
+
+        correlatedMessage.correlationId(CORRELATION_ID);
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_OPERATION_SUCCESS,
+            correlatedMessageBuffer,
+            (buffer) -> CorrelatedMessageFlyweight.LENGTH);
+
+        conductor.doWork();
+
+        final Subscription subscription = conductor.getSubscription(registrationId);
+        assertNotNull(subscription);
+        assertThat(subscription.registrationId(), is(registrationId));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asyncAddSubscriptionShouldBeReleasedWhenNotCollectedWithinDriverTimeout()
+    {
+        final long registrationId = conductor.asyncAddSubscription(
+            CHANNEL, STREAM_ID_1, mockAvailableImageHandler, mockUnavailableImageHandler);
+
+        correlatedMessage.correlationId(CORRELATION_ID);
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_OPERATION_SUCCESS,
+            correlatedMessageBuffer,
+            (buffer) -> CorrelatedMessageFlyweight.LENGTH);
+
+        conductor.doWork();
+        doWorkPastResourceCheck();
+
+        verify(driverProxy).removeSubscription(CORRELATION_ID);
+
+        conductor.getSubscription(registrationId);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asyncAddPublicationShouldBeReleasedWhenNotCollectedWithinDriverTimeout()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        conductor.doWork();
+        doWorkPastResourceCheck();
+
+        verify(driverProxy).removePublication(CORRELATION_ID);
+
+        conductor.getPublication(registrationId);
+    }
+
     @Test
     public void clientNotifiedOfNewImageShouldMapLogFile()
     {
@@ -547,6 +686,18 @@ public class ClientConductorTest
         verify(mockClientErrorHandler).onError(any(ConductorServiceTimeoutException.class));
     }
 
+    private void doWorkPastResourceCheck()
+    {
+        doReturn(0).when(mockToClientReceiver).receive(any());
+        when(driverProxy.timeOfLastDriverKeepaliveMs()).thenAnswer((invocation) -> timeMs);
+
+        for (int i = 0; i < 8; i++)
+        {
+            timeNs += TimeUnit.MILLISECONDS.toNanos(INTER_SERVICE_TIMEOUT_MS / 5);
+            conductor.doWork();
+        }
+    }
+
     private void whenReceiveBroadcastOnMessage(
         final int msgTypeId, final MutableDirectBuffer buffer, final Function<MutableDirectBuffer, Integer> filler)
     {
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.locks.Lock;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class FairImagePollerTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40124";
+    private static final int STREAM_ID = 2;
+    private static final long SUBSCRIPTION_CORRELATION_ID = 100;
+    private static final int SESSION_ID_1 = 7;
+    private static final int SESSION_ID_2 = 9;
+    private static final int FRAME_LENGTH = 64;
+    private static final int BYTE_QUANTUM = 1024;
+
+    private final ClientConductor conductor = mock(ClientConductor.class);
+    private final FragmentHandler fragmentHandler = mock(FragmentHandler.class);
+    private final SimulatedLog logOne = new SimulatedLog();
+    private final SimulatedLog logTwo = new SimulatedLog();
+
+    private Subscription subscription;
+
+    @Before
+    public void setUp()
+    {
+        when(conductor.clientLock()).thenReturn(mock(Lock.class));
+
+        subscription = new Subscription(conductor, CHANNEL, STREAM_ID, SUBSCRIPTION_CORRELATION_ID, null, null);
+        subscription.addImage(logOne.image(SESSION_ID_1));
+        subscription.addImage(logTwo.image(SESSION_ID_2));
+    }
+
+    @Test
+    public void shouldReadNothingWhenNoImages()
+    {
+        final Subscription emptySubscription = new Subscription(
+            conductor, CHANNEL, STREAM_ID, SUBSCRIPTION_CORRELATION_ID, null, null);
+
+        assertThat(new FairImagePoller(emptySubscription, BYTE_QUANTUM).poll(fragmentHandler, 10), is(0));
+    }
+
+    @Test
+    public void shouldShareFragmentLimitEquallyAcrossBusyImages()
+    {
+        logOne.append(100, FRAME_LENGTH);
+        logTwo.append(100, FRAME_LENGTH);
+
+        final FairImagePoller poller = new FairImagePoller(subscription, BYTE_QUANTUM);
+
+        assertThat(poller.poll(fragmentHandler, 10), is(10));
+        assertThat(logOne.fragmentsRead, is(5));
+        assertThat(logTwo.fragmentsRead, is(5));
+    }
+
+    @Test
+    public void shouldNotStarveQuietImageWhenAnotherIsBusy()
+    {
+        logOne.append(1000, FRAME_LENGTH);
+        logTwo.append(1, FRAME_LENGTH);
+
+        final FairImagePoller poller = new FairImagePoller(subscription, BYTE_QUANTUM);
+
+        assertThat(poller.poll(fragmentHandler, 10), is(10));
+        assertThat(logTwo.fragmentsRead, is(1));
+        assertThat(logOne.fragmentsRead, is(9));
+    }
+
+    @Test
+    public void shouldShareBytesByQuantumAcrossBusyImages()
+    {
+        logOne.append(1000, FRAME_LENGTH);
+        logTwo.append(1000, FRAME_LENGTH * 4);
+
+        final FairImagePoller poller = new FairImagePoller(subscription, BYTE_QUANTUM);
+
+        assertThat(poller.poll(fragmentHandler, 1000), is(1000));
+        assertThat(logOne.position, is(logTwo.position));
+    }
+
+    @Test
+    public void shouldShareBudgetByWeight()
+    {
+        logOne.append(100, FRAME_LENGTH);
+        logTwo.append(100, FRAME_LENGTH);
+
+        final FairImagePoller poller = new FairImagePoller(subscription, BYTE_QUANTUM)
+            .sessionWeight(SESSION_ID_1, 3);
+
+        assertThat(poller.sessionWeight(SESSION_ID_1), is(3));
+        assertThat(poller.sessionWeight(SESSION_ID_2), is(FairImagePoller.DEFAULT_WEIGHT));
+        assertThat(poller.poll(fragmentHandler, 8), is(8));
+        assertThat(logOne.fragmentsRead, is(6));
+        assertThat(logTwo.fragmentsRead, is(2));
+    }
+
+    @Test
+    public void shouldAccumulateCreditForFrameLargerThanQuantum()
+    {
+        logOne.append(1, FRAME_LENGTH * 3);
+
+        final FairImagePoller poller = new FairImagePoller(subscription, FRAME_LENGTH);
+
+        assertThat(poller.poll(fragmentHandler, 10), is(0));
+        assertThat(poller.poll(fragmentHandler, 10), is(0));
+        assertThat(poller.poll(fragmentHandler, 10), is(1));
+    }
+
+    @Test
+    public void shouldDropCreditWhenImageIsDrained()
+    {
+        final FairImagePoller poller = new FairImagePoller(subscription, FRAME_LENGTH);
+
+        assertThat(poller.poll(fragmentHandler, 10), is(0));
+        assertThat(poller.poll(fragmentHandler, 10), is(0));
+
+        logOne.append(1, FRAME_LENGTH * 2);
+
+        assertThat(poller.poll(fragmentHandler, 10), is(0));
+        assertThat(poller.poll(fragmentHandler, 10), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveWeight()
+    {
+        new FairImagePoller(subscription, BYTE_QUANTUM).sessionWeight(SESSION_ID_1, 0);
+    }
+
+    static class SimulatedLog
+    {
+        long position = 0;
+        int fragmentsRead = 0;
+        int framesAvailable = 0;
+        int frameLength = 0;
+
+        void append(final int frameCount, final int frameLength)
+        {
+            this.framesAvailable += frameCount;
+            this.frameLength = frameLength;
+        }
+
+        Image image(final int sessionId)
+        {
+            final Image image = mock(Image.class);
+
+            when(image.sessionId()).thenReturn(sessionId);
+            when(image.position()).then((invocation) -> position);
+            when(image.isDrained()).then((invocation) -> 0 == framesAvailable);
+            when(image.boundedPoll(any(FragmentHandler.class), anyInt(), anyInt())).then(
+                (invocation) ->
+                {
+                    if (0 == framesAvailable)
+                    {
+                        return 0;
+                    }
+
+                    final int fragmentLimit = invocation.getArgument(1);
+                    final int byteLimit = invocation.getArgument(2);
+                    final int fragments = Math.min(framesAvailable, Math.min(fragmentLimit, byteLimit / frameLength));
+
+                    framesAvailable -= fragments;
+                    fragmentsRead += fragments;
+                    position += (long)fragments * frameLength;
+
+                    return fragments;
+                });
+
+            return image;
+        }
+    }
+}
@@ -157,6 +157,39 @@ public class FragmentAssemblerTest
         assertFalse(adapter.freeSessionBuffer(SESSION_ID));
     }
 
+    @Test
+    public void shouldReuseFreedSessionBufferOffHeap()
+    {
+        final FragmentAssembler adapter = new FragmentAssembler(
+            delegateFragmentHandler, BufferBuilder.INITIAL_CAPACITY, true);
+
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+        final int length = srcBuffer.capacity() / 2;
+
+        adapter.onFragment(srcBuffer, 0, length, header);
+        adapter.onFragment(srcBuffer, length, length, header);
+        assertTrue(adapter.freeSessionBuffer(SESSION_ID));
+
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        adapter.onFragment(srcBuffer, 0, length, header);
+        adapter.onFragment(srcBuffer, length, length, header);
+
+        final ArgumentCaptor<UnsafeBuffer> bufferArg = ArgumentCaptor.forClass(UnsafeBuffer.class);
+        verify(delegateFragmentHandler, times(2)).onFragment(
+            bufferArg.capture(), eq(0), eq(length * 2), any(Header.class));
+
+        assertSame(bufferArg.getAllValues().get(0), bufferArg.getAllValues().get(1));
+        assertNotNull(bufferArg.getValue().byteBuffer());
+        assertTrue(bufferArg.getValue().byteBuffer().isDirect());
+    }
+
     @Test
     public void shouldDoNotingIfEndArrivesWithoutBegin()
     {
@@ -27,6 +27,7 @@ import org.mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static java.nio.ByteBuffer.allocateDirect;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 import static org.agrona.BitUtil.align;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -404,6 +405,81 @@ public class ImageTest
         inOrder.verify(position).setOrdered(initialPosition + (ALIGNED_FRAME_LENGTH * 2));
     }
 
+    @Test
+    public void shouldPollFragmentsOnlyWhileWithinByteLimitOnBoundedPoll()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        final int fragmentsRead = image.boundedPoll(
+            mockFragmentHandler, Integer.MAX_VALUE, (ALIGNED_FRAME_LENGTH * 2) - 1);
+
+        assertThat(fragmentsRead, is(1));
+        assertFalse(image.isDrained());
+
+        final InOrder inOrder = Mockito.inOrder(position, mockFragmentHandler);
+        inOrder.verify(mockFragmentHandler).onFragment(
+            any(UnsafeBuffer.class), eq(HEADER_LENGTH), eq(DATA.length), any(Header.class));
+        inOrder.verify(position).setOrdered(initialPosition + ALIGNED_FRAME_LENGTH);
+
+        assertThat(image.boundedPoll(mockFragmentHandler, Integer.MAX_VALUE, ALIGNED_FRAME_LENGTH), is(1));
+        assertTrue(image.isDrained());
+    }
+
+    @Test
+    public void shouldPeekRunOfFragmentsAndCommitOnce()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+        final ImageCursor cursor = new ImageCursor(image);
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        assertThat(image.peek(cursor, Integer.MAX_VALUE), is(ALIGNED_FRAME_LENGTH * 2));
+
+        assertTrue(cursor.next());
+        assertThat(cursor.offset(), is(HEADER_LENGTH));
+        assertThat(cursor.length(), is(DATA.length));
+        assertThat(cursor.header().sessionId(), is(SESSION_ID));
+
+        assertTrue(cursor.next());
+        assertThat(cursor.offset(), is(ALIGNED_FRAME_LENGTH + HEADER_LENGTH));
+        assertThat(cursor.position(), is(initialPosition + (ALIGNED_FRAME_LENGTH * 2)));
+        assertFalse(cursor.next());
+
+        cursor.commit();
+
+        verify(position, times(1)).setOrdered(initialPosition + (ALIGNED_FRAME_LENGTH * 2));
+        verify(position, times(2)).setOrdered(anyLong());
+        assertThat(image.peek(cursor, Integer.MAX_VALUE), is(0));
+    }
+
+    @Test
+    public void shouldPeekAgainFragmentsNotCommitted()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+        final ImageCursor cursor = new ImageCursor(image);
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+
+        image.peek(cursor, Integer.MAX_VALUE);
+        assertTrue(cursor.next());
+        cursor.commit();
+
+        assertThat(image.peek(cursor, Integer.MAX_VALUE), is(ALIGNED_FRAME_LENGTH));
+        assertTrue(cursor.next());
+        assertThat(cursor.offset(), is(ALIGNED_FRAME_LENGTH + HEADER_LENGTH));
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
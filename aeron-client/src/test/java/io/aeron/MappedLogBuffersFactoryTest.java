@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.LOG_META_DATA_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static java.nio.channels.FileChannel.MapMode.PRIVATE;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MappedLogBuffersFactoryTest
+{
+    private final MappedLogBuffersFactory factory = new MappedLogBuffersFactory();
+    private File logFile;
+    private String logFileName;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        logFile = File.createTempFile("aeron-log-buffers-", ".logbuffer");
+        logFileName = logFile.getAbsolutePath();
+
+        try (RandomAccessFile file = new RandomAccessFile(logFile, "rw"))
+        {
+            file.setLength((TERM_MIN_LENGTH * PARTITION_COUNT) + LOG_META_DATA_LENGTH);
+        }
+    }
+
+    @After
+    public void tearDown()
+    {
+        IoUtil.delete(logFile, true);
+    }
+
+    @Test
+    public void shouldShareMappingUntilLastRelease()
+    {
+        final LogBuffers logBuffersOne = factory.map(logFileName, READ_ONLY);
+        final LogBuffers logBuffersTwo = factory.map(logFileName, READ_ONLY);
+
+        assertThat(logBuffersTwo, sameInstance(logBuffersOne));
+
+        factory.release(logBuffersOne);
+        assertTrue(logBuffersTwo.fileChannel().isOpen());
+
+        factory.release(logBuffersTwo);
+        assertFalse(logBuffersTwo.fileChannel().isOpen());
+
+        final LogBuffers logBuffersThree = factory.map(logFileName, READ_ONLY);
+        assertThat(logBuffersThree, not(sameInstance(logBuffersOne)));
+        factory.release(logBuffersThree);
+    }
+
+    @Test
+    public void shouldNotShareMappingsOfDifferentModes()
+    {
+        final LogBuffers readOnly = factory.map(logFileName, READ_ONLY);
+        final LogBuffers readWrite = factory.map(logFileName, READ_WRITE);
+
+        assertThat(readWrite, not(sameInstance(readOnly)));
+
+        factory.release(readOnly);
+        factory.release(readWrite);
+    }
+
+    @Test
+    public void shouldNotSharePrivateMappings()
+    {
+        final LogBuffers logBuffersOne = factory.map(logFileName, PRIVATE);
+        final LogBuffers logBuffersTwo = factory.map(logFileName, PRIVATE);
+
+        assertThat(logBuffersTwo, not(sameInstance(logBuffersOne)));
+
+        factory.release(logBuffersOne);
+        assertFalse(logBuffersOne.fileChannel().isOpen());
+        assertTrue(logBuffersTwo.fileChannel().isOpen());
+
+        factory.release(logBuffersTwo);
+    }
+}
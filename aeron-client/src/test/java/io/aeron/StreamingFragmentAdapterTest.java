@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class StreamingFragmentAdapterTest
+{
+    private static final int SESSION_ID = 777;
+    private static final int INITIAL_TERM_ID = 3;
+
+    private final StreamingFragmentHandler delegate = mock(StreamingFragmentHandler.class);
+    private final UnsafeBuffer termBuffer = mock(UnsafeBuffer.class);
+    private final Header header = spy(new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH));
+    private final StreamingFragmentAdapter adapter = new StreamingFragmentAdapter(delegate);
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+
+    @Before
+    public void setUp()
+    {
+        header.buffer(termBuffer);
+        when(termBuffer.getInt(anyInt(), any(ByteOrder.class))).thenReturn(SESSION_ID);
+    }
+
+    @Test
+    public void shouldStreamUnfragmentedMessageAsSingleChunk()
+    {
+        when(header.flags()).thenReturn(FrameDescriptor.UNFRAGMENTED);
+
+        adapter.onFragment(srcBuffer, 8, 32, header);
+
+        final InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).onBegin(header);
+        inOrder.verify(delegate).onChunk(srcBuffer, 8, 32, header);
+        inOrder.verify(delegate).onEnd(header);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldStreamFragmentedMessageWithoutCopy()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final int length = srcBuffer.capacity() / 4;
+
+        adapter.onFragment(srcBuffer, 0, length, header);
+        adapter.onFragment(srcBuffer, length, length, header);
+        adapter.onFragment(srcBuffer, length * 2, length, header);
+
+        final InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).onBegin(header);
+        inOrder.verify(delegate).onChunk(srcBuffer, 0, length, header);
+        inOrder.verify(delegate).onChunk(srcBuffer, length, length, header);
+        inOrder.verify(delegate).onChunk(srcBuffer, length * 2, length, header);
+        inOrder.verify(delegate).onEnd(header);
+        inOrder.verifyNoMoreInteractions();
+        assertFalse(adapter.freeSession(SESSION_ID));
+    }
+
+    @Test
+    public void shouldDropFragmentsOfMessageWithoutBegin()
+    {
+        when(header.flags())
+            .thenReturn((byte)0)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        adapter.onFragment(srcBuffer, 0, 64, header);
+        adapter.onFragment(srcBuffer, 64, 64, header);
+
+        verifyZeroInteractions(delegate);
+    }
+
+    @Test
+    public void shouldFreeSessionWithMessageInProgress()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        adapter.onFragment(srcBuffer, 0, 64, header);
+
+        assertTrue(adapter.freeSession(SESSION_ID));
+
+        adapter.onFragment(srcBuffer, 64, 64, header);
+
+        verify(delegate, never()).onEnd(any(Header.class));
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.aeron.logbuffer;
 
+import io.aeron.DirectBufferVector;
 import io.aeron.ReservedValueSupplier;
 import org.junit.Before;
 import org.junit.Test;
@@ -188,6 +189,144 @@ public class TermAppenderTest
         inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameLength);
     }
 
+    @Test
+    public void shouldAppendUnfragmentedMessageGatheredFromVectors()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer bufferOne = new UnsafeBuffer(new byte[64]);
+        final UnsafeBuffer bufferTwo = new UnsafeBuffer(new byte[64]);
+        bufferOne.setMemory(0, bufferOne.capacity(), (byte)1);
+        bufferTwo.setMemory(0, bufferTwo.capacity(), (byte)2);
+        final DirectBufferVector[] vectors =
+        {
+            new DirectBufferVector(bufferOne, 4, 12),
+            new DirectBufferVector(bufferTwo, 16, 20)
+        };
+        final int msgLength = 32;
+        final int frameLength = msgLength + headerLength;
+        final int alignedFrameLength = align(frameLength, FRAME_ALIGNMENT);
+        final int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.appendUnfragmentedMessage(
+            headerWriter, vectors, msgLength, RVS), is((long)alignedFrameLength));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(pack(TERM_ID, tail + alignedFrameLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(headerLength, bufferOne, 4, 12);
+        inOrder.verify(termBuffer, times(1)).putBytes(headerLength + 12, bufferTwo, 16, 20);
+        inOrder.verify(termBuffer, times(1)).putLong(tail + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameLength);
+    }
+
+    @Test
+    public void shouldFragmentMessageGatheredFromVectorsOverTwoFrames()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final int firstVectorLength = MAX_PAYLOAD_LENGTH - 10;
+        final int secondVectorLength = 11;
+        final int msgLength = firstVectorLength + secondVectorLength;
+        final int frameLength = headerLength + 1;
+        final int requiredCapacity = align(headerLength + 1, FRAME_ALIGNMENT) + MAX_FRAME_LENGTH;
+        final UnsafeBuffer bufferOne = new UnsafeBuffer(new byte[firstVectorLength]);
+        final UnsafeBuffer bufferTwo = new UnsafeBuffer(new byte[secondVectorLength]);
+        final DirectBufferVector[] vectors =
+        {
+            new DirectBufferVector(bufferOne, 0, firstVectorLength),
+            new DirectBufferVector(bufferTwo, 0, secondVectorLength)
+        };
+        int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.appendFragmentedMessage(
+            headerWriter, vectors, msgLength, MAX_PAYLOAD_LENGTH, RVS), is((long)requiredCapacity));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(pack(TERM_ID, tail + requiredCapacity)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, MAX_FRAME_LENGTH, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(tail + headerLength, bufferOne, 0, firstVectorLength);
+        inOrder.verify(termBuffer, times(1)).putBytes(tail + headerLength + firstVectorLength, bufferTwo, 0, 10);
+        inOrder.verify(termBuffer, times(1)).putByte(flagsOffset(tail), BEGIN_FRAG_FLAG);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, MAX_FRAME_LENGTH);
+
+        tail = MAX_FRAME_LENGTH;
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(tail + headerLength, bufferTwo, 10, 1);
+        inOrder.verify(termBuffer, times(1)).putByte(flagsOffset(tail), END_FRAG_FLAG);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameLength);
+    }
+
+    @Test
+    public void shouldAppendBatchOfMessagesWithSingleTailIncrement()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(buffer, 0, 20),
+            new DirectBufferVector(buffer, 20, 64)
+        };
+        final int frameLengthOne = 20 + headerLength;
+        final int frameLengthTwo = 64 + headerLength;
+        final int alignedFrameLengthOne = align(frameLengthOne, FRAME_ALIGNMENT);
+        final int batchLength = alignedFrameLengthOne + align(frameLengthTwo, FRAME_ALIGNMENT);
+        final int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.appendUnfragmentedBatch(
+            headerWriter, messages, batchLength, RVS), is((long)batchLength));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(pack(TERM_ID, tail + batchLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLengthOne, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(tail + headerLength, buffer, 0, 20);
+        inOrder.verify(termBuffer, times(1)).putLong(tail + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameLengthOne);
+
+        final int secondOffset = tail + alignedFrameLengthOne;
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, secondOffset, frameLengthTwo, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(secondOffset + headerLength, buffer, 20, 64);
+        inOrder.verify(termBuffer, times(1)).putLong(secondOffset + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(secondOffset, frameLengthTwo);
+    }
+
+    @Test
+    public void shouldPadLogAndTripWhenAppendingBatchWithInsufficientRemainingCapacity()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final DirectBufferVector[] messages =
+        {
+            new DirectBufferVector(buffer, 0, 64),
+            new DirectBufferVector(buffer, 64, 64)
+        };
+        final int batchLength = 2 * align(64 + headerLength, FRAME_ALIGNMENT);
+        final int tail = TERM_BUFFER_LENGTH - batchLength + FRAME_ALIGNMENT;
+        final int paddingLength = TERM_BUFFER_LENGTH - tail;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        final long expectResult = pack(TERM_ID, TRIPPED);
+        assertThat(termAppender.appendUnfragmentedBatch(headerWriter, messages, batchLength, RVS), is(expectResult));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(pack(TERM_ID, tail + batchLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, paddingLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putShort(typeOffset(tail), (short)PADDING_FRAME_TYPE, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, paddingLength);
+        verify(termBuffer, never()).putBytes(anyInt(), eq(buffer), anyInt(), anyInt());
+    }
+
     @Test
     public void shouldClaimRegionForZeroCopyEncoding()
     {
@@ -214,4 +353,38 @@ public class TermAppenderTest
         final InOrder inOrder = inOrder(headerWriter);
         inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLength, TERM_ID);
     }
+
+    @Test
+    public void shouldClaimRegionAcrossFragmentsForZeroCopyEncoding()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final int msgLength = MAX_PAYLOAD_LENGTH + 1;
+        final int frameLength = headerLength + 1;
+        final int requiredCapacity = align(frameLength, FRAME_ALIGNMENT) + MAX_FRAME_LENGTH;
+        final FragmentedBufferClaim bufferClaim = new FragmentedBufferClaim();
+        final int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, pack(TERM_ID, tail));
+
+        assertThat(termAppender.claim(headerWriter, msgLength, MAX_PAYLOAD_LENGTH, bufferClaim),
+            is((long)requiredCapacity));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(pack(TERM_ID, tail + requiredCapacity)));
+
+        assertThat(bufferClaim.fragmentCount(), is(2));
+        assertThat(bufferClaim.offset(), is(headerLength));
+        assertThat(bufferClaim.length(), is(MAX_PAYLOAD_LENGTH));
+        assertThat(bufferClaim.nextFragment(), is(true));
+        assertThat(bufferClaim.length(), is(1));
+        assertThat(bufferClaim.nextFragment(), is(false));
+
+        assertThat(termBuffer.getByte(flagsOffset(tail)), is(BEGIN_FRAG_FLAG));
+        assertThat(termBuffer.getByte(flagsOffset(MAX_FRAME_LENGTH)), is(END_FRAG_FLAG));
+        assertThat(termBuffer.getInt(tail, LITTLE_ENDIAN), is(-MAX_FRAME_LENGTH));
+
+        bufferClaim.commit();
+
+        assertThat(termBuffer.getInt(tail, LITTLE_ENDIAN), is(MAX_FRAME_LENGTH));
+        assertThat(termBuffer.getInt(MAX_FRAME_LENGTH, LITTLE_ENDIAN), is(frameLength));
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of applying a Status Message, and of the idle check, for the multicast flow control strategies as the number
+ * of tracked receivers grows.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MulticastFlowControlBenchmark
+{
+    private static final int INITIAL_TERM_ID = 7;
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    private static final int POSITION_BITS_TO_SHIFT = Integer.numberOfTrailingZeros(TERM_BUFFER_LENGTH);
+    private static final int WINDOW_LENGTH = TERM_BUFFER_LENGTH / 2;
+
+    @Param({ "min", "preferred", "quorum" })
+    public String strategy;
+
+    @Param({ "10", "100", "1000" })
+    public int receiverCount;
+
+    private final InetSocketAddress receiverAddress = new InetSocketAddress("localhost", 40124);
+    private final StatusMessageFlyweight statusMessage = new StatusMessageFlyweight(
+        new UnsafeBuffer(ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH + 4)));
+
+    private FlowControl flowControl;
+    private int receiverIndex;
+    private int termOffset;
+    private long nowNs;
+
+    @Setup
+    public void setup()
+    {
+        switch (strategy)
+        {
+            case "min":
+                flowControl = new MinMulticastFlowControl();
+                break;
+
+            case "preferred":
+                flowControl = new PreferredMulticastFlowControl();
+                break;
+
+            default:
+                flowControl = new QuorumMulticastFlowControl(receiverCount / 2);
+                break;
+        }
+
+        flowControl.initialize(INITIAL_TERM_ID, TERM_BUFFER_LENGTH);
+
+        final byte[] asf = PreferredMulticastFlowControl.PREFERRED_ASF_BYTES;
+        statusMessage
+            .applicationSpecificFeedback(asf, 0, asf.length)
+            .receiverWindowLength(WINDOW_LENGTH)
+            .consumptionTermId(INITIAL_TERM_ID);
+
+        for (int i = 0; i < receiverCount; i++)
+        {
+            onStatusMessage();
+        }
+    }
+
+    @Benchmark
+    public long onStatusMessage()
+    {
+        final int receiverIndex = this.receiverIndex;
+        this.receiverIndex = receiverIndex + 1 == receiverCount ? 0 : receiverIndex + 1;
+        termOffset = (termOffset + 32) & (TERM_BUFFER_LENGTH - 1);
+
+        statusMessage
+            .receiverId(receiverIndex)
+            .consumptionTermOffset(termOffset);
+
+        return flowControl.onStatusMessage(
+            statusMessage, receiverAddress, 0, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, ++nowNs);
+    }
+
+    @Benchmark
+    public long onIdle()
+    {
+        return flowControl.onIdle(nowNs, 0);
+    }
+}
@@ -43,7 +43,14 @@ static aeron_system_counter_t system_counters[] =
         { "Unblocked Control Commands", AERON_SYSTEM_COUNTER_UNBLOCKED_COMMANDS },
         { "Possible TTL Asymmetry", AERON_SYSTEM_COUNTER_POSSIBLE_TTL_ASYMMETRY },
         { "ControllableIdleStrategy status", AERON_SYSTEM_COUNTER_CONTROLLABLE_IDLE_STRATEGY },
-        { "Loss gap fills", AERON_SYSTEM_COUNTER_LOSS_GAP_FILLS}
+        { "Loss gap fills", AERON_SYSTEM_COUNTER_LOSS_GAP_FILLS},
+        { "NAKs coalesced", AERON_SYSTEM_COUNTER_NAKS_COALESCED },
+        { "Retransmitted bytes", AERON_SYSTEM_COUNTER_RETRANSMITTED_BYTES },
+        { "FEC parity frames sent", AERON_SYSTEM_COUNTER_FEC_PARITY_FRAMES_SENT },
+        { "FEC datagrams recovered", AERON_SYSTEM_COUNTER_FEC_DATAGRAMS_RECOVERED },
+        { "Sender pacing delays", AERON_SYSTEM_COUNTER_SENDER_PACING_DELAYS },
+        { "Log buffer pool hits", AERON_SYSTEM_COUNTER_LOG_POOL_HITS },
+        { "Log buffer pool misses", AERON_SYSTEM_COUNTER_LOG_POOL_MISSES }
     };
 
 static size_t num_system_counters = sizeof(system_counters)/sizeof(aeron_system_counter_t);
@@ -45,7 +45,14 @@ typedef enum aeron_system_counter_enum_stct
     AERON_SYSTEM_COUNTER_UNBLOCKED_COMMANDS = 20,
     AERON_SYSTEM_COUNTER_POSSIBLE_TTL_ASYMMETRY = 21,
     AERON_SYSTEM_COUNTER_CONTROLLABLE_IDLE_STRATEGY = 22,
-    AERON_SYSTEM_COUNTER_LOSS_GAP_FILLS = 23
+    AERON_SYSTEM_COUNTER_LOSS_GAP_FILLS = 23,
+    AERON_SYSTEM_COUNTER_NAKS_COALESCED = 24,
+    AERON_SYSTEM_COUNTER_RETRANSMITTED_BYTES = 25,
+    AERON_SYSTEM_COUNTER_FEC_PARITY_FRAMES_SENT = 26,
+    AERON_SYSTEM_COUNTER_FEC_DATAGRAMS_RECOVERED = 27,
+    AERON_SYSTEM_COUNTER_SENDER_PACING_DELAYS = 28,
+    AERON_SYSTEM_COUNTER_LOG_POOL_HITS = 29,
+    AERON_SYSTEM_COUNTER_LOG_POOL_MISSES = 30
 }
 aeron_system_counter_enum_t;
 
@@ -52,6 +52,21 @@ public class AeronClient implements DriverManagedResource
         return nowNs > (timeOfLastKeepaliveNs + clientLivenessTimeoutNs);
     }
 
+    /**
+     * Time in nanoseconds after which the client has timed out unless a keepalive is received.
+     *
+     * @return time in nanoseconds after which the client has timed out.
+     */
+    public long livenessDeadlineNs()
+    {
+        return timeOfLastKeepaliveNs + clientLivenessTimeoutNs;
+    }
+
+    public long timeOfNextTimeEventNs(final long timeNs)
+    {
+        return livenessDeadlineNs() + 1;
+    }
+
     public void onTimeEvent(final long timeNs, final long timeMs, final DriverConductor conductor)
     {
         if (timeNs > (timeOfLastKeepaliveNs + clientLivenessTimeoutNs))
@@ -95,6 +95,36 @@ public class Configuration
     public static final int IPC_TERM_BUFFER_LENGTH = getInteger(
         IPC_TERM_BUFFER_LENGTH_PROP_NAME, TERM_BUFFER_IPC_LENGTH_DEFAULT);
 
+    /**
+     * Property name for the directory in which log buffers for publications and images are created.
+     */
+    public static final String LOG_BUFFER_DIR_PROP_NAME = "aeron.log.buffer.dir";
+
+    /**
+     * Directory in which log buffers for publications and images are created, such as a hugetlbfs mount. Defaults to
+     * the aeron.dir when not set. Only the publications, images and log-pool directories within it are deleted when
+     * the driver starts, after the same checks as for the aeron.dir, so these must not be shared with another driver.
+     * It must not contain the aeron.dir.
+     */
+    public static final String LOG_BUFFER_DIR = getProperty(LOG_BUFFER_DIR_PROP_NAME);
+
+    /**
+     * Property name for the page length of the file system on which log buffers are created.
+     */
+    public static final String FILE_PAGE_LENGTH_PROP_NAME = "aeron.file.page.length";
+
+    /**
+     * Default page length of the file system on which log buffers are created.
+     */
+    public static final int FILE_PAGE_LENGTH_DEFAULT = 4 * 1024;
+
+    /**
+     * Page length of the file system on which log buffers are created. Set to the huge page length, e.g. 2MB, when
+     * {@link #LOG_BUFFER_DIR} is on a hugetlbfs mount. Log buffer files are padded to a multiple of this length, term
+     * lengths must be a multiple of it, and pages are touched at this stride when files are not sparse.
+     */
+    public static final int FILE_PAGE_LENGTH = getInteger(FILE_PAGE_LENGTH_PROP_NAME, FILE_PAGE_LENGTH_DEFAULT);
+
     /**
      * Property name low file storage warning threshold.
      */
@@ -328,6 +358,23 @@ public class Configuration
     public static final long IMAGE_LIVENESS_TIMEOUT_NS = getLong(
         IMAGE_LIVENESS_TIMEOUT_PROP_NAME, IMAGE_LIVENESS_TIMEOUT_DEFAULT_NS);
 
+    /**
+     * Property name for the time a session stays on cool down at a receiver after its image starts to linger.
+     */
+    public static final String IMAGE_COOL_DOWN_TIMEOUT_PROP_NAME = "aeron.image.cool.down.timeout";
+
+    /**
+     * Default time a session stays on cool down after its image starts to linger, which ends it on the next tick.
+     */
+    public static final long IMAGE_COOL_DOWN_TIMEOUT_DEFAULT_NS = 0;
+
+    /**
+     * Time a session stays on cool down at a receiver after its image starts to linger, during which data from the
+     * session does not create a new image.
+     */
+    public static final long IMAGE_COOL_DOWN_TIMEOUT_NS = getLong(
+        IMAGE_COOL_DOWN_TIMEOUT_PROP_NAME, IMAGE_COOL_DOWN_TIMEOUT_DEFAULT_NS);
+
     /**
      * Property name for window limit on {@link Publication} side.
      */
@@ -514,6 +561,17 @@ public class Configuration
      */
     public static final long HEARTBEAT_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
 
+    /**
+     * Duration of a tick of the conductor timer wheel which schedules the time events of driver managed resources.
+     */
+    public static final long CONDUCTOR_TICK_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Number of ticks in a revolution of the conductor timer wheel. The wheel should span the liveness and linger
+     * timeouts so timers rarely need to be skipped over for a later revolution.
+     */
+    public static final int CONDUCTOR_TICKS_PER_WHEEL = 1024;
+
     /**
      * Property name for {@link SendChannelEndpointSupplier}.
      */
@@ -638,6 +696,139 @@ public class Configuration
      */
     public static final int MAX_RETRANSMITS_DEFAULT = 16;
 
+    /**
+     * Property name for the max number of gaps a receiving image will NAK together from a single loss scan.
+     */
+    public static final String LOSS_DETECTOR_MAX_GAPS_PROP_NAME = "aeron.rcv.loss.max.gaps";
+
+    /**
+     * Default max number of gaps NAKed together, a single gap is repaired at a time.
+     */
+    public static final int LOSS_DETECTOR_MAX_GAPS_DEFAULT = 1;
+
+    /**
+     * Max number of gaps a receiving image will NAK together from a single loss scan.
+     */
+    public static final int LOSS_DETECTOR_MAX_GAPS = getInteger(
+        LOSS_DETECTOR_MAX_GAPS_PROP_NAME, LOSS_DETECTOR_MAX_GAPS_DEFAULT);
+
+    /**
+     * Property name for the max number of datagrams a network publication may send in a single Sender duty cycle.
+     */
+    public static final String SEND_BURST_DATAGRAMS_PROP_NAME = "aeron.send.burst.datagrams";
+
+    /**
+     * Default max number of datagrams a network publication may send in a single Sender duty cycle.
+     */
+    public static final int SEND_BURST_DATAGRAMS_DEFAULT = 1;
+
+    /**
+     * Default max number of datagrams a network publication may send in a single Sender duty cycle before the next
+     * publication in the round robin gets its turn, unless overridden on the channel.
+     */
+    public static final int SEND_BURST_DATAGRAMS = getInteger(
+        SEND_BURST_DATAGRAMS_PROP_NAME, SEND_BURST_DATAGRAMS_DEFAULT);
+
+    /**
+     * Property name for the default rate in bytes per second at which network publications are paced onto the wire.
+     */
+    public static final String SEND_PACING_RATE_PROP_NAME = "aeron.send.pacing.rate";
+
+    /**
+     * Default pacing rate in bytes per second, 0 disables pacing.
+     */
+    public static final long SEND_PACING_RATE_DEFAULT = 0;
+
+    /**
+     * Default rate in bytes per second at which network publications are paced onto the wire unless overridden on
+     * the channel.
+     */
+    public static final long SEND_PACING_RATE = getLong(SEND_PACING_RATE_PROP_NAME, SEND_PACING_RATE_DEFAULT);
+
+    /**
+     * Property name for the max number of bytes of term buffer a publication cleans in a single conductor duty cycle.
+     */
+    public static final String TERM_CLEAN_CHUNK_LENGTH_PROP_NAME = "aeron.term.clean.chunk.length";
+
+    /**
+     * Default max number of bytes cleaned in a duty cycle, 0 cleans up to the end of the dirty term.
+     */
+    public static final int TERM_CLEAN_CHUNK_LENGTH_DEFAULT = 0;
+
+    /**
+     * Max number of bytes of term buffer a publication cleans in a single conductor duty cycle. Bounding this spreads
+     * the cleaning of large terms over many duty cycles, with the publisher limit held back so publishers never
+     * write into memory which has not yet been cleaned.
+     */
+    public static final int TERM_CLEAN_CHUNK_LENGTH = getInteger(
+        TERM_CLEAN_CHUNK_LENGTH_PROP_NAME, TERM_CLEAN_CHUNK_LENGTH_DEFAULT);
+
+    /**
+     * Property name for the max total length in bytes of log buffer files kept in a pool for reuse.
+     */
+    public static final String LOG_POOL_MAX_LENGTH_PROP_NAME = "aeron.log.pool.max.length";
+
+    /**
+     * Default max total length of pooled log buffer files, 0 disables pooling.
+     */
+    public static final long LOG_POOL_MAX_LENGTH_DEFAULT = 0;
+
+    /**
+     * Max total length in bytes of log buffer files which are created and touched ahead of need so publications and
+     * images can use them without creating and page faulting new files. Files which have been used are never
+     * recycled, as clients may still have them mapped, so when a log is closed it is deleted and a new file is
+     * filled in its place over the following duty cycles of the conductor.
+     */
+    public static final long LOG_POOL_MAX_LENGTH = getLong(
+        LOG_POOL_MAX_LENGTH_PROP_NAME, LOG_POOL_MAX_LENGTH_DEFAULT);
+
+    /**
+     * Property name for the number of log buffer files with the publication term length to create in the pool when
+     * the driver starts.
+     */
+    public static final String LOG_POOL_PREALLOCATE_COUNT_PROP_NAME = "aeron.log.pool.preallocate.count";
+
+    /**
+     * Default number of log buffer files to create in the pool when the driver starts.
+     */
+    public static final int LOG_POOL_PREALLOCATE_COUNT_DEFAULT = 0;
+
+    /**
+     * Number of log buffer files with the publication term length to create, and touch, in the pool when the driver
+     * starts. Limited by {@link #LOG_POOL_MAX_LENGTH}.
+     */
+    public static final int LOG_POOL_PREALLOCATE_COUNT = getInteger(
+        LOG_POOL_PREALLOCATE_COUNT_PROP_NAME, LOG_POOL_PREALLOCATE_COUNT_DEFAULT);
+
+    /**
+     * Property name for the length in bytes of a replacement pool file to touch in each duty cycle of the conductor.
+     */
+    public static final String LOG_POOL_REPLENISH_LENGTH_PROP_NAME = "aeron.log.pool.replenish.length";
+
+    /**
+     * Default length in bytes of a replacement pool file to touch in each duty cycle of the conductor.
+     */
+    public static final int LOG_POOL_REPLENISH_LENGTH_DEFAULT = 1024 * 1024;
+
+    /**
+     * Length in bytes of a replacement pool file to touch in each duty cycle of the conductor, so replacing a closed
+     * log is spread over many duty cycles rather than stalling one of them for a whole log.
+     */
+    public static final int LOG_POOL_REPLENISH_LENGTH = getInteger(
+        LOG_POOL_REPLENISH_LENGTH_PROP_NAME, LOG_POOL_REPLENISH_LENGTH_DEFAULT);
+
+    /**
+     * Length of term buffer to clean in one go given the space left in the term and the configured chunk length.
+     *
+     * @param termRemaining    bytes left to clean to the end of the dirty term.
+     * @param cleanChunkLength max bytes to clean in one go, 0 for no limit.
+     * @return the number of bytes to clean.
+     */
+    public static int termCleanLength(final int termRemaining, final int cleanChunkLength)
+    {
+        return cleanChunkLength > 0 ? Math.min(termRemaining, cleanChunkLength) : termRemaining;
+    }
+
     /**
      * Validate the the term buffer length is a power of two.
      *
@@ -651,6 +842,20 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the file page length is a power of two and at least {@link #FILE_PAGE_LENGTH_DEFAULT}.
+     *
+     * @param pageLength to be validated.
+     */
+    public static void validateFilePageLength(final int pageLength)
+    {
+        if (pageLength < FILE_PAGE_LENGTH_DEFAULT || !BitUtil.isPowerOfTwo(pageLength))
+        {
+            throw new IllegalStateException(
+                "File page length must be a power of 2 and at least " + FILE_PAGE_LENGTH_DEFAULT + ": " + pageLength);
+        }
+    }
+
     /**
      * How far ahead the publisher can get from the sender position.
      *
@@ -926,4 +1131,19 @@ public class Configuration
                 FrameDescriptor.FRAME_ALIGNMENT, mtuLength));
         }
     }
+
+    /**
+     * Validate the max number of datagrams sent in a single Sender duty cycle is at least 1.
+     *
+     * @param sendBurstDatagrams to be validated.
+     * @throws ConfigurationException if the number of datagrams is not valid.
+     */
+    public static void validateSendBurstDatagrams(final int sendBurstDatagrams)
+    {
+        if (sendBurstDatagrams < 1)
+        {
+            throw new ConfigurationException(
+                "sendBurstDatagrams must be >= 1: sendBurstDatagrams=" + sendBurstDatagrams);
+        }
+    }
 }
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.driver.exceptions.UnknownSubscriptionException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.collections.BiInt2ObjectMap;
@@ -154,6 +155,29 @@ public class DataPacketDispatcher implements DataPacketHandler, SetupMessageHand
         return 0;
     }
 
+    public int onFecPacket(
+        final ReceiveChannelEndpoint channelEndpoint,
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        final int streamId = header.streamId();
+        final Int2ObjectHashMap<PublicationImage> imageBySessionIdMap = sessionsByStreamIdMap.get(streamId);
+
+        if (null != imageBySessionIdMap)
+        {
+            final PublicationImage image = imageBySessionIdMap.get(header.sessionId());
+
+            if (null != image)
+            {
+                return image.onFecPacket(header, length);
+            }
+        }
+
+        return 0;
+    }
+
     public void onSetupMessage(
         final ReceiveChannelEndpoint channelEndpoint,
         final SetupFlyweight header,
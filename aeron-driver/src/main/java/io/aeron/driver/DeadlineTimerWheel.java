@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.BitUtil;
+
+/**
+ * Hashed wheel of deadline timers so that the cost of a poll is proportional to the timers in the elapsed ticks rather
+ * than all the timers scheduled.
+ *
+ * Timers are intrusive so scheduling, rescheduling, and cancelling do not allocate. A timer with a deadline beyond the
+ * span of the wheel stays in its slot and is skipped until a later revolution reaches its deadline. Not thread safe.
+ */
+final class DeadlineTimerWheel
+{
+    /**
+     * Timer which can be scheduled on a {@link DeadlineTimerWheel}.
+     */
+    abstract static class Timer
+    {
+        private static final int NOT_SCHEDULED = -1;
+
+        private long deadlineNs;
+        private int slotIndex = NOT_SCHEDULED;
+        private Timer previous;
+        private Timer next;
+
+        /**
+         * Called when the deadline of the timer has been reached. The timer is no longer scheduled and can be
+         * rescheduled from within this method.
+         *
+         * @param nowNs current time in nanoseconds.
+         */
+        abstract void onExpiry(long nowNs);
+
+        /**
+         * Is the timer scheduled to expire.
+         *
+         * @return true if the timer is scheduled to expire.
+         */
+        boolean isScheduled()
+        {
+            return NOT_SCHEDULED != slotIndex;
+        }
+
+        /**
+         * Deadline in nanoseconds of the timer when it is scheduled.
+         *
+         * @return deadline in nanoseconds of the timer when it is scheduled.
+         */
+        long deadlineNs()
+        {
+            return deadlineNs;
+        }
+    }
+
+    private final long startTimeNs;
+    private final long tickDurationNs;
+    private final int mask;
+    private final Timer[] slots;
+    private long currentTick = 0;
+    private int timerCount = 0;
+    private Timer nextInPoll;
+
+    /**
+     * Construct a wheel with the given start time, tick duration, and number of ticks per revolution.
+     *
+     * @param startTimeNs    time in nanoseconds from which ticks are counted.
+     * @param tickDurationNs duration in nanoseconds of each tick.
+     * @param ticksPerWheel  number of ticks in a revolution which must be a power of 2.
+     */
+    DeadlineTimerWheel(final long startTimeNs, final long tickDurationNs, final int ticksPerWheel)
+    {
+        if (!BitUtil.isPowerOfTwo(ticksPerWheel))
+        {
+            throw new IllegalArgumentException("ticks per wheel must be a power of 2: " + ticksPerWheel);
+        }
+
+        this.startTimeNs = startTimeNs;
+        this.tickDurationNs = tickDurationNs;
+        this.mask = ticksPerWheel - 1;
+        this.slots = new Timer[ticksPerWheel];
+    }
+
+    /**
+     * Number of timers currently scheduled.
+     *
+     * @return number of timers currently scheduled.
+     */
+    int timerCount()
+    {
+        return timerCount;
+    }
+
+    /**
+     * Schedule a timer to expire at a deadline, rescheduling it if already scheduled. A deadline which has already
+     * passed expires on the next poll.
+     *
+     * @param timer      to be scheduled.
+     * @param deadlineNs time in nanoseconds at or after which the timer expires.
+     */
+    void schedule(final Timer timer, final long deadlineNs)
+    {
+        cancel(timer);
+
+        final long tick = Math.max((deadlineNs - startTimeNs) / tickDurationNs, currentTick);
+        final int slotIndex = (int)(tick & mask);
+        final Timer head = slots[slotIndex];
+
+        timer.deadlineNs = deadlineNs;
+        timer.slotIndex = slotIndex;
+        timer.previous = null;
+        timer.next = head;
+        if (null != head)
+        {
+            head.previous = timer;
+        }
+
+        slots[slotIndex] = timer;
+        timerCount++;
+    }
+
+    /**
+     * Cancel a timer if it is scheduled.
+     *
+     * @param timer to be cancelled.
+     * @return true if the timer was scheduled and is now cancelled.
+     */
+    boolean cancel(final Timer timer)
+    {
+        if (!timer.isScheduled())
+        {
+            return false;
+        }
+
+        if (timer == nextInPoll)
+        {
+            nextInPoll = timer.next;
+        }
+
+        if (null != timer.previous)
+        {
+            timer.previous.next = timer.next;
+        }
+        else
+        {
+            slots[timer.slotIndex] = timer.next;
+        }
+
+        if (null != timer.next)
+        {
+            timer.next.previous = timer.previous;
+        }
+
+        timer.slotIndex = Timer.NOT_SCHEDULED;
+        timer.previous = null;
+        timer.next = null;
+        timerCount--;
+
+        return true;
+    }
+
+    /**
+     * Expire the timers with a deadline at or before now in the ticks which have elapsed since the last poll up to
+     * and including the current tick.
+     *
+     * @param nowNs current time in nanoseconds.
+     * @return number of timers expired.
+     */
+    int poll(final long nowNs)
+    {
+        final long nowTick = (nowNs - startTimeNs) / tickDurationNs;
+        final long ticksToPoll = Math.min(Math.max(nowTick - currentTick, 0) + 1, slots.length);
+        int expired = 0;
+
+        for (long i = 0; i < ticksToPoll; i++)
+        {
+            expired += pollSlot((int)((currentTick + i) & mask), nowNs);
+        }
+
+        currentTick = Math.max(nowTick, currentTick);
+
+        return expired;
+    }
+
+    private int pollSlot(final int slotIndex, final long nowNs)
+    {
+        int expired = 0;
+        Timer timer = slots[slotIndex];
+
+        while (null != timer)
+        {
+            nextInPoll = timer.next;
+
+            if (timer.deadlineNs <= nowNs)
+            {
+                cancel(timer);
+                expired++;
+                timer.onExpiry(nowNs);
+            }
+
+            timer = nextInPoll;
+        }
+
+        nextInPoll = null;
+
+        return expired;
+    }
+}
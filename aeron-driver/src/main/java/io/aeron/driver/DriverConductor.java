@@ -27,6 +27,7 @@ import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.*;
 import io.aeron.driver.uri.AeronUri;
 import org.agrona.BitUtil;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.*;
@@ -52,6 +53,10 @@ import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
 
 /**
  * Driver Conductor that takes commands from publishers and subscribers and orchestrates the media driver.
+ *
+ * Publications and images are kept in lists for their duty cycles. Resources are indexed by registration id and by
+ * channel and stream id so the handling of commands does not scan all resources, and their time events are scheduled
+ * on a timer wheel so only the resources which are due are checked.
  */
 public class DriverConductor implements Agent
 {
@@ -76,13 +81,30 @@ public class DriverConductor implements Agent
     private final ManyToOneConcurrentArrayQueue<DriverConductorCmd> driverCmdQueue;
     private final HashMap<String, SendChannelEndpoint> sendChannelEndpointByChannelMap = new HashMap<>();
     private final HashMap<String, ReceiveChannelEndpoint> receiveChannelEndpointByChannelMap = new HashMap<>();
-    private final ArrayList<PublicationLink> publicationLinks = new ArrayList<>();
     private final ArrayList<NetworkPublication> networkPublications = new ArrayList<>();
-    private final ArrayList<SubscriptionLink> subscriptionLinks = new ArrayList<>();
     private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
-    private final ArrayList<AeronClient> clients = new ArrayList<>();
     private final ArrayList<IpcPublication> ipcPublications = new ArrayList<>();
 
+    private final Long2ObjectHashMap<PublicationLink> publicationLinkByRegistrationIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<NetworkPublication> networkPublicationByRegistrationIdMap =
+        new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<IpcPublication> ipcPublicationByRegistrationIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<SubscriptionLink> subscriptionLinkByRegistrationIdMap =
+        new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<AeronClient> clientByIdMap = new Long2ObjectHashMap<>();
+    private final StreamIndex<NetworkPublication> networkPublicationsByStreamIndex = new StreamIndex<>();
+    private final StreamIndex<IpcPublication> ipcPublicationsByStreamIndex = new StreamIndex<>();
+    private final StreamIndex<PublicationImage> publicationImagesByStreamIndex = new StreamIndex<>();
+    private final StreamIndex<SubscriptionLink> subscriptionLinksByStreamIndex = new StreamIndex<>();
+
+    private final Consumer<AeronClient> onClientRemovedFunc = (client) -> clientByIdMap.remove(client.clientId());
+    private final Consumer<PublicationLink> onPublicationLinkRemovedFunc = this::unindexPublicationLink;
+    private final Consumer<NetworkPublication> onNetworkPublicationRemovedFunc = this::unindexNetworkPublication;
+    private final Consumer<SubscriptionLink> onSubscriptionLinkRemovedFunc = this::onSubscriptionLinkRemoved;
+    private final Consumer<PublicationImage> onPublicationImageRemovedFunc = this::unindexPublicationImage;
+    private final Consumer<IpcPublication> onIpcPublicationRemovedFunc = this::unindexIpcPublication;
+    private final DeadlineTimerWheel timerWheel;
+
     private final EpochClock epochClock;
     private final NanoClock nanoClock;
     private final EpochClock cachedEpochClock = () -> timeInMs;
@@ -125,6 +147,7 @@ public class DriverConductor implements Agent
         timeOfLastTimeoutCheckNs = nowNs;
         timeOfLastToDriverPositionChangeNs = nowNs;
         lastConsumerCommandPosition = toDriverCommands.consumerPosition();
+        timerWheel = new DeadlineTimerWheel(nowNs, CONDUCTOR_TICK_DURATION_NS, CONDUCTOR_TICKS_PER_WHEEL);
     }
 
     public void onClose()
@@ -148,6 +171,7 @@ public class DriverConductor implements Agent
 
         final long nowNs = nanoClock.nanoTime();
         workCount += processTimers(nowNs);
+        workCount += rawLogFactory.doWork();
 
         final ArrayList<PublicationImage> publicationImages = this.publicationImages;
         for (int i = 0, size = publicationImages.size(); i < size; i++)
@@ -240,6 +264,8 @@ public class DriverConductor implements Agent
             }
 
             publicationImages.add(image);
+            scheduleTimeEvents(image, publicationImages, onPublicationImageRemovedFunc);
+            publicationImagesByStreamIndex.add(udpChannel.canonicalForm(), streamId, image);
             receiverProxy.newPublicationImage(channelEndpoint, image);
 
             clientProxy.onAvailableImage(
@@ -264,21 +290,12 @@ public class DriverConductor implements Agent
 
     IpcPublication getSharedIpcPublication(final long streamId)
     {
-        return findSharedIpcPublication(ipcPublications, streamId);
+        return findSharedIpcPublication((int)streamId);
     }
 
     IpcPublication getIpcPublication(final long registrationId)
     {
-        for (int i = 0, size = ipcPublications.size(); i < size; i++)
-        {
-            final IpcPublication publication = ipcPublications.get(i);
-            if (publication.registrationId() == registrationId)
-            {
-                return publication;
-            }
-        }
-
-        return null;
+        return ipcPublicationByRegistrationIdMap.get(registrationId);
     }
 
     void onAddNetworkPublication(
@@ -295,7 +312,7 @@ public class DriverConductor implements Agent
         NetworkPublication publication = null;
         if (!isExclusive)
         {
-            publication = findPublication(networkPublications, streamId, channelEndpoint);
+            publication = findPublication(streamId, channelEndpoint);
         }
 
         if (null == publication)
@@ -308,8 +325,13 @@ public class DriverConductor implements Agent
             throw new IllegalStateException("Existing publication has different MTU length: existing=" +
                 publication.mtuLength() + " requested=" + params.mtuLength);
         }
+        else if (publication.fecGroupSize() != params.fecGroupSize)
+        {
+            throw new IllegalStateException("Existing publication has different FEC group size: existing=" +
+                publication.fecGroupSize() + " requested=" + params.fecGroupSize);
+        }
 
-        publicationLinks.add(new PublicationLink(registrationId, publication, getOrAddClient(clientId)));
+        addPublicationLink(new PublicationLink(registrationId, publication, getOrAddClient(clientId)));
 
         clientProxy.onPublicationReady(
             registrationId,
@@ -351,17 +373,14 @@ public class DriverConductor implements Agent
             RETRANSMIT_UNICAST_DELAY_GENERATOR,
             RETRANSMIT_UNICAST_LINGER_GENERATOR);
 
-        final FlowControl flowControl =
-            udpChannel.isMulticast() || udpChannel.hasExplicitControl() ?
-                context.multicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId) :
-                context.unicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId);
+        final FlowControl flowControl = newFlowControl(udpChannel, streamId, registrationId, params);
 
         final NetworkPublication publication = new NetworkPublication(
             registrationId,
             channelEndpoint,
             nanoClock,
             cachedEpochClock,
-            newNetworkPublicationLog(sessionId, streamId, initialTermId, udpChannel, registrationId, params.termLength),
+            newNetworkPublicationLog(sessionId, streamId, initialTermId, udpChannel, registrationId, params),
             PublisherLimit.allocate(countersManager, registrationId, sessionId, streamId, channel),
             senderPosition,
             senderLimit,
@@ -369,6 +388,9 @@ public class DriverConductor implements Agent
             streamId,
             initialTermId,
             params.mtuLength,
+            params.fecGroupSize,
+            params.pacingRate,
+            params.sendBurstDatagrams,
             context.systemCounters(),
             flowControl,
             retransmitHandler,
@@ -386,12 +408,38 @@ public class DriverConductor implements Agent
 
         channelEndpoint.incRef();
         networkPublications.add(publication);
+        scheduleTimeEvents(publication, networkPublications, onNetworkPublicationRemovedFunc);
+        networkPublicationByRegistrationIdMap.put(registrationId, publication);
+        networkPublicationsByStreamIndex.add(udpChannel.canonicalForm(), streamId, publication);
         senderProxy.newNetworkPublication(publication);
-        linkSpies(subscriptionLinks, publication);
+        linkSpies(publication);
 
         return publication;
     }
 
+    private FlowControl newFlowControl(
+        final UdpChannel udpChannel, final int streamId, final long registrationId, final PublicationParams params)
+    {
+        if (null != params.flowControl)
+        {
+            switch (params.flowControl)
+            {
+                case FLOW_CONTROL_MIN:
+                    return new MinMulticastFlowControl(params.flowControlLaggardTimeoutNs);
+
+                case FLOW_CONTROL_MAX:
+                    return new MaxMulticastFlowControl();
+
+                case FLOW_CONTROL_QUORUM:
+                    return new QuorumMulticastFlowControl(params.flowControlQuorum);
+            }
+        }
+
+        return udpChannel.isMulticast() || udpChannel.hasExplicitControl() ?
+            context.multicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId) :
+            context.unicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId);
+    }
+
     void cleanupSpies(final NetworkPublication publication)
     {
         clientProxy.onUnavailableImage(
@@ -399,6 +447,8 @@ public class DriverConductor implements Agent
             publication.streamId(),
             publication.channelEndpoint().originalUriString());
 
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamIndex.get(
+            publication.channelEndpoint().udpChannel().canonicalForm(), publication.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             subscriptionLinks.get(i).unlink(publication);
@@ -443,7 +493,9 @@ public class DriverConductor implements Agent
     void transitionToLinger(final PublicationImage image)
     {
         clientProxy.onUnavailableImage(image.correlationId(), image.streamId(), image.channelUriString());
-        receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
+        timerWheel.schedule(
+            new CoolDownTimer(image.channelEndpoint(), image.sessionId(), image.streamId()),
+            nanoClock.nanoTime() + IMAGE_COOL_DOWN_TIMEOUT_NS);
     }
 
     void transitionToLinger(final IpcPublication publication)
@@ -453,6 +505,8 @@ public class DriverConductor implements Agent
 
     void cleanupImage(final PublicationImage image)
     {
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamIndex.get(
+            image.channelEndpoint().udpChannel().canonicalForm(), image.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             subscriptionLinks.get(i).unlink(image);
@@ -461,6 +515,8 @@ public class DriverConductor implements Agent
 
     void cleanupIpcPublication(final IpcPublication publication)
     {
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamIndex.get(
+            IPC_CHANNEL, publication.streamId());
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             subscriptionLinks.get(i).unlink(publication);
@@ -474,6 +530,8 @@ public class DriverConductor implements Agent
         final long joiningPosition)
     {
         final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamIndex.get(
+            channelEndpoint.udpChannel().canonicalForm(), streamId);
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
@@ -504,7 +562,7 @@ public class DriverConductor implements Agent
         final boolean isExclusive)
     {
         final IpcPublication ipcPublication = getOrAddIpcPublication(registrationId, streamId, channel, isExclusive);
-        publicationLinks.add(new PublicationLink(registrationId, ipcPublication, getOrAddClient(clientId)));
+        addPublicationLink(new PublicationLink(registrationId, ipcPublication, getOrAddClient(clientId)));
 
         clientProxy.onPublicationReady(
             registrationId,
@@ -519,49 +577,21 @@ public class DriverConductor implements Agent
 
     void onRemovePublication(final long registrationId, final long correlationId)
     {
-        PublicationLink publicationLink = null;
-        final ArrayList<PublicationLink> publicationLinks = this.publicationLinks;
-        for (int i = 0, size = publicationLinks.size(), lastIndex = size - 1; i < size; i++)
-        {
-            final PublicationLink publication = publicationLinks.get(i);
-            if (registrationId == publication.registrationId())
-            {
-                publicationLink = publication;
-                fastUnorderedRemove(publicationLinks, i, lastIndex);
-                break;
-            }
-        }
-
+        final PublicationLink publicationLink = publicationLinkByRegistrationIdMap.remove(registrationId);
         if (null == publicationLink)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
         }
 
         publicationLink.close();
+        rescheduleTimeEvents(publicationLink);
 
         clientProxy.operationSucceeded(correlationId);
     }
 
     void onAddDestination(final long registrationId, final String destinationChannel, final long correlationId)
     {
-        SendChannelEndpoint sendChannelEndpoint = null;
-
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = networkPublications.get(i);
-
-            if (registrationId == publication.registrationId())
-            {
-                sendChannelEndpoint = publication.channelEndpoint();
-                break;
-            }
-        }
-
-        if (null == sendChannelEndpoint)
-        {
-            throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
-        }
-
+        final SendChannelEndpoint sendChannelEndpoint = findSendChannelEndpoint(registrationId);
         sendChannelEndpoint.validateAllowsManualControl();
 
         final AeronUri aeronUri = AeronUri.parse(destinationChannel);
@@ -572,24 +602,7 @@ public class DriverConductor implements Agent
 
     void onRemoveDestination(final long registrationId, final String destinationChannel, final long correlationId)
     {
-        SendChannelEndpoint sendChannelEndpoint = null;
-
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = networkPublications.get(i);
-
-            if (registrationId == publication.registrationId())
-            {
-                sendChannelEndpoint = publication.channelEndpoint();
-                break;
-            }
-        }
-
-        if (null == sendChannelEndpoint)
-        {
-            throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
-        }
-
+        final SendChannelEndpoint sendChannelEndpoint = findSendChannelEndpoint(registrationId);
         sendChannelEndpoint.validateAllowsManualControl();
 
         final AeronUri aeronUri = AeronUri.parse(destinationChannel);
@@ -618,7 +631,7 @@ public class DriverConductor implements Agent
         final SubscriptionLink subscription = new NetworkSubscriptionLink(
             registrationId, channelEndpoint, streamId, channel, client, context.clientLivenessTimeoutNs(), isReliable);
 
-        subscriptionLinks.add(subscription);
+        addSubscriptionLink(subscription);
         clientProxy.operationSucceeded(registrationId);
 
         linkMatchingImages(channelEndpoint, subscription);
@@ -629,9 +642,10 @@ public class DriverConductor implements Agent
         final IpcSubscriptionLink subscription = new IpcSubscriptionLink(
             registrationId, streamId, channel, getOrAddClient(clientId), context.clientLivenessTimeoutNs());
 
-        subscriptionLinks.add(subscription);
+        addSubscriptionLink(subscription);
         clientProxy.operationSucceeded(registrationId);
 
+        final ArrayList<IpcPublication> ipcPublications = ipcPublicationsByStreamIndex.get(IPC_CHANNEL, streamId);
         for (int i = 0, size = ipcPublications.size(); i < size; i++)
         {
             final IpcPublication publication = ipcPublications.get(i);
@@ -649,10 +663,12 @@ public class DriverConductor implements Agent
         final SpySubscriptionLink subscriptionLink = new SpySubscriptionLink(
             registrationId, udpChannel, streamId, client, context.clientLivenessTimeoutNs());
 
-        subscriptionLinks.add(subscriptionLink);
+        addSubscriptionLink(subscriptionLink);
         clientProxy.operationSucceeded(registrationId);
 
         final SendChannelEndpoint channelEndpoint = sendChannelEndpointByChannelMap.get(udpChannel.canonicalForm());
+        final ArrayList<NetworkPublication> networkPublications = networkPublicationsByStreamIndex.get(
+            udpChannel.canonicalForm(), streamId);
 
         for (int i = 0, size = networkPublications.size(); i < size; i++)
         {
@@ -669,13 +685,14 @@ public class DriverConductor implements Agent
 
     void onRemoveSubscription(final long registrationId, final long correlationId)
     {
-        final SubscriptionLink subscription = removeSubscriptionLink(subscriptionLinks, registrationId);
+        final SubscriptionLink subscription = removeSubscriptionLink(registrationId);
         if (null == subscription)
         {
             throw new ControlProtocolException(UNKNOWN_SUBSCRIPTION, "Unknown Subscription: " + registrationId);
         }
 
         subscription.close();
+        rescheduleTimeEvents(subscription);
         final ReceiveChannelEndpoint channelEndpoint = subscription.channelEndpoint();
 
         if (null != channelEndpoint)
@@ -701,25 +718,18 @@ public class DriverConductor implements Agent
     {
         clientKeepAlives.addOrdered(1);
 
-        final AeronClient client = findClient(clients, clientId);
+        final AeronClient client = clientByIdMap.get(clientId);
         if (null != client)
         {
             client.timeOfLastKeepalive(nanoClock.nanoTime());
         }
     }
 
-    private void onHeartbeatCheckTimeouts(final long nowNs)
+    private void onHeartbeat()
     {
         final long nowMs = epochClock.time();
         timeInMs = nowMs;
         toDriverCommands.consumerHeartbeatTime(nowMs);
-
-        onCheckManagedResources(clients, nowNs, nowMs);
-        onCheckManagedResources(publicationLinks, nowNs, nowMs);
-        onCheckManagedResources(networkPublications, nowNs, nowMs);
-        onCheckManagedResources(subscriptionLinks, nowNs, nowMs);
-        onCheckManagedResources(publicationImages, nowNs, nowMs);
-        onCheckManagedResources(ipcPublications, nowNs, nowMs);
     }
 
     private void onCheckForBlockedToDriverCommands(final long nowNs)
@@ -744,11 +754,11 @@ public class DriverConductor implements Agent
         }
     }
 
-    private static NetworkPublication findPublication(
-        final ArrayList<NetworkPublication> publications,
-        final int streamId,
-        final SendChannelEndpoint channelEndpoint)
+    private NetworkPublication findPublication(final int streamId, final SendChannelEndpoint channelEndpoint)
     {
+        final ArrayList<NetworkPublication> publications = networkPublicationsByStreamIndex.get(
+            channelEndpoint.udpChannel().canonicalForm(), streamId);
+
         for (int i = 0, size = publications.size(); i < size; i++)
         {
             final NetworkPublication publication = publications.get(i);
@@ -771,17 +781,17 @@ public class DriverConductor implements Agent
         final int initialTermId,
         final UdpChannel udpChannel,
         final long registrationId,
-        final int termBufferLength)
+        final PublicationParams params)
     {
         final RawLog rawLog = rawLogFactory.newNetworkPublication(
-            udpChannel.canonicalForm(), sessionId, streamId, registrationId, termBufferLength);
+            udpChannel.canonicalForm(), sessionId, streamId, registrationId, params.termLength);
 
         final UnsafeBuffer logMetaData = rawLog.metaData();
         storeDefaultFrameHeader(logMetaData, createDefaultHeader(sessionId, streamId, initialTermId));
         initialiseTailWithTermId(logMetaData, 0, initialTermId);
 
         initialTermId(logMetaData, initialTermId);
-        mtuLength(logMetaData, context.mtuLength());
+        mtuLength(logMetaData, params.mtuLength);
         correlationId(logMetaData, registrationId);
         timeOfLastStatusMessage(logMetaData, 0);
 
@@ -854,7 +864,16 @@ public class DriverConductor implements Agent
             udpChannel.canonicalForm());
         if (null != channelEndpoint)
         {
-            final ArrayList<SubscriptionLink> existingLinks = subscriptionLinks;
+            final int reusePortCount = channelEndpoint.udpChannel().reusePortCount();
+            if (reusePortCount != udpChannel.reusePortCount())
+            {
+                throw new IllegalStateException(
+                    "Option conflicts with existing subscriptions: reuseport-count=" + udpChannel.reusePortCount() +
+                    " existing=" + reusePortCount);
+            }
+
+            final ArrayList<SubscriptionLink> existingLinks = subscriptionLinksByStreamIndex.get(
+                udpChannel.canonicalForm(), streamId);
             for (int i = 0, size = existingLinks.size(); i < size; i++)
             {
                 final SubscriptionLink subscription = existingLinks.get(i);
@@ -872,6 +891,8 @@ public class DriverConductor implements Agent
         final long registrationId = subscription.registrationId();
         final int streamId = subscription.streamId();
         final String channel = subscription.uri();
+        final ArrayList<PublicationImage> publicationImages = publicationImagesByStreamIndex.get(
+            channelEndpoint.udpChannel().canonicalForm(), streamId);
 
         for (int i = 0, size = publicationImages.size(); i < size; i++)
         {
@@ -902,7 +923,7 @@ public class DriverConductor implements Agent
     private void linkIpcSubscriptions(final IpcPublication publication)
     {
         final int streamId = publication.streamId();
-        final ArrayList<SubscriptionLink> subscriptionLinks = this.subscriptionLinks;
+        final ArrayList<SubscriptionLink> subscriptionLinks = subscriptionLinksByStreamIndex.get(IPC_CHANNEL, streamId);
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
@@ -941,6 +962,7 @@ public class DriverConductor implements Agent
         position.setOrdered(joiningPosition);
         subscription.link(publication, position);
         publication.addSubscriber(position);
+        rescheduleTimeEvents(publication);
 
         clientProxy.onAvailableImage(
             publication.registrationId(),
@@ -1000,11 +1022,12 @@ public class DriverConductor implements Agent
 
     private AeronClient getOrAddClient(final long clientId)
     {
-        AeronClient client = findClient(clients, clientId);
+        AeronClient client = clientByIdMap.get(clientId);
         if (null == client)
         {
             client = new AeronClient(clientId, clientLivenessTimeoutNs, nanoClock.nanoTime());
-            clients.add(client);
+            clientByIdMap.put(clientId, client);
+            scheduleTimeEvents(client, null, onClientRemovedFunc);
         }
 
         return client;
@@ -1017,7 +1040,7 @@ public class DriverConductor implements Agent
 
         if (!isExclusive)
         {
-            publication = findSharedIpcPublication(ipcPublications, streamId);
+            publication = findSharedIpcPublication(streamId);
         }
 
         if (null == publication)
@@ -1056,6 +1079,9 @@ public class DriverConductor implements Agent
             isExclusive);
 
         ipcPublications.add(publication);
+        scheduleTimeEvents(publication, ipcPublications, onIpcPublicationRemovedFunc);
+        ipcPublicationByRegistrationIdMap.put(registrationId, publication);
+        ipcPublicationsByStreamIndex.add(IPC_CHANNEL, streamId, publication);
 
         return publication;
     }
@@ -1065,46 +1091,84 @@ public class DriverConductor implements Agent
         return toDriverCommands.nextCorrelationId();
     }
 
-    private static AeronClient findClient(final ArrayList<AeronClient> clients, final long clientId)
+    private SendChannelEndpoint findSendChannelEndpoint(final long registrationId)
     {
-        AeronClient aeronClient = null;
-
-        for (int i = 0, size = clients.size(); i < size; i++)
+        final NetworkPublication publication = networkPublicationByRegistrationIdMap.get(registrationId);
+        if (null == publication)
         {
-            final AeronClient client = clients.get(i);
-            if (client.clientId() == clientId)
-            {
-                aeronClient = client;
-                break;
-            }
+            throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
         }
 
-        return aeronClient;
+        return publication.channelEndpoint();
     }
 
-    private static SubscriptionLink removeSubscriptionLink(
-        final ArrayList<SubscriptionLink> subscriptionLinks, final long registrationId)
+    private void addPublicationLink(final PublicationLink publicationLink)
     {
-        SubscriptionLink subscriptionLink = null;
+        publicationLinkByRegistrationIdMap.put(publicationLink.registrationId(), publicationLink);
+        scheduleTimeEvents(publicationLink, null, onPublicationLinkRemovedFunc);
+    }
+
+    private void addSubscriptionLink(final SubscriptionLink subscriptionLink)
+    {
+        subscriptionLinkByRegistrationIdMap.put(subscriptionLink.registrationId(), subscriptionLink);
+        subscriptionLinksByStreamIndex.add(
+            subscriptionLink.canonicalChannel(), subscriptionLink.streamId(), subscriptionLink);
+        scheduleTimeEvents(subscriptionLink, null, onSubscriptionLinkRemovedFunc);
+    }
 
-        for (int i = 0, size = subscriptionLinks.size(), lastIndex = size - 1; i < size; i++)
+    private SubscriptionLink removeSubscriptionLink(final long registrationId)
+    {
+        final SubscriptionLink subscriptionLink = subscriptionLinkByRegistrationIdMap.remove(registrationId);
+        if (null != subscriptionLink)
         {
-            final SubscriptionLink subscription = subscriptionLinks.get(i);
-            if (subscription.registrationId() == registrationId)
-            {
-                subscriptionLink = subscription;
-                fastUnorderedRemove(subscriptionLinks, i, lastIndex);
-                break;
-            }
+            subscriptionLinksByStreamIndex.remove(
+                subscriptionLink.canonicalChannel(), subscriptionLink.streamId(), subscriptionLink);
         }
 
         return subscriptionLink;
     }
 
-    private static IpcPublication findSharedIpcPublication(
-        final ArrayList<IpcPublication> ipcPublications, final long streamId)
+    private void unindexPublicationLink(final PublicationLink publicationLink)
+    {
+        publicationLinkByRegistrationIdMap.remove(publicationLink.registrationId());
+        rescheduleTimeEvents(publicationLink.publication());
+    }
+
+    private void onSubscriptionLinkRemoved(final SubscriptionLink subscriptionLink)
+    {
+        removeSubscriptionLink(subscriptionLink.registrationId());
+
+        final ArrayList<PublicationImage> images =
+            publicationImagesByStreamIndex.get(subscriptionLink.canonicalChannel(), subscriptionLink.streamId());
+        for (int i = 0, size = images.size(); i < size; i++)
+        {
+            rescheduleTimeEvents(images.get(i));
+        }
+    }
+
+    private void unindexNetworkPublication(final NetworkPublication publication)
+    {
+        networkPublicationByRegistrationIdMap.remove(publication.registrationId());
+        networkPublicationsByStreamIndex.remove(
+            publication.channelEndpoint().udpChannel().canonicalForm(), publication.streamId(), publication);
+    }
+
+    private void unindexIpcPublication(final IpcPublication publication)
+    {
+        ipcPublicationByRegistrationIdMap.remove(publication.registrationId());
+        ipcPublicationsByStreamIndex.remove(IPC_CHANNEL, publication.streamId(), publication);
+    }
+
+    private void unindexPublicationImage(final PublicationImage image)
+    {
+        publicationImagesByStreamIndex.remove(
+            image.channelEndpoint().udpChannel().canonicalForm(), image.streamId(), image);
+    }
+
+    private IpcPublication findSharedIpcPublication(final int streamId)
     {
         IpcPublication ipcPublication = null;
+        final ArrayList<IpcPublication> ipcPublications = ipcPublicationsByStreamIndex.get(IPC_CHANNEL, streamId);
 
         for (int i = 0, size = ipcPublications.size(); i < size; i++)
         {
@@ -1121,26 +1185,28 @@ public class DriverConductor implements Agent
         return ipcPublication;
     }
 
-    private <T extends DriverManagedResource> void onCheckManagedResources(
-        final ArrayList<T> list, final long nowNs, final long nowMs)
+    private <T extends DriverManagedResource> void scheduleTimeEvents(
+        final T resource, final ArrayList<T> resources, final Consumer<T> onRemoved)
     {
-        for (int lastIndex = list.size() - 1, i = lastIndex; i >= 0; i--)
-        {
-            final DriverManagedResource resource = list.get(i);
-
-            resource.onTimeEvent(nowNs, nowMs, this);
+        final ResourceTimer<T> timer = new ResourceTimer<>(resource, resources, onRemoved);
+        resource.timer(timer);
+        timerWheel.schedule(timer, resource.timeOfNextTimeEventNs(nanoClock.nanoTime()));
+    }
 
-            if (resource.hasReachedEndOfLife())
-            {
-                fastUnorderedRemove(list, i, lastIndex);
-                lastIndex--;
-                resource.delete();
-            }
+    private void rescheduleTimeEvents(final DriverManagedResource resource)
+    {
+        final DeadlineTimerWheel.Timer timer = resource.timer();
+        if (null != timer && timer.isScheduled())
+        {
+            timerWheel.schedule(timer, resource.timeOfNextTimeEventNs(nanoClock.nanoTime()));
         }
     }
 
-    private void linkSpies(final ArrayList<SubscriptionLink> links, final NetworkPublication publication)
+    private void linkSpies(final NetworkPublication publication)
     {
+        final ArrayList<SubscriptionLink> links = subscriptionLinksByStreamIndex.get(
+            publication.channelEndpoint().udpChannel().canonicalForm(), publication.streamId());
+
         for (int i = 0, size = links.size(); i < size; i++)
         {
             final SubscriptionLink subscription = links.get(i);
@@ -1157,17 +1223,77 @@ public class DriverConductor implements Agent
 
         if (nowNs > (timeOfLastTimeoutCheckNs + HEARTBEAT_TIMEOUT_NS))
         {
-            onHeartbeatCheckTimeouts(nowNs);
+            onHeartbeat();
             onCheckForBlockedToDriverCommands(nowNs);
             timeOfLastTimeoutCheckNs = nowNs;
             workCount = 1;
         }
 
-        return workCount;
+        return workCount + timerWheel.poll(nowNs);
     }
 
     private static String generateSourceIdentity(final InetSocketAddress address)
     {
         return address.getHostString() + ':' + address.getPort();
     }
+
+    /**
+     * Timer for the time events of a resource which removes the resource once it has reached end of life.
+     */
+    private final class ResourceTimer<T extends DriverManagedResource> extends DeadlineTimerWheel.Timer
+    {
+        private final T resource;
+        private final ArrayList<T> resources;
+        private final Consumer<T> onRemoved;
+
+        ResourceTimer(final T resource, final ArrayList<T> resources, final Consumer<T> onRemoved)
+        {
+            this.resource = resource;
+            this.resources = resources;
+            this.onRemoved = onRemoved;
+        }
+
+        void onExpiry(final long nowNs)
+        {
+            resource.onTimeEvent(nowNs, epochClock.time(), DriverConductor.this);
+
+            if (resource.hasReachedEndOfLife())
+            {
+                if (null != resources)
+                {
+                    fastUnorderedRemove(resources, resource);
+                }
+
+                resource.delete();
+                onRemoved.accept(resource);
+            }
+            else
+            {
+                timerWheel.schedule(this, resource.timeOfNextTimeEventNs(nowNs));
+            }
+        }
+    }
+
+    /**
+     * Timer which ends the cool down of a session on a receive channel endpoint once its image has lingered, so the
+     * session may be seen again as a new image.
+     */
+    private final class CoolDownTimer extends DeadlineTimerWheel.Timer
+    {
+        private final ReceiveChannelEndpoint channelEndpoint;
+        private final int sessionId;
+        private final int streamId;
+
+        CoolDownTimer(final ReceiveChannelEndpoint channelEndpoint, final int sessionId, final int streamId)
+        {
+            this.channelEndpoint = channelEndpoint;
+            this.sessionId = sessionId;
+            this.streamId = streamId;
+        }
+
+        void onExpiry(final long nowNs)
+        {
+            receiverProxy.removeCoolDown(channelEndpoint, sessionId, streamId);
+        }
+    }
 }
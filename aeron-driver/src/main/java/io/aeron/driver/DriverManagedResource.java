@@ -35,6 +35,38 @@ public interface DriverManagedResource extends ManagedResource
      */
     boolean hasReachedEndOfLife();
 
+    /**
+     * Time in nanoseconds at or after which {@link #onTimeEvent(long, long, DriverConductor)} should next be called.
+     * By default this is the heartbeat interval, for resources whose state depends on more than the passing of time.
+     *
+     * @param timeNs now in nanoseconds
+     * @return deadline in nanoseconds for the next time event
+     */
+    default long timeOfNextTimeEventNs(final long timeNs)
+    {
+        return timeNs + Configuration.HEARTBEAT_TIMEOUT_NS;
+    }
+
+    /**
+     * Keep the timer which schedules the time events of this resource so the {@link DriverConductor} can reschedule
+     * it when a command changes the next deadline. By default the timer is not kept.
+     *
+     * @param timer which schedules the time events of this resource.
+     */
+    default void timer(final DeadlineTimerWheel.Timer timer)
+    {
+    }
+
+    /**
+     * Timer which schedules the time events of this resource.
+     *
+     * @return timer which schedules the time events of this resource or null if not kept.
+     */
+    default DeadlineTimerWheel.Timer timer()
+    {
+        return null;
+    }
+
     /**
      * Increment reference count to this resource.
      *
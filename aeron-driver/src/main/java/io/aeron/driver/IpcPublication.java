@@ -25,7 +25,10 @@ import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.Position;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import static io.aeron.driver.Configuration.HEARTBEAT_TIMEOUT_NS;
 import static io.aeron.driver.Configuration.PUBLICATION_LINGER_NS;
+import static io.aeron.driver.Configuration.TERM_CLEAN_CHUNK_LENGTH;
+import static io.aeron.driver.Configuration.termCleanLength;
 import static io.aeron.driver.status.SystemCounterDescriptor.UNBLOCKED_PUBLICATIONS;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 
@@ -55,6 +58,7 @@ public class IpcPublication implements DriverManagedResource, Subscribable
     private long timeOfLastConsumerPositionChange = 0;
     private long cleanPosition = 0;
     private long timeOfLastStatusChange = 0;
+    private DeadlineTimerWheel.Timer timer;
     private int refCount = 0;
     private boolean reachedEndOfLife = false;
     private final boolean isExclusive;
@@ -92,6 +96,7 @@ public class IpcPublication implements DriverManagedResource, Subscribable
         this.unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
 
         consumerPosition = producerPosition();
+        cleanPosition = consumerPosition;
     }
 
     public int sessionId()
@@ -166,13 +171,14 @@ public class IpcPublication implements DriverManagedResource, Subscribable
         }
         else
         {
-            final long proposedLimit = minSubscriberPosition + termWindowLength;
+            workCount += cleanBuffer(minSubscriberPosition);
+
+            final long proposedLimit = Math.min(
+                minSubscriberPosition + termWindowLength, cleanPosition + (rawLog.termLength() * 2L));
             if (proposedLimit > tripLimit)
             {
                 publisherLimit.setOrdered(proposedLimit);
                 tripLimit = proposedLimit + tripGain;
-
-                cleanBuffer(minSubscriberPosition);
                 workCount = 1;
             }
 
@@ -183,20 +189,25 @@ public class IpcPublication implements DriverManagedResource, Subscribable
         return workCount;
     }
 
-    private void cleanBuffer(final long minConsumerPosition)
+    private int cleanBuffer(final long minConsumerPosition)
     {
+        int workCount = 0;
         final long cleanPosition = this.cleanPosition;
         final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
-        final int bytesForCleaning = (int)(minConsumerPosition - cleanPosition);
         final int bufferCapacity = dirtyTerm.capacity();
+        final int bytesForCleaning = (int)Math.min(minConsumerPosition - cleanPosition, bufferCapacity);
         final int termOffset = (int)cleanPosition & (bufferCapacity - 1);
-        final int length = Math.min(bytesForCleaning, bufferCapacity - termOffset);
+        final int length = Math.min(
+            bytesForCleaning, termCleanLength(bufferCapacity - termOffset, TERM_CLEAN_CHUNK_LENGTH));
 
         if (length > 0)
         {
             dirtyTerm.setMemory(termOffset, length, (byte)0);
             this.cleanPosition = cleanPosition + length;
+            workCount = 1;
         }
+
+        return workCount;
     }
 
     public long joiningPosition()
@@ -247,6 +258,50 @@ public class IpcPublication implements DriverManagedResource, Subscribable
         return reachedEndOfLife;
     }
 
+    /**
+     * An active publication is next due when it could be found blocked, or on the heartbeat interval while it has
+     * subscribers so the time of last status message keeps it connected. A lingering publication is next due when
+     * its linger ends, and an inactive one is polled on the heartbeat interval until drained.
+     *
+     * @param timeNs now in nanoseconds
+     * @return deadline in nanoseconds for the next time event
+     */
+    public long timeOfNextTimeEventNs(final long timeNs)
+    {
+        final long deadlineNs;
+        switch (status)
+        {
+            case ACTIVE:
+                final long unblockDeadlineNs = timeOfLastConsumerPositionChange + unblockTimeoutNs + 1;
+                final long sampleDeadlineNs =
+                    unblockDeadlineNs > timeNs ? unblockDeadlineNs : timeNs + unblockTimeoutNs;
+
+                deadlineNs = subscriberPositions.length > 0 ?
+                    Math.min(sampleDeadlineNs, timeNs + HEARTBEAT_TIMEOUT_NS) : sampleDeadlineNs;
+                break;
+
+            case LINGER:
+                deadlineNs = timeOfLastStatusChange + PUBLICATION_LINGER_NS + 1;
+                break;
+
+            default:
+                deadlineNs = timeNs + HEARTBEAT_TIMEOUT_NS;
+                break;
+        }
+
+        return deadlineNs;
+    }
+
+    public void timer(final DeadlineTimerWheel.Timer timer)
+    {
+        this.timer = timer;
+    }
+
+    public DeadlineTimerWheel.Timer timer()
+    {
+        return timer;
+    }
+
     public void timeOfLastStateChange(final long time)
     {
         timeOfLastStatusChange = time;
@@ -23,29 +23,52 @@ import static io.aeron.logbuffer.TermGapScanner.scanForGap;
 /**
  * Detecting and handling of gaps in a message stream.
  *
- * Each detector only notifies a single run of a gap in a message stream.
+ * Each detector notifies up to a configured number of runs of gaps in a message stream from the rebuild position
+ * up to the high-water-mark within the term being rebuilt. Gaps found in the same scan are notified together so they
+ * can be repaired in a single round trip.
+ *
+ * Each gap has its own timer. A gap which overlaps a gap from the previous scan, such as one which has been partly
+ * filled, keeps the timer of that gap so continuous loss elsewhere in the term cannot keep pushing its feedback back.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
-    private static final long TIMER_INACTIVE = -1;
-
     private final FeedbackDelayGenerator delayGenerator;
     private final LossHandler lossHandler;
-    private final Gap scannedGap = new Gap();
-    private final Gap activeGap = new Gap();
+    private final Gap[] scannedGaps;
+    private final Gap[] activeGaps;
+    private int scannedGapCount = 0;
+    private int activeGapCount = 0;
 
-    private long expiry = TIMER_INACTIVE;
+    /**
+     * Create a loss detector for a channel which notifies up to {@link Configuration#LOSS_DETECTOR_MAX_GAPS}.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling a gap
+     */
+    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, Configuration.LOSS_DETECTOR_MAX_GAPS);
+    }
 
     /**
      * Create a loss detector for a channel.
      *
      * @param delayGenerator to use for delay determination
      * @param lossHandler    to call when signalling a gap
+     * @param maxGaps        to be tracked and notified from a single scan
      */
-    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    public LossDetector(
+        final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGaps)
     {
+        if (maxGaps < 1)
+        {
+            throw new IllegalArgumentException("maxGaps must be at least 1: " + maxGaps);
+        }
+
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+        this.scannedGaps = newGaps(maxGaps);
+        this.activeGaps = newGaps(maxGaps);
     }
 
     /**
@@ -83,17 +106,18 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termBuffer.capacity();
 
+            scannedGapCount = 0;
             rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
             if (rebuildOffset < limitOffset)
             {
-                if (!scannedGap.matches(activeGap))
-                {
-                    activateGap(now, scannedGap);
-                    lossFound = true;
-                }
-
+                scanForFurtherGaps(termBuffer, rebuildTermId, limitOffset);
+                lossFound = activateGaps(now);
                 checkTimerExpiry(now);
             }
+            else
+            {
+                activeGapCount = 0;
+            }
         }
 
         return pack(rebuildOffset, lossFound);
@@ -101,7 +125,7 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     public void onGap(final int termId, final int offset, final int length)
     {
-        scannedGap.set(termId, offset, length);
+        scannedGaps[scannedGapCount++].set(termId, offset, length);
     }
 
     /**
@@ -138,27 +162,85 @@ public class LossDetector implements TermGapScanner.GapHandler
         return (int)(scanOutcome >>> 32);
     }
 
-    private void activateGap(final long now, final Gap gap)
+    private void scanForFurtherGaps(final UnsafeBuffer termBuffer, final int termId, final int limitOffset)
+    {
+        final Gap[] scannedGaps = this.scannedGaps;
+        while (scannedGapCount < scannedGaps.length)
+        {
+            final Gap lastGap = scannedGaps[scannedGapCount - 1];
+            final int offset = lastGap.termOffset + lastGap.length;
+            if (offset >= limitOffset || scanForGap(termBuffer, termId, offset, limitOffset, this) >= limitOffset)
+            {
+                break;
+            }
+        }
+    }
+
+    private boolean activateGaps(final long now)
     {
-        activeGap.set(gap.termId, gap.termOffset, gap.length);
+        boolean hasNewGap = false;
+
+        for (int i = 0; i < scannedGapCount; i++)
+        {
+            final Gap gap = scannedGaps[i];
+            final Gap activeGap = findOverlappingActiveGap(gap);
+            if (null != activeGap)
+            {
+                gap.expiry = activeGap.expiry;
+            }
+            else
+            {
+                gap.expiry = delayGenerator.shouldFeedbackImmediately() ? now : now + delayGenerator.generateDelay();
+                hasNewGap = true;
+            }
+        }
 
-        if (delayGenerator.shouldFeedbackImmediately())
+        for (int i = 0; i < scannedGapCount; i++)
         {
-            expiry = now;
+            activeGaps[i].set(scannedGaps[i]);
         }
-        else
+
+        activeGapCount = scannedGapCount;
+
+        return hasNewGap;
+    }
+
+    private Gap findOverlappingActiveGap(final Gap gap)
+    {
+        for (int i = 0; i < activeGapCount; i++)
         {
-            expiry = now + delayGenerator.generateDelay();
+            final Gap activeGap = activeGaps[i];
+            if (gap.overlaps(activeGap))
+            {
+                return activeGap;
+            }
         }
+
+        return null;
     }
 
     private void checkTimerExpiry(final long now)
     {
-        if (now >= expiry)
+        for (int i = 0; i < activeGapCount; i++)
+        {
+            final Gap gap = activeGaps[i];
+            if (now >= gap.expiry)
+            {
+                lossHandler.onGapDetected(gap.termId, gap.termOffset, gap.length);
+                gap.expiry = now + delayGenerator.generateDelay();
+            }
+        }
+    }
+
+    private static Gap[] newGaps(final int length)
+    {
+        final Gap[] gaps = new Gap[length];
+        for (int i = 0; i < length; i++)
         {
-            lossHandler.onGapDetected(activeGap.termId, activeGap.termOffset, activeGap.length);
-            expiry = now + delayGenerator.generateDelay();
+            gaps[i] = new Gap();
         }
+
+        return gaps;
     }
 
     static final class Gap
@@ -166,6 +248,7 @@ public class LossDetector implements TermGapScanner.GapHandler
         int termId;
         int termOffset = -1;
         int length;
+        long expiry;
 
         public void set(final int termId, final int termOffset, final int length)
         {
@@ -174,9 +257,17 @@ public class LossDetector implements TermGapScanner.GapHandler
             this.length = length;
         }
 
-        public boolean matches(final Gap other)
+        public void set(final Gap other)
+        {
+            set(other.termId, other.termOffset, other.length);
+            this.expiry = other.expiry;
+        }
+
+        public boolean overlaps(final Gap other)
         {
-            return other.termId == this.termId && other.termOffset == this.termOffset;
+            return other.termId == this.termId &&
+                other.termOffset < this.termOffset + this.length &&
+                this.termOffset < other.termOffset + other.length;
         }
     }
 }
@@ -41,6 +41,7 @@ import java.net.StandardSocketOptions;
 import java.net.URL;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.DatagramChannel;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.concurrent.ThreadFactory;
@@ -395,6 +396,9 @@ public final class MediaDriver implements AutoCloseable
 
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
+        final File logBufferDir = new File(ctx.logBufferDirectoryName());
+        validateLogBufferDirectory(logBufferDir, ctx.aeronDirectory());
+
         if (ctx.aeronDirectory().isDirectory())
         {
             if (ctx.warnIfDirectoriesExist())
@@ -425,6 +429,36 @@ public final class MediaDriver implements AutoCloseable
         }
 
         IoUtil.ensureDirectoryExists(ctx.aeronDirectory(), "aeron");
+
+        if (!logBufferDir.equals(ctx.aeronDirectory()))
+        {
+            IoUtil.ensureDirectoryExists(logBufferDir, "log buffer");
+
+            for (final File dir : RawLogFactory.logDirectories(logBufferDir))
+            {
+                if (dir.exists())
+                {
+                    if (ctx.warnIfDirectoriesExist())
+                    {
+                        System.err.println("WARNING: " + dir + " already exists.");
+                    }
+
+                    IoUtil.delete(dir, false);
+                }
+            }
+        }
+    }
+
+    private static void validateLogBufferDirectory(final File logBufferDir, final File aeronDir)
+    {
+        final Path logBufferPath = logBufferDir.getAbsoluteFile().toPath().normalize();
+        final Path aeronPath = aeronDir.getAbsoluteFile().toPath().normalize();
+
+        if (!logBufferPath.equals(aeronPath) && aeronPath.startsWith(logBufferPath))
+        {
+            throw new ConfigurationException(
+                "Log buffer directory must not contain the aeron directory: " + logBufferDir);
+        }
     }
 
     private static void reportExistingErrors(final Context ctx, final MappedByteBuffer cncByteBuffer)
@@ -489,6 +523,7 @@ public final class MediaDriver implements AutoCloseable
         private long imageLivenessTimeoutNs = Configuration.IMAGE_LIVENESS_TIMEOUT_NS;
         private long clientLivenessTimeoutNs = Configuration.CLIENT_LIVENESS_TIMEOUT_NS;
         private long publicationUnblockTimeoutNs = Configuration.PUBLICATION_UNBLOCK_TIMEOUT_NS;
+        private int sendBurstDatagrams = Configuration.SEND_BURST_DATAGRAMS;
 
         private Boolean termBufferSparseFile;
         private int publicationTermBufferLength;
@@ -500,6 +535,8 @@ public final class MediaDriver implements AutoCloseable
 
         private boolean warnIfDirectoriesExist;
         private boolean dirsDeleteOnStart;
+        private String logBufferDirectoryName = Configuration.LOG_BUFFER_DIR;
+        private int filePageLength = Configuration.FILE_PAGE_LENGTH;
         private ThreadingMode threadingMode;
         private ThreadFactory conductorThreadFactory;
         private ThreadFactory senderThreadFactory;
@@ -557,6 +594,7 @@ public final class MediaDriver implements AutoCloseable
                 }
 
                 Configuration.validateInitialWindowLength(initialWindowLength(), mtuLength());
+                Configuration.validateFilePageLength(filePageLength);
 
                 cncByteBuffer = mapNewFile(
                     cncFile(),
@@ -608,11 +646,7 @@ public final class MediaDriver implements AutoCloseable
                 driverConductorProxy(new DriverConductorProxy(
                     threadingMode, driverCommandQueue, systemCounters.get(CONDUCTOR_PROXY_FAILS)));
 
-                rawLogBuffersFactory(new RawLogFactory(
-                    aeronDirectoryName(),
-                    maxTermBufferLength,
-                    termBufferSparseFile,
-                    errorLog));
+                concludeRawLogFactory();
 
                 if (null == lossReport)
                 {
@@ -928,6 +962,21 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Set the default max number of datagrams a network publication may send in a single Sender duty cycle.
+         *
+         * @param sendBurstDatagrams max number of datagrams per duty cycle unless overridden on the channel.
+         * @return this Object for method chaining.
+         * @see Configuration#SEND_BURST_DATAGRAMS_PROP_NAME
+         * @see CommonContext#SEND_BURST_PARAM_NAME
+         */
+        public Context sendBurstDatagrams(final int sendBurstDatagrams)
+        {
+            Configuration.validateSendBurstDatagrams(sendBurstDatagrams);
+            this.sendBurstDatagrams = sendBurstDatagrams;
+            return this;
+        }
+
         public Context systemCounters(final SystemCounters systemCounters)
         {
             this.systemCounters = systemCounters;
@@ -982,6 +1031,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Set the directory in which log buffers are created, which can be on a hugetlbfs mount.
+         *
+         * @param dirName for the log buffers or null to use the aeron directory.
+         * @return this Object for method chaining.
+         * @see Configuration#LOG_BUFFER_DIR_PROP_NAME
+         */
+        public Context logBufferDirectoryName(final String dirName)
+        {
+            this.logBufferDirectoryName = dirName;
+            return this;
+        }
+
+        /**
+         * Set the page length of the file system on which log buffers are created.
+         *
+         * @param filePageLength of the file system on which log buffers are created.
+         * @return this Object for method chaining.
+         * @see Configuration#FILE_PAGE_LENGTH_PROP_NAME
+         */
+        public Context filePageLength(final int filePageLength)
+        {
+            this.filePageLength = filePageLength;
+            return this;
+        }
+
         /**
          * @see CommonContext#aeronDirectoryName(String)
          */
@@ -1171,6 +1246,11 @@ public final class MediaDriver implements AutoCloseable
             return publicationUnblockTimeoutNs;
         }
 
+        public int sendBurstDatagrams()
+        {
+            return sendBurstDatagrams;
+        }
+
         public int publicationTermBufferLength()
         {
             return publicationTermBufferLength;
@@ -1249,6 +1329,26 @@ public final class MediaDriver implements AutoCloseable
             return dirsDeleteOnStart;
         }
 
+        /**
+         * Get the directory in which log buffers are created.
+         *
+         * @return the directory in which log buffers are created, which defaults to the aeron directory.
+         */
+        public String logBufferDirectoryName()
+        {
+            return null != logBufferDirectoryName ? logBufferDirectoryName : aeronDirectoryName();
+        }
+
+        /**
+         * Get the page length of the file system on which log buffers are created.
+         *
+         * @return the page length of the file system on which log buffers are created.
+         */
+        public int filePageLength()
+        {
+            return filePageLength;
+        }
+
         public SendChannelEndpointSupplier sendChannelEndpointSupplier()
         {
             return sendChannelEndpointSupplier;
@@ -1277,12 +1377,28 @@ public final class MediaDriver implements AutoCloseable
         public void close()
         {
             // do not close the systemsCounters so that all counters are kept as is.
+            CloseHelper.quietClose(rawLogFactory);
             IoUtil.unmap(cncByteBuffer);
             IoUtil.unmap(lossReportBuffer);
 
             super.close();
         }
 
+        private void concludeRawLogFactory()
+        {
+            rawLogBuffersFactory(new RawLogFactory(
+                logBufferDirectoryName(),
+                maxTermBufferLength,
+                termBufferSparseFile,
+                filePageLength,
+                errorLog,
+                LOG_POOL_MAX_LENGTH,
+                systemCounters.get(LOG_POOL_HITS),
+                systemCounters.get(LOG_POOL_MISSES)));
+
+            rawLogFactory.preallocate(publicationTermBufferLength, LOG_POOL_PREALLOCATE_COUNT);
+        }
+
         private void concludeCounters()
         {
             if (countersManager() == null)
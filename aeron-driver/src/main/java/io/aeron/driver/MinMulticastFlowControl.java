@@ -16,10 +16,10 @@
 package io.aeron.driver;
 
 import io.aeron.protocol.StatusMessageFlyweight;
-import org.agrona.collections.ArrayListUtil;
+import org.agrona.collections.Long2ObjectHashMap;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -31,6 +31,11 @@ import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
  *
  * Tracking of receivers is done as long as they continue to send Status Messages. Once SMs stop, the receiver tracking
  * for that receiver will timeout after a given number of nanoseconds.
+ *
+ * With a laggard timeout a receiver which is still sending SMs can also be dropped. When the slowest receiver has held
+ * the flow control limit at the same position for the laggard timeout while another receiver has consumed up to that
+ * limit, the slowest receiver is no longer considered for the minimum until it has consumed up to the limit it was
+ * holding. The last tracked receiver is never dropped as a laggard.
  */
 public class MinMulticastFlowControl implements FlowControl
 {
@@ -46,7 +51,44 @@ public class MinMulticastFlowControl implements FlowControl
 
     private static final long RECEIVER_TIMEOUT = Long.getLong(RECEIVER_TIMEOUT_PROP_NAME, RECEIVER_TIMEOUT_DEFAULT);
 
-    private final ArrayList<Receiver> receiverList = new ArrayList<>();
+    /**
+     * Property name to set timeout, in nanoseconds, for a slow receiver to hold the sender back before it is dropped.
+     */
+    private static final String LAGGARD_TIMEOUT_PROP_NAME = "aeron.MinMulticastFlowControl.laggardTimeout";
+
+    /**
+     * Default laggard timeout, in nanoseconds. 0 means slow receivers are never dropped while they send SMs.
+     */
+    private static final long LAGGARD_TIMEOUT_DEFAULT = 0;
+
+    public static final long LAGGARD_TIMEOUT = Long.getLong(LAGGARD_TIMEOUT_PROP_NAME, LAGGARD_TIMEOUT_DEFAULT);
+
+    private final long laggardTimeoutNs;
+    private final ReceiverPositionTracker receivers = new ReceiverPositionTracker(Integer.MAX_VALUE);
+    private final Long2ObjectHashMap<Laggard> laggardById = new Long2ObjectHashMap<>();
+    private long maxReceiverPosition = Long.MIN_VALUE;
+    private long heldLimitPosition = Long.MIN_VALUE;
+    private long timeOfLimitChangeNs;
+
+    public MinMulticastFlowControl()
+    {
+        this(LAGGARD_TIMEOUT);
+    }
+
+    /**
+     * Construct a minimum multicast flow control which drops slow receivers after a timeout.
+     *
+     * @param laggardTimeoutNs for the slowest receiver to hold the sender back, or 0 to never drop it.
+     */
+    public MinMulticastFlowControl(final long laggardTimeoutNs)
+    {
+        if (laggardTimeoutNs < 0)
+        {
+            throw new IllegalArgumentException("laggard timeout must be >= 0: " + laggardTimeoutNs);
+        }
+
+        this.laggardTimeoutNs = laggardTimeoutNs;
+    }
 
     /**
      * {@inheritDoc}
@@ -65,33 +107,25 @@ public class MinMulticastFlowControl implements FlowControl
             positionBitsToShift,
             initialTermId);
 
-        final long windowLength = flyweight.receiverWindowLength();
         final long receiverId = flyweight.receiverId();
-        boolean isExisting = false;
-        long minPosition = Long.MAX_VALUE;
+        maxReceiverPosition = Math.max(maxReceiverPosition, position);
 
-        final ArrayList<Receiver> receiverList = this.receiverList;
-        for (int i = 0, size = receiverList.size(); i < size; i++)
+        final Laggard laggard = laggardById.get(receiverId);
+        if (null != laggard)
         {
-            final Receiver receiver = receiverList.get(i);
-
-            if (receiverId == receiver.receiverId)
+            if (position < laggard.catchUpPosition)
             {
-                receiver.lastPositionPlusWindow = position + windowLength;
-                receiver.timeOfLastStatusMessage = nowNs;
-                isExisting = true;
+                laggard.timeOfLastStatusMessageNs = nowNs;
+
+                return Math.max(senderLimit, minPosition(nowNs));
             }
 
-            minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+            laggardById.remove(receiverId);
         }
 
-        if (!isExisting)
-        {
-            receiverList.add(new Receiver(position + windowLength, nowNs, receiverId, receiverAddress));
-            minPosition = Math.min(minPosition, position + windowLength);
-        }
+        receivers.onStatusMessage(receiverId, position + flyweight.receiverWindowLength(), nowNs, receiverAddress);
 
-        return Math.max(senderLimit, minPosition);
+        return Math.max(senderLimit, minPosition(nowNs));
     }
 
     /**
@@ -106,43 +140,62 @@ public class MinMulticastFlowControl implements FlowControl
      */
     public long onIdle(final long nowNs, final long senderLimit)
     {
-        long minPosition = Long.MAX_VALUE;
-        final ArrayList<Receiver> receiverList = this.receiverList;
+        receivers.removeTimedOut(nowNs, RECEIVER_TIMEOUT);
+        if (!laggardById.isEmpty())
+        {
+            removeTimedOutLaggards(nowNs);
+        }
+
+        return receivers.size() > 0 ? minPosition(nowNs) : senderLimit;
+    }
+
+    private long minPosition(final long nowNs)
+    {
+        long position = receivers.quorumPosition();
 
-        for (int lastIndex = receiverList.size() - 1, i = lastIndex; i >= 0; i--)
+        if (laggardTimeoutNs > 0 && receivers.size() > 1)
         {
-            final Receiver receiver = receiverList.get(i);
-            if (nowNs > (receiver.timeOfLastStatusMessage + RECEIVER_TIMEOUT))
+            if (position != heldLimitPosition)
             {
-                ArrayListUtil.fastUnorderedRemove(receiverList, i, lastIndex);
-                lastIndex--;
+                heldLimitPosition = position;
+                timeOfLimitChangeNs = nowNs;
             }
-            else
+            else if (maxReceiverPosition >= position && nowNs > (timeOfLimitChangeNs + laggardTimeoutNs))
             {
-                minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+                final long receiverId = receivers.quorumReceiverId();
+                receivers.remove(receiverId);
+                laggardById.put(receiverId, new Laggard(position, nowNs));
+
+                position = receivers.quorumPosition();
+                heldLimitPosition = position;
+                timeOfLimitChangeNs = nowNs;
             }
         }
 
-        return receiverList.size() > 0 ? minPosition : senderLimit;
+        return position;
     }
 
-    static class Receiver
+    private void removeTimedOutLaggards(final long nowNs)
     {
-        long lastPositionPlusWindow;
-        long timeOfLastStatusMessage;
-        long receiverId;
-        InetSocketAddress address;
-
-        Receiver(
-            final long lastPositionPlusWindow,
-            final long now,
-            final long receiverId,
-            final InetSocketAddress receiverAddress)
+        final Iterator<Laggard> iterator = laggardById.values().iterator();
+        while (iterator.hasNext())
+        {
+            if (nowNs > (iterator.next().timeOfLastStatusMessageNs + RECEIVER_TIMEOUT))
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    static final class Laggard
+    {
+        final long catchUpPosition;
+        long timeOfLastStatusMessageNs;
+
+        Laggard(final long catchUpPosition, final long nowNs)
         {
-            this.lastPositionPlusWindow = lastPositionPlusWindow;
-            this.timeOfLastStatusMessage = now;
-            this.receiverId = receiverId;
-            this.address = receiverAddress;
+            this.catchUpPosition = catchUpPosition;
+            this.timeOfLastStatusMessageNs = nowNs;
         }
     }
-}
\ No newline at end of file
+}
@@ -21,9 +21,12 @@ import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferUnblocker;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.BufferUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.NanoClock;
@@ -34,12 +37,16 @@ import org.agrona.concurrent.status.ReadablePosition;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.Aeron.PUBLICATION_CONNECTION_TIMEOUT_MS;
 import static io.aeron.driver.Configuration.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.logbuffer.TermScanner.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.align;
 
 class NetworkPublicationPadding1
 {
@@ -70,6 +77,10 @@ class NetworkPublicationSenderFields extends NetworkPublicationPadding2
     protected long timeOfLastSetupNs;
     protected boolean trackSenderLimits = true;
     protected boolean shouldSendSetupFrame = true;
+    protected int fecDatagramCount = 0;
+    protected int fecParityLength = 0;
+    protected long pacingTokens;
+    protected long timeOfLastPacingRefillNs;
 }
 
 class NetworkPublicationPadding3 extends NetworkPublicationSenderFields
@@ -96,6 +107,11 @@ public class NetworkPublication
     private final int initialTermId;
     private final int termLengthMask;
     private final int mtuLength;
+    private final int fecGroupSize;
+    private final long pacingRate;
+    private final int sendBurstDatagrams;
+    private final long pacingCapacity;
+    private final long pacingRefillNs;
     private final int termWindowLength;
     private final int sessionId;
     private final int streamId;
@@ -103,6 +119,7 @@ public class NetworkPublication
     private volatile boolean isConnected;
     private volatile boolean hasSenderReleased;
     private Status status = Status.ACTIVE;
+    private DeadlineTimerWheel.Timer timer;
 
     private final UnsafeBuffer[] termBuffers;
     private final ByteBuffer[] sendBuffers;
@@ -116,6 +133,9 @@ public class NetworkPublication
     private final SetupFlyweight setupHeader;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementHeader;
+    private final ByteBuffer fecBuffer;
+    private final FecFlyweight fecHeader;
+    private final UnsafeBuffer fecParity;
     private final FlowControl flowControl;
     private final NanoClock nanoClock;
     private final EpochClock epochClock;
@@ -123,9 +143,12 @@ public class NetworkPublication
     private final RawLog rawLog;
     private final AtomicCounter heartbeatsSent;
     private final AtomicCounter retransmitsSent;
+    private final AtomicCounter retransmittedBytes;
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
+    private final AtomicCounter fecParityFramesSent;
+    private final AtomicCounter senderPacingDelays;
 
     public NetworkPublication(
         final long registrationId,
@@ -140,6 +163,9 @@ public class NetworkPublication
         final int streamId,
         final int initialTermId,
         final int mtuLength,
+        final int fecGroupSize,
+        final long pacingRate,
+        final int sendBurstDatagrams,
         final SystemCounters systemCounters,
         final FlowControl flowControl,
         final RetransmitHandler retransmitHandler,
@@ -159,6 +185,9 @@ public class NetworkPublication
         this.retransmitHandler = retransmitHandler;
         this.publisherLimit = publisherLimit;
         this.mtuLength = mtuLength;
+        this.fecGroupSize = fecGroupSize;
+        this.pacingRate = pacingRate;
+        this.sendBurstDatagrams = sendBurstDatagrams;
         this.initialTermId = initialTermId;
         this.sessionId = sessionId;
         this.streamId = streamId;
@@ -174,20 +203,48 @@ public class NetworkPublication
         heartbeatsSent = systemCounters.get(HEARTBEATS_SENT);
         shortSends = systemCounters.get(SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
+        retransmittedBytes = systemCounters.get(RETRANSMITTED_BYTES);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
+        fecParityFramesSent = systemCounters.get(FEC_PARITY_FRAMES_SENT);
+        senderPacingDelays = systemCounters.get(SENDER_PACING_DELAYS);
+
+        if (fecGroupSize > 0)
+        {
+            fecBuffer = BufferUtil.allocateDirectAligned(
+                align(FecFlyweight.parityOffset(fecGroupSize), FRAME_ALIGNMENT) + mtuLength, FRAME_ALIGNMENT);
+            fecHeader = new FecFlyweight(fecBuffer);
+            fecHeader
+                .sessionId(sessionId)
+                .streamId(streamId)
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .headerType(HeaderFlyweight.HDR_TYPE_FEC);
+            fecParity = new UnsafeBuffer(BufferUtil.allocateDirectAligned(mtuLength, FRAME_ALIGNMENT));
+        }
+        else
+        {
+            fecBuffer = null;
+            fecHeader = null;
+            fecParity = null;
+        }
 
         termBuffers = rawLog.termBuffers();
         sendBuffers = rawLog.sliceTerms();
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
+        cleanPosition = senderPosition.get();
         flowControl.initialize(initialTermId, termLength);
 
         final long nowNs = nanoClock.nanoTime();
         timeOfLastSendOrHeartbeatNs = nowNs - PUBLICATION_HEARTBEAT_TIMEOUT_NS - 1;
         timeOfLastSetupNs = nowNs - PUBLICATION_SETUP_TIMEOUT_NS - 1;
 
+        pacingCapacity = (long)mtuLength * sendBurstDatagrams;
+        pacingRefillNs = pacingRate > 0 ? Math.max(1, (pacingCapacity * 1_000_000_000L) / pacingRate) : 0;
+        pacingTokens = pacingCapacity;
+        timeOfLastPacingRefillNs = nowNs;
+
         positionBitsToShift = Integer.numberOfTrailingZeros(termLength);
         termWindowLength = Configuration.publicationTermWindowLength(termLength);
     }
@@ -210,6 +267,11 @@ public class NetworkPublication
         return mtuLength;
     }
 
+    public int fecGroupSize()
+    {
+        return fecGroupSize;
+    }
+
     public long registrationId()
     {
         return registrationId;
@@ -260,6 +322,11 @@ public class NetworkPublication
     }
 
     public void resend(final int termId, final int termOffset, final int length)
+    {
+        resend(termId, termOffset, length, null);
+    }
+
+    public void resend(final int termId, final int termOffset, final int length, final InetSocketAddress destination)
     {
         final long senderPosition = this.senderPosition.get();
         final long resendPosition = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
@@ -272,6 +339,7 @@ public class NetworkPublication
 
             int remainingBytes = length;
             int bytesSent = 0;
+            int totalBytesSent = 0;
             int offset = termOffset;
             do
             {
@@ -286,7 +354,9 @@ public class NetworkPublication
 
                 sendBuffer.limit(offset + available).position(offset);
 
-                if (available != channelEndpoint.send(sendBuffer))
+                final int sent = null == destination ?
+                    channelEndpoint.send(sendBuffer) : channelEndpoint.send(sendBuffer, destination);
+                if (available != sent)
                 {
                     shortSends.increment();
                     break;
@@ -294,10 +364,12 @@ public class NetworkPublication
 
                 bytesSent = available + padding(scanOutcome);
                 remainingBytes -= bytesSent;
+                totalBytesSent += available;
             }
             while (remainingBytes > 0);
 
             retransmitsSent.orderedIncrement();
+            retransmittedBytes.addOrdered(totalBytesSent);
         }
     }
 
@@ -317,9 +389,10 @@ public class NetworkPublication
         spyPosition.close();
     }
 
-    public void onNak(final int termId, final int termOffset, final int length)
+    public void onNak(final int termId, final int termOffset, final int length, final InetSocketAddress srcAddress)
     {
-        retransmitHandler.onNak(termId, termOffset, length, termLengthMask + 1, this);
+        final InetSocketAddress destination = channelEndpoint.isMultiDestination() ? srcAddress : null;
+        retransmitHandler.onNak(termId, termOffset, length, termLengthMask + 1, destination, this);
     }
 
     public void onStatusMessage(final StatusMessageFlyweight msg, final InetSocketAddress srcAddress)
@@ -396,10 +469,13 @@ public class NetworkPublication
                 }
             }
 
-            final long proposedPublisherLimit = minConsumerPosition + termWindowLength;
+            final long requiredPublisherLimit = minConsumerPosition + termWindowLength;
+            workCount += cleanBuffer(requiredPublisherLimit);
+
+            final long proposedPublisherLimit = Math.min(
+                requiredPublisherLimit, cleanPosition + ((termLengthMask + 1) * 2L));
             if (publisherLimit.proposeMaxOrdered(proposedPublisherLimit))
             {
-                cleanBuffer(proposedPublisherLimit);
                 workCount = 1;
             }
         }
@@ -431,40 +507,141 @@ public class NetworkPublication
     private int sendData(final long nowNs, final long senderPosition, final int termOffset)
     {
         int bytesSent = 0;
-        final int availableWindow = (int)(senderLimit.get() - senderPosition);
-        if (availableWindow > 0)
+        long position = senderPosition;
+        int offset = termOffset;
+        final long senderLimit = this.senderLimit.get();
+
+        for (int i = 0; i < sendBurstDatagrams; i++)
         {
+            final int availableWindow = (int)(senderLimit - position);
+            if (availableWindow <= 0)
+            {
+                if (trackSenderLimits)
+                {
+                    trackSenderLimits = false;
+                    senderFlowControlLimits.orderedIncrement();
+                }
+                break;
+            }
+
+            if (pacingRate > 0 && !hasPacingTokens(nowNs))
+            {
+                senderPacingDelays.orderedIncrement();
+                break;
+            }
+
             final int scanLimit = Math.min(availableWindow, mtuLength);
-            final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            final int activeIndex = indexByPosition(position, positionBitsToShift);
 
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
+            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], offset, scanLimit);
             final int available = available(scanOutcome);
-            if (available > 0)
+            if (available <= 0)
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
+                break;
+            }
 
-                if (available == channelEndpoint.send(sendBuffer))
-                {
-                    timeOfLastSendOrHeartbeatNs = nowNs;
-                    trackSenderLimits = true;
+            final ByteBuffer sendBuffer = sendBuffers[activeIndex];
+            sendBuffer.limit(offset + available).position(offset);
 
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
-                }
-                else
-                {
-                    shortSends.increment();
-                }
+            if (available != channelEndpoint.send(sendBuffer))
+            {
+                shortSends.increment();
+                break;
             }
+
+            timeOfLastSendOrHeartbeatNs = nowNs;
+            trackSenderLimits = true;
+
+            if (fecGroupSize > 0)
+            {
+                final int termId = computeTermIdFromPosition(position, positionBitsToShift, initialTermId);
+                addToFecGroup(termId, termBuffers[activeIndex], offset, available);
+            }
+
+            pacingTokens -= available;
+            bytesSent += available;
+            position += available + padding(scanOutcome);
+            offset = (int)position & termLengthMask;
+            this.senderPosition.setOrdered(position);
         }
-        else if (trackSenderLimits)
+
+        return bytesSent;
+    }
+
+    private boolean hasPacingTokens(final long nowNs)
+    {
+        final long elapsedNs = nowNs - timeOfLastPacingRefillNs;
+        if (elapsedNs >= pacingRefillNs)
+        {
+            // a datagram may have left the bucket in debt by up to its capacity so allow for a full repayment
+            final long refill = (Math.min(elapsedNs, pacingRefillNs * 2) * pacingRate) / 1_000_000_000L;
+            pacingTokens = Math.min(pacingCapacity, pacingTokens + refill);
+            timeOfLastPacingRefillNs = nowNs;
+        }
+        else
         {
-            trackSenderLimits = false;
-            senderFlowControlLimits.orderedIncrement();
+            final long refill = (elapsedNs * pacingRate) / 1_000_000_000L;
+            if (refill > 0)
+            {
+                pacingTokens = Math.min(pacingCapacity, pacingTokens + refill);
+                timeOfLastPacingRefillNs += (refill * 1_000_000_000L) / pacingRate;
+            }
         }
 
-        return bytesSent;
+        return pacingTokens > 0;
+    }
+
+    private void addToFecGroup(final int termId, final UnsafeBuffer termBuffer, final int termOffset, final int length)
+    {
+        if (fecDatagramCount > 0 && fecHeader.termId() != termId)
+        {
+            sendFecParity();
+        }
+
+        if (0 == fecDatagramCount)
+        {
+            fecHeader.termId(termId);
+        }
+
+        final UnsafeBuffer fecParity = this.fecParity;
+        for (int i = 0; i < length; i += SIZE_OF_LONG)
+        {
+            fecParity.putLong(i, fecParity.getLong(i) ^ termBuffer.getLong(termOffset + i));
+        }
+
+        fecHeader.datagram(fecDatagramCount++, termOffset, length);
+        fecParityLength = Math.max(fecParityLength, length);
+
+        if (fecDatagramCount == fecGroupSize)
+        {
+            sendFecParity();
+        }
+    }
+
+    private void sendFecParity()
+    {
+        final int parityOffset = FecFlyweight.parityOffset(fecDatagramCount);
+        final int frameLength = parityOffset + fecParityLength;
+
+        fecHeader
+            .datagramCount(fecDatagramCount)
+            .parityLength(fecParityLength)
+            .frameLength(frameLength);
+        fecHeader.putBytes(parityOffset, fecParity, 0, fecParityLength);
+
+        fecBuffer.limit(frameLength).position(0);
+        if (frameLength == channelEndpoint.send(fecBuffer))
+        {
+            fecParityFramesSent.orderedIncrement();
+        }
+        else
+        {
+            shortSends.increment();
+        }
+
+        fecParity.setMemory(0, fecParityLength, (byte)0);
+        fecDatagramCount = 0;
+        fecParityLength = 0;
     }
 
     private void setupMessageCheck(final long nowNs, final int activeTermId, final int termOffset)
@@ -504,6 +681,11 @@ public class NetworkPublication
 
         if (nowNs > (timeOfLastSendOrHeartbeatNs + PUBLICATION_HEARTBEAT_TIMEOUT_NS))
         {
+            if (fecDatagramCount > 0)
+            {
+                sendFecParity();
+            }
+
             heartbeatBuffer.clear();
             heartbeatDataHeader
                 .sessionId(sessionId)
@@ -524,8 +706,9 @@ public class NetworkPublication
         return bytesSent;
     }
 
-    private void cleanBuffer(final long publisherLimit)
+    private int cleanBuffer(final long publisherLimit)
     {
+        int workCount = 0;
         final long cleanPosition = this.cleanPosition;
         final long dirtyRange = publisherLimit - cleanPosition;
         final int bufferCapacity = termLengthMask + 1;
@@ -535,12 +718,16 @@ public class NetworkPublication
         {
             final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
             final int termOffset = (int)cleanPosition & termLengthMask;
-            final int bytesForCleaning = (int)(dirtyRange - reservedRange);
-            final int length = Math.min(bytesForCleaning, bufferCapacity - termOffset);
+            final int bytesForCleaning = (int)Math.min(dirtyRange - reservedRange, bufferCapacity);
+            final int length = Math.min(
+                bytesForCleaning, termCleanLength(bufferCapacity - termOffset, TERM_CLEAN_CHUNK_LENGTH));
 
             dirtyTerm.setMemory(termOffset, length, (byte)0);
             this.cleanPosition = cleanPosition + length;
+            workCount = 1;
         }
+
+        return workCount;
     }
 
     private void checkForBlockedPublisher(final long timeNs, final long senderPosition)
@@ -637,6 +824,61 @@ public class NetworkPublication
         return hasSenderReleased;
     }
 
+    /**
+     * An active publication is next due when it could be found blocked or, if connected, when it would time out
+     * without a Status Message, and a lingering publication when its linger ends. Otherwise it is polled on the
+     * heartbeat interval while the {@link Sender} drains and releases it.
+     *
+     * @param timeNs now in nanoseconds
+     * @return deadline in nanoseconds for the next time event
+     */
+    public long timeOfNextTimeEventNs(final long timeNs)
+    {
+        final long deadlineNs;
+        switch (status)
+        {
+            case ACTIVE:
+                final long unblockDeadlineNs = timeOfLastActivityNs + unblockTimeoutNs + 1;
+                final long sampleDeadlineNs =
+                    unblockDeadlineNs > timeNs ? unblockDeadlineNs : timeNs + unblockTimeoutNs;
+
+                if (isConnected)
+                {
+                    final long connectionTimeoutMs =
+                        timeOfLastStatusMessage(rawLog.metaData()) + PUBLICATION_CONNECTION_TIMEOUT_MS + 1;
+                    final long connectionDeadlineNs =
+                        timeNs + Math.max(TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMs - epochClock.time()), 0);
+
+                    deadlineNs = Math.min(sampleDeadlineNs, connectionDeadlineNs);
+                }
+                else
+                {
+                    deadlineNs = sampleDeadlineNs;
+                }
+                break;
+
+            case LINGER:
+                deadlineNs = timeOfLastActivityNs + PUBLICATION_LINGER_NS + 1;
+                break;
+
+            default:
+                deadlineNs = timeNs + HEARTBEAT_TIMEOUT_NS;
+                break;
+        }
+
+        return deadlineNs;
+    }
+
+    public void timer(final DeadlineTimerWheel.Timer timer)
+    {
+        this.timer = timer;
+    }
+
+    public DeadlineTimerWheel.Timer timer()
+    {
+        return timer;
+    }
+
     public void timeOfLastStateChange(final long time)
     {
     }
@@ -17,10 +17,8 @@ package io.aeron.driver;
 
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.BitUtil;
-import org.agrona.collections.ArrayListUtil;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -61,7 +59,7 @@ public class PreferredMulticastFlowControl implements FlowControl
     public static final String PREFERRED_ASF = getProperty(PREFERRED_ASF_PROP_NAME, PREFERRED_ASF_DEFAULT);
     public static final byte[] PREFERRED_ASF_BYTES = BitUtil.fromHex(PREFERRED_ASF);
 
-    private final ArrayList<Receiver> receiverList = new ArrayList<>();
+    private final ReceiverPositionTracker receivers = new ReceiverPositionTracker(Integer.MAX_VALUE);
     private final byte[] smAsf = new byte[64];
 
     /**
@@ -81,35 +79,15 @@ public class PreferredMulticastFlowControl implements FlowControl
             positionBitsToShift,
             initialTermId);
 
-        final long windowLength = flyweight.receiverWindowLength();
-        final long receiverId = flyweight.receiverId();
-        final boolean isFromPreferred = isFromPreferred(flyweight);
-        boolean isExisting = false;
-        long minPosition = Long.MAX_VALUE;
-
-        final ArrayList<Receiver> receiverList = this.receiverList;
-        for (int i = 0, size = receiverList.size(); i < size; i++)
-        {
-            final Receiver receiver = receiverList.get(i);
-            if (isFromPreferred && receiverId == receiver.receiverId)
-            {
-                receiver.lastPositionPlusWindow = position + windowLength;
-                receiver.timeOfLastStatusMessage = nowNs;
-                isExisting = true;
-            }
-
-            minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
-        }
-
-        if (isFromPreferred && !isExisting)
+        final long positionPlusWindow = position + flyweight.receiverWindowLength();
+        if (isFromPreferred(flyweight))
         {
-            receiverList.add(new Receiver(position + windowLength, nowNs, receiverId, receiverAddress));
-            minPosition = Math.min(minPosition, position + windowLength);
+            receivers.onStatusMessage(flyweight.receiverId(), positionPlusWindow, nowNs, receiverAddress);
         }
 
-        return receiverList.size() > 0 ?
-            Math.max(senderLimit, minPosition) :
-            Math.max(senderLimit, position + windowLength);
+        return receivers.size() > 0 ?
+            Math.max(senderLimit, receivers.quorumPosition()) :
+            Math.max(senderLimit, positionPlusWindow);
     }
 
     /**
@@ -124,24 +102,9 @@ public class PreferredMulticastFlowControl implements FlowControl
      */
     public long onIdle(final long nowNs, final long senderLimit)
     {
-        long minPosition = Long.MAX_VALUE;
-        final ArrayList<Receiver> receiverList = this.receiverList;
+        receivers.removeTimedOut(nowNs, RECEIVER_TIMEOUT);
 
-        for (int lastIndex = receiverList.size() - 1, i = lastIndex; i >= 0; i--)
-        {
-            final Receiver receiver = receiverList.get(i);
-            if (nowNs > (receiver.timeOfLastStatusMessage + RECEIVER_TIMEOUT))
-            {
-                ArrayListUtil.fastUnorderedRemove(receiverList, i, lastIndex);
-                lastIndex--;
-            }
-            else
-            {
-                minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
-            }
-        }
-
-        return receiverList.size() > 0 ? minPosition : senderLimit;
+        return receivers.size() > 0 ? receivers.quorumPosition() : senderLimit;
     }
 
     public boolean isFromPreferred(final StatusMessageFlyweight sm)
@@ -163,24 +126,4 @@ public class PreferredMulticastFlowControl implements FlowControl
 
         return result;
     }
-
-    static class Receiver
-    {
-        long lastPositionPlusWindow;
-        long timeOfLastStatusMessage;
-        long receiverId;
-        InetSocketAddress address;
-
-        Receiver(
-            final long lastPositionPlusWindow,
-            final long now,
-            final long receiverId,
-            final InetSocketAddress receiverAddress)
-        {
-            this.lastPositionPlusWindow = lastPositionPlusWindow;
-            this.timeOfLastStatusMessage = now;
-            this.receiverId = receiverId;
-            this.address = receiverAddress;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -21,7 +21,9 @@ import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import org.agrona.BufferUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -32,13 +34,19 @@ import org.agrona.concurrent.status.ReadablePosition;
 
 import java.net.InetSocketAddress;
 
+import static io.aeron.driver.Configuration.HEARTBEAT_TIMEOUT_NS;
+import static io.aeron.driver.Configuration.LOSS_DETECTOR_MAX_GAPS;
 import static io.aeron.driver.LossDetector.lossFound;
 import static io.aeron.driver.LossDetector.rebuildOffset;
 import static io.aeron.driver.PublicationImage.Status.ACTIVE;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.logbuffer.TermGapFiller.tryFillGap;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.align;
 import static org.agrona.UnsafeAccess.UNSAFE;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 
 class PublicationImagePadding1
 {
@@ -78,6 +86,8 @@ public class PublicationImage
     extends PublicationImagePadding3
     implements LossHandler, DriverManagedResource, Subscribable
 {
+    private static final int GAP_FIELD_COUNT = 3;
+
     enum Status
     {
         INIT, ACTIVE, INACTIVE, LINGER
@@ -89,9 +99,11 @@ public class PublicationImage
 
     private volatile long beginLossChange = -1;
     private volatile long endLossChange = -1;
-    private int lossTermId;
-    private int lossTermOffset;
-    private int lossLength;
+    private int lossGapCount;
+    private int stagedLossGapCount;
+    private final int[] lossGaps;
+    private final int[] stagedLossGaps;
+    private final int[] nakGaps;
 
     private volatile long beginSmChange = -1;
     private volatile long endSmChange = -1;
@@ -110,6 +122,8 @@ public class PublicationImage
     private final boolean isReliable;
 
     private boolean reachedEndOfLife = false;
+    private UnsafeBuffer fecRecoveryBuffer;
+    private DeadlineTimerWheel.Timer timer;
     private volatile Status status = Status.INIT;
 
     private final NanoClock nanoClock;
@@ -127,6 +141,8 @@ public class PublicationImage
     private final AtomicCounter flowControlUnderRuns;
     private final AtomicCounter flowControlOverRuns;
     private final AtomicCounter lossGapFills;
+    private final AtomicCounter fecDatagramsRecovered;
+    private final AtomicCounter retransmitDatagramsRecovered;
     private final EpochClock epochClock;
     private final RawLog rawLog;
 
@@ -175,6 +191,8 @@ public class PublicationImage
         flowControlUnderRuns = systemCounters.get(FLOW_CONTROL_UNDER_RUNS);
         flowControlOverRuns = systemCounters.get(FLOW_CONTROL_OVER_RUNS);
         lossGapFills = systemCounters.get(LOSS_GAP_FILLS);
+        fecDatagramsRecovered = systemCounters.get(FEC_DATAGRAMS_RECOVERED);
+        retransmitDatagramsRecovered = systemCounters.get(RETRANSMIT_DATAGRAMS_RECOVERED);
 
         this.nanoClock = nanoClock;
         this.epochClock = epochClock;
@@ -183,7 +201,10 @@ public class PublicationImage
         lastPacketTimestampNs = nowNs;
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, LOSS_DETECTOR_MAX_GAPS);
+        lossGaps = new int[LOSS_DETECTOR_MAX_GAPS * GAP_FIELD_COUNT];
+        stagedLossGaps = new int[LOSS_DETECTOR_MAX_GAPS * GAP_FIELD_COUNT];
+        nakGaps = new int[LOSS_DETECTOR_MAX_GAPS * GAP_FIELD_COUNT];
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -284,21 +305,18 @@ public class PublicationImage
     }
 
     /**
-     * Called from the {@link LossDetector} when gap is detected by the {@link DriverConductor} thread.
+     * Called from the {@link LossDetector} when gap is detected by the {@link DriverConductor} thread. Gaps detected
+     * in the same scan are staged and then handed to the {@link Receiver} together.
      *
      * @see LossHandler
      */
     public void onGapDetected(final int termId, final int termOffset, final int length)
     {
-        final long changeNumber = beginLossChange + 1;
-
-        beginLossChange = changeNumber;
-
-        lossTermId = termId;
-        lossTermOffset = termOffset;
-        lossLength = length;
-
-        endLossChange = changeNumber;
+        final int index = stagedLossGapCount * GAP_FIELD_COUNT;
+        stagedLossGaps[index] = termId;
+        stagedLossGaps[index + 1] = termOffset;
+        stagedLossGaps[index + 2] = length;
+        stagedLossGapCount++;
 
         if (null != reportEntry)
         {
@@ -423,6 +441,11 @@ public class PublicationImage
             positionBitsToShift,
             initialTermId);
 
+        if (stagedLossGapCount > 0)
+        {
+            publishStagedLoss();
+        }
+
         final int rebuildTermOffset = (int)rebuildPosition & termLengthMask;
         final long newRebuildPosition = (rebuildPosition - rebuildTermOffset) + rebuildOffset(scanOutcome);
         this.rebuildPosition.proposeMaxOrdered(newRebuildPosition);
@@ -485,6 +508,11 @@ public class PublicationImage
             else
             {
                 final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
+                if (packetPosition < hwmPosition.get() && 0 == termBuffer.getIntVolatile(termOffset))
+                {
+                    retransmitDatagramsRecovered.orderedIncrement();
+                }
+
                 TermRebuilder.insert(termBuffer, termOffset, buffer, length);
             }
 
@@ -494,6 +522,71 @@ public class PublicationImage
         return length;
     }
 
+    /**
+     * Called from the {@link Receiver} on a FEC parity frame. When exactly one of the datagrams covered by the parity
+     * has not fully arrived it is rebuilt from the parity and the datagrams which have, then inserted as if received so
+     * the loss is repaired without waiting on a NAK and retransmit. A datagram has only arrived when all its frames
+     * have, and the rebuilt frames must chain exactly to the datagram length and match the image before insertion.
+     * Parity for a term outside the current receiver window is ignored.
+     *
+     * @param header of the parity frame wrapping the received packet.
+     * @param length of the parity frame.
+     * @return number of bytes applied as a result of this frame.
+     */
+    int onFecPacket(final FecFlyweight header, final int length)
+    {
+        final int datagramCount = header.datagramCount();
+        final int parityLength = header.parityLength();
+        if (datagramCount < 1 ||
+            datagramCount > (length - FecFlyweight.HEADER_LENGTH) / FecFlyweight.ENTRY_LENGTH ||
+            parityLength < 0 ||
+            parityLength > length - FecFlyweight.parityOffset(datagramCount))
+        {
+            return length;
+        }
+
+        final int termId = header.termId();
+        final long termBeginPosition = computeTermBeginPosition(termId, positionBitsToShift, initialTermId);
+        final long windowPosition = nextSmPosition;
+        if (termBeginPosition + termLengthMask < windowPosition ||
+            termBeginPosition > windowPosition + nextSmReceiverWindowLength)
+        {
+            return length;
+        }
+
+        final long rebuildPosition = this.rebuildPosition.getVolatile();
+        final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
+        int missingIndex = -1;
+
+        for (int i = 0; i < datagramCount; i++)
+        {
+            final int termOffset = header.datagramTermOffset(i);
+            final int datagramLength = header.datagramLength(i);
+            if (!isValidFecEntry(termOffset, datagramLength, parityLength))
+            {
+                return length;
+            }
+
+            final long position = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
+            if (position >= rebuildPosition && !isDatagramComplete(termBuffer, termOffset, datagramLength))
+            {
+                if (-1 != missingIndex)
+                {
+                    return length;
+                }
+
+                missingIndex = i;
+            }
+        }
+
+        if (-1 != missingIndex)
+        {
+            recoverDatagram(header, termBuffer, missingIndex);
+        }
+
+        return length;
+    }
+
     /**
      * To be called from the {@link Receiver} to see if a image should be garbage collected.
      *
@@ -563,26 +656,17 @@ public class PublicationImage
 
         if (changeNumber != lastLossChangeNumber)
         {
-            final int termId = lossTermId;
-            final int termOffset = lossTermOffset;
-            final int length = lossLength;
+            final int gapCount = lossGapCount;
+            final int[] nakGaps = this.nakGaps;
+            System.arraycopy(lossGaps, 0, nakGaps, 0, gapCount * GAP_FIELD_COUNT);
 
             UNSAFE.loadFence(); // LoadLoad required so previous loads don't move past version check below.
 
             if (changeNumber == beginLossChange)
             {
-                if (isReliable)
+                for (int i = 0, index = 0; i < gapCount; i++, index += GAP_FIELD_COUNT)
                 {
-                    channelEndpoint.sendNakMessage(controlAddress, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.orderedIncrement();
-                }
-                else
-                {
-                    final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
-                    if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
-                    {
-                        lossGapFills.orderedIncrement();
-                    }
+                    processLoss(nakGaps[index], nakGaps[index + 1], nakGaps[index + 2]);
                 }
 
                 lastLossChangeNumber = changeNumber;
@@ -593,6 +677,37 @@ public class PublicationImage
         return workCount;
     }
 
+    private void processLoss(final int termId, final int termOffset, final int length)
+    {
+        if (isReliable)
+        {
+            channelEndpoint.sendNakMessage(controlAddress, sessionId, streamId, termId, termOffset, length);
+            nakMessagesSent.orderedIncrement();
+        }
+        else
+        {
+            final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
+            if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
+            {
+                lossGapFills.orderedIncrement();
+            }
+        }
+    }
+
+    private void publishStagedLoss()
+    {
+        final long changeNumber = beginLossChange + 1;
+
+        beginLossChange = changeNumber;
+
+        System.arraycopy(stagedLossGaps, 0, lossGaps, 0, stagedLossGapCount * GAP_FIELD_COUNT);
+        lossGapCount = stagedLossGapCount;
+
+        endLossChange = changeNumber;
+
+        stagedLossGapCount = 0;
+    }
+
     /**
      * Called from the {@link Receiver} thread to check for initiating an RTT measurement.
      *
@@ -673,6 +788,48 @@ public class PublicationImage
         return reachedEndOfLife;
     }
 
+    /**
+     * An active image with subscribers is next due when the {@link Receiver} would find it has lost liveness, and a
+     * lingering image when its linger ends. Otherwise it is polled on the heartbeat interval as it is transitioning
+     * and may drain before its deadline.
+     *
+     * @param timeNs now in nanoseconds
+     * @return deadline in nanoseconds for the next time event
+     */
+    public long timeOfNextTimeEventNs(final long timeNs)
+    {
+        final long deadlineNs;
+        switch (status)
+        {
+            case ACTIVE:
+                final long livenessDeadlineNs = lastPacketTimestampNs + imageLivenessTimeoutNs + 1;
+                deadlineNs = subscriberPositions.length > 0 && livenessDeadlineNs > timeNs ?
+                    livenessDeadlineNs : timeNs + HEARTBEAT_TIMEOUT_NS;
+                break;
+
+            case LINGER:
+                deadlineNs = timeOfLastStatusChangeNs + imageLivenessTimeoutNs + 1;
+                break;
+
+            default:
+                deadlineNs = Math.min(
+                    timeNs + HEARTBEAT_TIMEOUT_NS, timeOfLastStatusChangeNs + imageLivenessTimeoutNs + 1);
+                break;
+        }
+
+        return deadlineNs;
+    }
+
+    public void timer(final DeadlineTimerWheel.Timer timer)
+    {
+        this.timer = timer;
+    }
+
+    public DeadlineTimerWheel.Timer timer()
+    {
+        return timer;
+    }
+
     public void timeOfLastStateChange(final long time)
     {
     }
@@ -702,6 +859,105 @@ public class PublicationImage
         return true;
     }
 
+    private boolean isValidFecEntry(final int termOffset, final int length, final int parityLength)
+    {
+        return termOffset >= 0 &&
+            length > 0 &&
+            length <= parityLength &&
+            (termOffset & (FRAME_ALIGNMENT - 1)) == 0 &&
+            (length & (FRAME_ALIGNMENT - 1)) == 0 &&
+            termOffset <= (termLengthMask + 1) - length;
+    }
+
+    private static boolean isDatagramComplete(
+        final UnsafeBuffer termBuffer, final int termOffset, final int datagramLength)
+    {
+        final int endOffset = termOffset + datagramLength;
+        int offset = termOffset;
+
+        while (offset < endOffset)
+        {
+            final int frameLength = termBuffer.getIntVolatile(offset);
+            if (frameLength <= 0)
+            {
+                return false;
+            }
+
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        return offset == endOffset;
+    }
+
+    private boolean isRecoveredDatagramValid(
+        final UnsafeBuffer recoveryBuffer, final int termId, final int termOffset, final int datagramLength)
+    {
+        int offset = 0;
+
+        while (offset < datagramLength)
+        {
+            final int frameLength =
+                recoveryBuffer.getInt(offset + DataHeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+
+            if (frameLength < DataHeaderFlyweight.HEADER_LENGTH ||
+                recoveryBuffer.getInt(offset + DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN) !=
+                    termOffset + offset ||
+                recoveryBuffer.getInt(offset + DataHeaderFlyweight.TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN) != termId ||
+                recoveryBuffer.getInt(offset + DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN) !=
+                    sessionId ||
+                recoveryBuffer.getInt(offset + DataHeaderFlyweight.STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN) != streamId)
+            {
+                return false;
+            }
+
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        return offset == datagramLength;
+    }
+
+    private void recoverDatagram(final FecFlyweight header, final UnsafeBuffer termBuffer, final int missingIndex)
+    {
+        final int termId = header.termId();
+        final int datagramCount = header.datagramCount();
+        final int missingOffset = header.datagramTermOffset(missingIndex);
+        final int missingLength = header.datagramLength(missingIndex);
+        final long missingPosition = computePosition(termId, missingOffset, positionBitsToShift, initialTermId);
+
+        if (missingPosition + missingLength > nextSmPosition + nextSmReceiverWindowLength)
+        {
+            return;
+        }
+
+        if (null == fecRecoveryBuffer || fecRecoveryBuffer.capacity() < missingLength)
+        {
+            fecRecoveryBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(missingLength, FRAME_ALIGNMENT));
+        }
+
+        final UnsafeBuffer recoveryBuffer = fecRecoveryBuffer;
+        recoveryBuffer.putBytes(0, header, FecFlyweight.parityOffset(datagramCount), missingLength);
+
+        for (int i = 0; i < datagramCount; i++)
+        {
+            if (i != missingIndex)
+            {
+                final int termOffset = header.datagramTermOffset(i);
+                final int xorLength = Math.min(header.datagramLength(i), missingLength);
+                for (int j = 0; j < xorLength; j += SIZE_OF_LONG)
+                {
+                    recoveryBuffer.putLong(j, recoveryBuffer.getLong(j) ^ termBuffer.getLong(termOffset + j));
+                }
+            }
+        }
+
+        if (isRecoveredDatagramValid(recoveryBuffer, termId, missingOffset, missingLength))
+        {
+            TermRebuilder.insert(termBuffer, missingOffset, recoveryBuffer, missingLength);
+            hwmCandidate(missingPosition + missingLength);
+            fecDatagramsRecovered.orderedIncrement();
+        }
+    }
+
     private boolean isHeartbeat(final UnsafeBuffer packet, final int length)
     {
         return length == DataHeaderFlyweight.HEADER_LENGTH && packet.getInt(0) == 0;
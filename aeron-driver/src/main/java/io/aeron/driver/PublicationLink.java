@@ -24,6 +24,8 @@ public class PublicationLink implements DriverManagedResource
     private final DriverManagedResource publication;
     private final AeronClient client;
     private boolean reachedEndOfLife = false;
+    private boolean isClosed = false;
+    private DeadlineTimerWheel.Timer timer;
 
     public PublicationLink(final long registrationId, final DriverManagedResource publication, final AeronClient client)
     {
@@ -33,9 +35,19 @@ public class PublicationLink implements DriverManagedResource
         this.publication.incRef();
     }
 
+    /**
+     * Release the reference to the publication and mark this link as having reached end of life so it is removed
+     * when its timer is next due, which the conductor reschedules for the next tick when the publication is removed.
+     * Subsequent calls have no effect.
+     */
     public void close()
     {
-        publication.decRef();
+        if (!isClosed)
+        {
+            isClosed = true;
+            reachedEndOfLife = true;
+            publication.decRef();
+        }
     }
 
     public long registrationId()
@@ -43,6 +55,21 @@ public class PublicationLink implements DriverManagedResource
         return registrationId;
     }
 
+    public DriverManagedResource publication()
+    {
+        return publication;
+    }
+
+    public void timer(final DeadlineTimerWheel.Timer timer)
+    {
+        this.timer = timer;
+    }
+
+    public DeadlineTimerWheel.Timer timer()
+    {
+        return timer;
+    }
+
     public void onTimeEvent(final long timeNs, final long timeMs, final DriverConductor conductor)
     {
         if (client.hasTimedOut(timeNs))
@@ -56,6 +83,11 @@ public class PublicationLink implements DriverManagedResource
         return reachedEndOfLife;
     }
 
+    public long timeOfNextTimeEventNs(final long timeNs)
+    {
+        return reachedEndOfLife ? timeNs : client.livenessDeadlineNs() + 1;
+    }
+
     public void timeOfLastStateChange(final long time)
     {
         // not set this way
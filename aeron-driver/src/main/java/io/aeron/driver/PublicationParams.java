@@ -17,12 +17,23 @@ package io.aeron.driver;
 
 import io.aeron.CommonContext;
 import io.aeron.driver.uri.AeronUri;
+import io.aeron.protocol.FecFlyweight;
 
 import static io.aeron.CommonContext.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static org.agrona.BitUtil.align;
 
 class PublicationParams
 {
+    static final int MAX_FEC_GROUP_SIZE = 64;
+
     int mtuLength = 0;
+    int fecGroupSize = 0;
+    long pacingRate = 0;
+    int sendBurstDatagrams = 1;
+    String flowControl = null;
+    int flowControlQuorum = 0;
+    long flowControlLaggardTimeoutNs = 0;
     int termLength = 0;
     int initialTermId = 0;
     int termId = 0;
@@ -55,6 +66,138 @@ class PublicationParams
         return mtuLength;
     }
 
+    static int getFecGroupSize(final AeronUri aeronUri)
+    {
+        int fecGroupSize = 0;
+        final String fec = aeronUri.get(CommonContext.FEC_GROUP_SIZE_PARAM_NAME);
+        if (null != fec)
+        {
+            fecGroupSize = Integer.parseInt(fec);
+            if (fecGroupSize < 1 || fecGroupSize > MAX_FEC_GROUP_SIZE)
+            {
+                throw new IllegalArgumentException(
+                    FEC_GROUP_SIZE_PARAM_NAME + "=" + fecGroupSize + " must be in range 1-" + MAX_FEC_GROUP_SIZE);
+            }
+        }
+
+        return fecGroupSize;
+    }
+
+    static long getPacingRate(final AeronUri aeronUri, final long defaultPacingRate)
+    {
+        long pacingRate = defaultPacingRate;
+        final String rate = aeronUri.get(CommonContext.PACING_RATE_PARAM_NAME);
+        if (null != rate)
+        {
+            pacingRate = Long.parseLong(rate);
+            if (pacingRate < 0)
+            {
+                throw new IllegalArgumentException(PACING_RATE_PARAM_NAME + "=" + pacingRate + " must be >= 0");
+            }
+        }
+
+        return pacingRate;
+    }
+
+    static int getSendBurstDatagrams(final AeronUri aeronUri, final int defaultSendBurstDatagrams)
+    {
+        int sendBurstDatagrams = defaultSendBurstDatagrams;
+        final String burst = aeronUri.get(CommonContext.SEND_BURST_PARAM_NAME);
+        if (null != burst)
+        {
+            sendBurstDatagrams = Integer.parseInt(burst);
+            if (sendBurstDatagrams < 1)
+            {
+                throw new IllegalArgumentException(
+                    SEND_BURST_PARAM_NAME + "=" + sendBurstDatagrams + " must be >= 1");
+            }
+        }
+
+        return sendBurstDatagrams;
+    }
+
+    static String getFlowControl(final AeronUri aeronUri)
+    {
+        final String fc = aeronUri.get(CommonContext.FLOW_CONTROL_PARAM_NAME);
+        if (null != fc)
+        {
+            final String strategy = flowControlStrategy(fc);
+            if (!FLOW_CONTROL_MIN.equals(strategy) &&
+                !FLOW_CONTROL_MAX.equals(strategy) &&
+                !FLOW_CONTROL_QUORUM.equals(strategy))
+            {
+                throw new IllegalArgumentException(FLOW_CONTROL_PARAM_NAME + "=" + fc + " is not a known strategy");
+            }
+
+            if (FLOW_CONTROL_MAX.equals(strategy) && fc.indexOf(':') >= 0)
+            {
+                throw new IllegalArgumentException(FLOW_CONTROL_PARAM_NAME + "=" + fc + " max takes no argument");
+            }
+
+            return strategy;
+        }
+
+        return null;
+    }
+
+    static int getFlowControlQuorum(final AeronUri aeronUri, final int defaultQuorum)
+    {
+        int quorum = defaultQuorum;
+        final String fc = aeronUri.get(CommonContext.FLOW_CONTROL_PARAM_NAME);
+        final int index = null != fc ? fc.indexOf(':') : -1;
+        if (index >= 0 && FLOW_CONTROL_QUORUM.equals(flowControlStrategy(fc)))
+        {
+            quorum = Integer.parseInt(fc.substring(index + 1));
+            if (quorum < 1)
+            {
+                throw new IllegalArgumentException(FLOW_CONTROL_PARAM_NAME + "=" + fc + " quorum must be >= 1");
+            }
+        }
+
+        return quorum;
+    }
+
+    static long getFlowControlLaggardTimeout(final AeronUri aeronUri, final long defaultLaggardTimeoutNs)
+    {
+        long laggardTimeoutNs = defaultLaggardTimeoutNs;
+        final String fc = aeronUri.get(CommonContext.FLOW_CONTROL_PARAM_NAME);
+        final int index = null != fc ? fc.indexOf(':') : -1;
+        if (index >= 0 && FLOW_CONTROL_MIN.equals(flowControlStrategy(fc)))
+        {
+            laggardTimeoutNs = Long.parseLong(fc.substring(index + 1));
+            if (laggardTimeoutNs < 0)
+            {
+                throw new IllegalArgumentException(
+                    FLOW_CONTROL_PARAM_NAME + "=" + fc + " laggard timeout must be >= 0");
+            }
+        }
+
+        return laggardTimeoutNs;
+    }
+
+    private static String flowControlStrategy(final String fc)
+    {
+        final int index = fc.indexOf(':');
+
+        return index >= 0 ? fc.substring(0, index) : fc;
+    }
+
+    /**
+     * Data MTU left for a publication once room is made for the FEC header and entries so parity frames,
+     * which are as long as the longest datagram they cover, still fit within the MTU.
+     *
+     * @param mtuLength    requested for the publication.
+     * @param fecGroupSize of datagrams covered by each parity frame.
+     * @return the MTU length to be used for data frames.
+     */
+    static int fecDataMtuLength(final int mtuLength, final int fecGroupSize)
+    {
+        final int dataMtuLength = mtuLength - align(FecFlyweight.parityOffset(fecGroupSize), FRAME_ALIGNMENT);
+        Configuration.validateMtuLength(dataMtuLength);
+
+        return dataMtuLength;
+    }
+
     static PublicationParams getPublicationParams(
         final MediaDriver.Context context,
         final AeronUri aeronUri,
@@ -67,6 +210,21 @@ class PublicationParams
         params.termLength = getTermBufferLength(
             aeronUri, isIpc ? context.ipcTermBufferLength() : context.publicationTermBufferLength());
 
+        if (!isIpc)
+        {
+            params.pacingRate = getPacingRate(aeronUri, Configuration.SEND_PACING_RATE);
+            params.sendBurstDatagrams = getSendBurstDatagrams(aeronUri, context.sendBurstDatagrams());
+            params.flowControl = getFlowControl(aeronUri);
+            params.flowControlQuorum = getFlowControlQuorum(aeronUri, QuorumMulticastFlowControl.QUORUM);
+            params.flowControlLaggardTimeoutNs =
+                getFlowControlLaggardTimeout(aeronUri, MinMulticastFlowControl.LAGGARD_TIMEOUT);
+            params.fecGroupSize = getFecGroupSize(aeronUri);
+            if (params.fecGroupSize > 0)
+            {
+                params.mtuLength = fecDataMtuLength(params.mtuLength, params.fecGroupSize);
+            }
+        }
+
         if (isExclusive)
         {
             int count = 0;
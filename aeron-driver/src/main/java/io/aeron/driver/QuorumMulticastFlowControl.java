@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
+
+/**
+ * Quorum multicast sender flow control strategy.
+ *
+ * Flow control is set to the position of the K-th fastest of the tracked receivers so a few slow receivers cannot
+ * throttle a large fan-out while at least K receivers keep up. When fewer than K receivers are tracked it is set to
+ * the minimum of them.
+ *
+ * Tracking of receivers is done as long as they continue to send Status Messages. Once SMs stop, the receiver tracking
+ * for that receiver will timeout after a given number of nanoseconds.
+ */
+public class QuorumMulticastFlowControl implements FlowControl
+{
+    /**
+     * Property name to set timeout, in nanoseconds, for a receiver to be tracked.
+     */
+    private static final String RECEIVER_TIMEOUT_PROP_NAME = "aeron.QuorumMulticastFlowControl.receiverTimeout";
+
+    /**
+     * Default timeout, in nanoseconds, until a receiver is no longer tracked and considered for the quorum.
+     */
+    private static final long RECEIVER_TIMEOUT_DEFAULT = TimeUnit.SECONDS.toNanos(2);
+
+    private static final long RECEIVER_TIMEOUT = Long.getLong(RECEIVER_TIMEOUT_PROP_NAME, RECEIVER_TIMEOUT_DEFAULT);
+
+    /**
+     * Property name to set the number of receivers, K, which must keep up with the sender.
+     */
+    private static final String QUORUM_PROP_NAME = "aeron.QuorumMulticastFlowControl.quorum";
+
+    /**
+     * Default number of receivers which must keep up with the sender.
+     */
+    private static final int QUORUM_DEFAULT = 1;
+
+    public static final int QUORUM = Integer.getInteger(QUORUM_PROP_NAME, QUORUM_DEFAULT);
+
+    private final ReceiverPositionTracker receivers;
+
+    public QuorumMulticastFlowControl()
+    {
+        this(QUORUM);
+    }
+
+    public QuorumMulticastFlowControl(final int quorum)
+    {
+        receivers = new ReceiverPositionTracker(quorum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onStatusMessage(
+        final StatusMessageFlyweight flyweight,
+        final InetSocketAddress receiverAddress,
+        final long senderLimit,
+        final int initialTermId,
+        final int positionBitsToShift,
+        final long nowNs)
+    {
+        final long position = computePosition(
+            flyweight.consumptionTermId(),
+            flyweight.consumptionTermOffset(),
+            positionBitsToShift,
+            initialTermId);
+
+        receivers.onStatusMessage(
+            flyweight.receiverId(), position + flyweight.receiverWindowLength(), nowNs, receiverAddress);
+
+        return Math.max(senderLimit, receivers.quorumPosition());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void initialize(final int initialTermId, final int termBufferCapacity)
+    {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onIdle(final long nowNs, final long senderLimit)
+    {
+        receivers.removeTimedOut(nowNs, RECEIVER_TIMEOUT);
+
+        return receivers.size() > 0 ? receivers.quorumPosition() : senderLimit;
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+/**
+ * Tracks multicast receivers by receiver id, ordered by the position plus window from their last Status Message,
+ * so the position reached by the K-th fastest receiver is available in O(1) and each Status Message is applied in
+ * O(log n).
+ *
+ * The K fastest receivers are held in a min-heap whose root is the K-th fastest. The remainder are held in a max-heap
+ * whose root is the fastest of the rest. Receivers cross between the heaps as they overtake one another. With a
+ * quorum of {@link Integer#MAX_VALUE} all receivers are in the quorum and the root is the slowest receiver.
+ *
+ * Receivers are also linked in order of their last Status Message so those which have timed out are found from the
+ * head of the list without scanning the receivers which are still active. This relies on times being taken from a
+ * monotonic clock.
+ */
+class ReceiverPositionTracker
+{
+    private final int quorum;
+    private final Long2ObjectHashMap<Receiver> receiverById = new Long2ObjectHashMap<>();
+    private final ReceiverHeap quorumHeap = new ReceiverHeap(true);
+    private final ReceiverHeap remainderHeap = new ReceiverHeap(false);
+    private Receiver leastRecent;
+    private Receiver mostRecent;
+
+    ReceiverPositionTracker(final int quorum)
+    {
+        if (quorum < 1)
+        {
+            throw new IllegalArgumentException("quorum must be >= 1: " + quorum);
+        }
+
+        this.quorum = quorum;
+    }
+
+    /**
+     * Number of receivers currently tracked.
+     *
+     * @return number of receivers currently tracked.
+     */
+    int size()
+    {
+        return receiverById.size();
+    }
+
+    /**
+     * Is the receiver currently tracked.
+     *
+     * @param receiverId of the receiver.
+     * @return true if the receiver is tracked otherwise false.
+     */
+    boolean isTracked(final long receiverId)
+    {
+        return receiverById.containsKey(receiverId);
+    }
+
+    /**
+     * Position plus window of the K-th fastest receiver, or the slowest when fewer than K receivers are tracked.
+     *
+     * @return position plus window of the K-th fastest receiver or {@link Long#MAX_VALUE} when none are tracked.
+     */
+    long quorumPosition()
+    {
+        return quorumHeap.size > 0 ? quorumHeap.receivers[0].positionPlusWindow : Long.MAX_VALUE;
+    }
+
+    /**
+     * Id of the K-th fastest receiver, or the slowest when fewer than K receivers are tracked.
+     *
+     * @return id of the K-th fastest receiver.
+     * @throws IllegalStateException if no receivers are tracked.
+     */
+    long quorumReceiverId()
+    {
+        if (0 == quorumHeap.size)
+        {
+            throw new IllegalStateException("no receivers are tracked");
+        }
+
+        return quorumHeap.receivers[0].receiverId;
+    }
+
+    /**
+     * Apply a Status Message from a receiver, tracking it if it is new.
+     *
+     * @param receiverId         of the receiver.
+     * @param positionPlusWindow from the Status Message.
+     * @param nowNs              time of the Status Message.
+     * @param receiverAddress    from which the Status Message was received.
+     */
+    void onStatusMessage(
+        final long receiverId, final long positionPlusWindow, final long nowNs, final InetSocketAddress receiverAddress)
+    {
+        Receiver receiver = receiverById.get(receiverId);
+        if (null == receiver)
+        {
+            receiver = new Receiver(receiverId, positionPlusWindow, nowNs, receiverAddress);
+            receiverById.put(receiverId, receiver);
+            linkAsMostRecent(receiver);
+            add(receiver);
+        }
+        else
+        {
+            receiver.positionPlusWindow = positionPlusWindow;
+            receiver.timeOfLastStatusMessageNs = nowNs;
+            if (receiver != mostRecent)
+            {
+                unlink(receiver);
+                linkAsMostRecent(receiver);
+            }
+            (receiver.isInQuorum ? quorumHeap : remainderHeap).update(receiver.heapIndex);
+            rebalance();
+        }
+    }
+
+    /**
+     * Stop tracking receivers which have not sent a Status Message within the timeout.
+     *
+     * @param nowNs     current time.
+     * @param timeoutNs after which a receiver is no longer tracked.
+     */
+    void removeTimedOut(final long nowNs, final long timeoutNs)
+    {
+        boolean hasRemoved = false;
+
+        Receiver receiver;
+        while (null != (receiver = leastRecent) && nowNs > (receiver.timeOfLastStatusMessageNs + timeoutNs))
+        {
+            untrack(receiver);
+            hasRemoved = true;
+        }
+
+        if (hasRemoved)
+        {
+            refillQuorum();
+        }
+    }
+
+    /**
+     * Stop tracking a receiver until it sends another Status Message.
+     *
+     * @param receiverId of the receiver.
+     */
+    void remove(final long receiverId)
+    {
+        final Receiver receiver = receiverById.get(receiverId);
+        if (null != receiver)
+        {
+            untrack(receiver);
+            refillQuorum();
+        }
+    }
+
+    private void untrack(final Receiver receiver)
+    {
+        unlink(receiver);
+        receiverById.remove(receiver.receiverId);
+        (receiver.isInQuorum ? quorumHeap : remainderHeap).remove(receiver.heapIndex);
+    }
+
+    private void refillQuorum()
+    {
+        while (quorumHeap.size < quorum && remainderHeap.size > 0)
+        {
+            moveToQuorum(remainderHeap.poll());
+        }
+    }
+
+    private void linkAsMostRecent(final Receiver receiver)
+    {
+        receiver.previous = mostRecent;
+        receiver.next = null;
+
+        if (null == mostRecent)
+        {
+            leastRecent = receiver;
+        }
+        else
+        {
+            mostRecent.next = receiver;
+        }
+
+        mostRecent = receiver;
+    }
+
+    private void unlink(final Receiver receiver)
+    {
+        if (null == receiver.previous)
+        {
+            leastRecent = receiver.next;
+        }
+        else
+        {
+            receiver.previous.next = receiver.next;
+        }
+
+        if (null == receiver.next)
+        {
+            mostRecent = receiver.previous;
+        }
+        else
+        {
+            receiver.next.previous = receiver.previous;
+        }
+
+        receiver.previous = null;
+        receiver.next = null;
+    }
+
+    private void add(final Receiver receiver)
+    {
+        moveToQuorum(receiver);
+        if (quorumHeap.size > quorum)
+        {
+            moveToRemainder(quorumHeap.poll());
+        }
+    }
+
+    private void rebalance()
+    {
+        if (quorumHeap.size > 0 && remainderHeap.size > 0 &&
+            quorumHeap.receivers[0].positionPlusWindow < remainderHeap.receivers[0].positionPlusWindow)
+        {
+            final Receiver slowestInQuorum = quorumHeap.poll();
+            final Receiver fastestInRemainder = remainderHeap.poll();
+            moveToQuorum(fastestInRemainder);
+            moveToRemainder(slowestInQuorum);
+        }
+    }
+
+    private void moveToQuorum(final Receiver receiver)
+    {
+        receiver.isInQuorum = true;
+        quorumHeap.add(receiver);
+    }
+
+    private void moveToRemainder(final Receiver receiver)
+    {
+        receiver.isInQuorum = false;
+        remainderHeap.add(receiver);
+    }
+
+    static final class Receiver
+    {
+        final long receiverId;
+        final InetSocketAddress address;
+        long positionPlusWindow;
+        long timeOfLastStatusMessageNs;
+        int heapIndex;
+        boolean isInQuorum;
+        Receiver previous;
+        Receiver next;
+
+        Receiver(
+            final long receiverId,
+            final long positionPlusWindow,
+            final long nowNs,
+            final InetSocketAddress address)
+        {
+            this.receiverId = receiverId;
+            this.positionPlusWindow = positionPlusWindow;
+            this.timeOfLastStatusMessageNs = nowNs;
+            this.address = address;
+        }
+    }
+
+    /**
+     * Binary heap of receivers by position plus window which records each receiver's index so it can be updated or
+     * removed in place.
+     */
+    static final class ReceiverHeap
+    {
+        private final boolean isMinHeap;
+        private Receiver[] receivers = new Receiver[8];
+        private int size;
+
+        ReceiverHeap(final boolean isMinHeap)
+        {
+            this.isMinHeap = isMinHeap;
+        }
+
+        void add(final Receiver receiver)
+        {
+            if (size == receivers.length)
+            {
+                receivers = Arrays.copyOf(receivers, size * 2);
+            }
+
+            receivers[size] = receiver;
+            receiver.heapIndex = size;
+            siftUp(size++);
+        }
+
+        Receiver poll()
+        {
+            final Receiver root = receivers[0];
+            remove(0);
+
+            return root;
+        }
+
+        void remove(final int index)
+        {
+            final int lastIndex = --size;
+            final Receiver last = receivers[lastIndex];
+            receivers[lastIndex] = null;
+
+            if (index != lastIndex)
+            {
+                receivers[index] = last;
+                last.heapIndex = index;
+                update(index);
+            }
+        }
+
+        void update(final int index)
+        {
+            siftDown(siftUp(index));
+        }
+
+        private boolean isBefore(final Receiver a, final Receiver b)
+        {
+            return isMinHeap ?
+                a.positionPlusWindow < b.positionPlusWindow :
+                a.positionPlusWindow > b.positionPlusWindow;
+        }
+
+        private int siftUp(final int startIndex)
+        {
+            int index = startIndex;
+            final Receiver receiver = receivers[index];
+
+            while (index > 0)
+            {
+                final int parentIndex = (index - 1) >>> 1;
+                final Receiver parent = receivers[parentIndex];
+                if (!isBefore(receiver, parent))
+                {
+                    break;
+                }
+
+                receivers[index] = parent;
+                parent.heapIndex = index;
+                index = parentIndex;
+            }
+
+            receivers[index] = receiver;
+            receiver.heapIndex = index;
+
+            return index;
+        }
+
+        private void siftDown(final int startIndex)
+        {
+            int index = startIndex;
+            final Receiver receiver = receivers[index];
+            final int half = size >>> 1;
+
+            while (index < half)
+            {
+                int childIndex = (index << 1) + 1;
+                Receiver child = receivers[childIndex];
+                final int rightIndex = childIndex + 1;
+                if (rightIndex < size && isBefore(receivers[rightIndex], child))
+                {
+                    childIndex = rightIndex;
+                    child = receivers[rightIndex];
+                }
+
+                if (!isBefore(child, receiver))
+                {
+                    break;
+                }
+
+                receivers[index] = child;
+                child.heapIndex = index;
+                index = childIndex;
+            }
+
+            receivers[index] = receiver;
+            receiver.heapIndex = index;
+        }
+    }
+}
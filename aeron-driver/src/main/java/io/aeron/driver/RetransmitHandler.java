@@ -21,14 +21,32 @@ import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
 
+import java.net.InetSocketAddress;
+import java.util.Objects;
+
 import static io.aeron.driver.Configuration.MAX_RETRANSMITS_DEFAULT;
 import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
+import static io.aeron.driver.status.SystemCounterDescriptor.NAKS_COALESCED;
 
 /**
  * Tracking and handling of retransmit request, NAKs, for senders, and receivers.
  *
  * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
  * will be ignored if this maximum is reached.
+ *
+ * NAKs which overlap or are adjacent to a delayed retransmit in the same term are merged into a single retransmit of
+ * the union of the ranges. NAKs for ranges already covered by lingering retransmits are trimmed to the parts which are
+ * not covered, or ignored when fully covered, so receivers with slightly different views of loss do not cause duplicate
+ * retransmits. With the default {@link Configuration#RETRANSMIT_UNICAST_DELAY_DEFAULT_NS} of 0 the uncovered parts are
+ * retransmitted immediately and, when adjacent to a lingering retransmit for the same destination, joined into it so
+ * the union lingers as one action rather than taking a slot in the pool per part.
+ *
+ * When a NAK identifies the destination which sent it, the retransmit is sent only to that destination and only covers
+ * later NAKs from the same destination. A NAK from another destination for a range lingering for the first gets its own
+ * action so its repeats are also suppressed. Merged NAKs from different destinations are retransmitted to all.
+ *
+ * As actions for different destinations can share a term offset the map only indexes actions, the count of active
+ * actions is tracked separately and timeouts are processed by scanning the pool.
  */
 public class RetransmitHandler
 {
@@ -38,6 +56,8 @@ public class RetransmitHandler
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
     private final AtomicCounter invalidPackets;
+    private final AtomicCounter naksCoalesced;
+    private int activeCount = 0;
 
     /**
      * Create a retransmit handler.
@@ -55,6 +75,7 @@ public class RetransmitHandler
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = systemCounters.get(INVALID_PACKETS);
+        this.naksCoalesced = systemCounters.get(NAKS_COALESCED);
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
 
@@ -79,29 +100,43 @@ public class RetransmitHandler
         final int length,
         final int termLength,
         final RetransmitSender retransmitSender)
+    {
+        onNak(termId, termOffset, length, termLength, null, retransmitSender);
+    }
+
+    /**
+     * Called on reception of a NAK to start retransmits handling only to the destination which sent it.
+     *
+     * @param termId           from the NAK and the term id of the buffer to retransmit from
+     * @param termOffset       from the NAK and the offset of the data to retransmit
+     * @param length           of the missing data
+     * @param termLength       of the term buffer.
+     * @param destination      which sent the NAK or null if the retransmit should go to all destinations.
+     * @param retransmitSender to call if an immediate retransmit is required
+     */
+    public void onNak(
+        final int termId,
+        final int termOffset,
+        final int length,
+        final int termLength,
+        final InetSocketAddress destination,
+        final RetransmitSender retransmitSender)
     {
         if (!isInvalid(termOffset, termLength))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
-                activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
-            {
-                final RetransmitAction action = assignRetransmitAction();
-                action.termId = termId;
-                action.termOffset = termOffset;
-                action.length = Math.min(length, termLength - termOffset);
+            final int nakEnd = termOffset + Math.min(length, termLength - termOffset);
+            int begin = skipLingering(termId, termOffset, destination);
 
-                final long delay = determineRetransmitDelay();
-                if (0 == delay)
-                {
-                    retransmitSender.resend(termId, termOffset, action.length);
-                    action.linger(determineLingerTimeout(), nanoClock.nanoTime());
-                }
-                else
-                {
-                    action.delay(delay, nanoClock.nanoTime());
-                }
+            if (begin >= nakEnd)
+            {
+                naksCoalesced.orderedIncrement();
+            }
 
-                activeRetransmitsMap.put(termId, termOffset, action);
+            while (begin < nakEnd)
+            {
+                final int end = nextLingeringBegin(termId, begin, nakEnd, destination);
+                onUncoveredNak(termId, begin, end, destination, retransmitSender);
+                begin = skipLingering(termId, end, destination);
             }
         }
     }
@@ -120,8 +155,7 @@ public class RetransmitHandler
 
         if (null != action && State.DELAYED == action.state)
         {
-            activeRetransmitsMap.remove(termId, termOffset);
-            action.cancel();
+            remove(action);
             // do not go into linger
         }
     }
@@ -137,7 +171,7 @@ public class RetransmitHandler
     {
         int result = 0;
 
-        if (activeRetransmitsMap.size() > 0)
+        if (activeCount > 0)
         {
             for (final RetransmitAction action : retransmitActionPool)
             {
@@ -146,7 +180,7 @@ public class RetransmitHandler
                     case DELAYED:
                         if (nowNs > action.expireNs)
                         {
-                            retransmitSender.resend(action.termId, action.termOffset, action.length);
+                            resend(action, retransmitSender);
                             action.linger(determineLingerTimeout(), nanoClock.nanoTime());
                             result++;
                         }
@@ -155,8 +189,7 @@ public class RetransmitHandler
                     case LINGERING:
                         if (nowNs > action.expireNs)
                         {
-                            action.cancel();
-                            activeRetransmitsMap.remove(action.termId, action.termOffset);
+                            remove(action);
                             result++;
                         }
                         break;
@@ -167,6 +200,243 @@ public class RetransmitHandler
         return result;
     }
 
+    private void onUncoveredNak(
+        final int termId,
+        final int begin,
+        final int end,
+        final InetSocketAddress destination,
+        final RetransmitSender retransmitSender)
+    {
+        final RetransmitAction mergeAction = findDelayedOverlap(termId, begin, end);
+
+        if (null != mergeAction)
+        {
+            mergeDelayed(mergeAction, begin, end, destination);
+            return;
+        }
+
+        final long delay = determineRetransmitDelay();
+        final RetransmitAction lingeringAction = 0 == delay ?
+            findLingeringNeighbour(termId, begin, end, destination, null) : null;
+
+        if (null != lingeringAction)
+        {
+            resend(termId, begin, end - begin, destination, retransmitSender);
+            mergeLingering(lingeringAction, begin, end);
+        }
+        else if (activeCount < MAX_RETRANSMITS_DEFAULT)
+        {
+            final RetransmitAction action = assignRetransmitAction();
+            activeCount++;
+            action.termId = termId;
+            action.termOffset = begin;
+            action.length = end - begin;
+            action.destination = destination;
+
+            if (0 == delay)
+            {
+                resend(action, retransmitSender);
+                action.linger(determineLingerTimeout(), nanoClock.nanoTime());
+            }
+            else
+            {
+                action.delay(delay, nanoClock.nanoTime());
+            }
+
+            if (null == activeRetransmitsMap.get(termId, begin))
+            {
+                activeRetransmitsMap.put(termId, begin, action);
+            }
+        }
+    }
+
+    private int skipLingering(final int termId, final int offset, final InetSocketAddress destination)
+    {
+        int position = offset;
+        boolean isSkipped;
+
+        do
+        {
+            isSkipped = false;
+            for (final RetransmitAction action : retransmitActionPool)
+            {
+                if (State.LINGERING == action.state &&
+                    termId == action.termId &&
+                    action.termOffset <= position &&
+                    position < action.termOffset + action.length &&
+                    action.covers(destination))
+                {
+                    position = action.termOffset + action.length;
+                    isSkipped = true;
+                }
+            }
+        }
+        while (isSkipped);
+
+        return position;
+    }
+
+    private int nextLingeringBegin(
+        final int termId, final int begin, final int end, final InetSocketAddress destination)
+    {
+        int next = end;
+
+        for (final RetransmitAction action : retransmitActionPool)
+        {
+            if (State.LINGERING == action.state &&
+                termId == action.termId &&
+                begin < action.termOffset &&
+                action.termOffset < next &&
+                action.covers(destination))
+            {
+                next = action.termOffset;
+            }
+        }
+
+        return next;
+    }
+
+    private RetransmitAction findDelayedOverlap(final int termId, final int begin, final int end)
+    {
+        for (final RetransmitAction action : retransmitActionPool)
+        {
+            if (State.DELAYED == action.state &&
+                termId == action.termId &&
+                action.termOffset <= end &&
+                begin <= action.termOffset + action.length)
+            {
+                return action;
+            }
+        }
+
+        return null;
+    }
+
+    private void mergeDelayed(
+        final RetransmitAction action, final int nakBegin, final int nakEnd, final InetSocketAddress destination)
+    {
+        int begin = Math.min(nakBegin, action.termOffset);
+        int end = Math.max(nakEnd, action.termOffset + action.length);
+        long expireNs = action.expireNs;
+
+        unindex(action);
+        naksCoalesced.orderedIncrement();
+
+        for (final RetransmitAction other : retransmitActionPool)
+        {
+            if (other != action &&
+                State.DELAYED == other.state &&
+                action.termId == other.termId &&
+                other.termOffset <= end &&
+                begin <= other.termOffset + other.length)
+            {
+                begin = Math.min(begin, other.termOffset);
+                end = Math.max(end, other.termOffset + other.length);
+                expireNs = Math.min(expireNs, other.expireNs);
+                if (!action.covers(other.destination))
+                {
+                    action.destination = null;
+                }
+
+                remove(other);
+            }
+        }
+
+        action.termOffset = begin;
+        action.length = end - begin;
+        action.expireNs = expireNs;
+        if (!action.covers(destination))
+        {
+            action.destination = null;
+        }
+        activeRetransmitsMap.put(action.termId, begin, action);
+    }
+
+    private RetransmitAction findLingeringNeighbour(
+        final int termId,
+        final int begin,
+        final int end,
+        final InetSocketAddress destination,
+        final RetransmitAction exclude)
+    {
+        for (final RetransmitAction action : retransmitActionPool)
+        {
+            if (action != exclude &&
+                State.LINGERING == action.state &&
+                termId == action.termId &&
+                action.termOffset <= end &&
+                begin <= action.termOffset + action.length &&
+                Objects.equals(destination, action.destination))
+            {
+                return action;
+            }
+        }
+
+        return null;
+    }
+
+    private void mergeLingering(final RetransmitAction action, final int nakBegin, final int nakEnd)
+    {
+        int begin = Math.min(nakBegin, action.termOffset);
+        int end = Math.max(nakEnd, action.termOffset + action.length);
+
+        unindex(action);
+        naksCoalesced.orderedIncrement();
+
+        RetransmitAction other;
+        while (null != (other = findLingeringNeighbour(action.termId, begin, end, action.destination, action)))
+        {
+            begin = Math.min(begin, other.termOffset);
+            end = Math.max(end, other.termOffset + other.length);
+            remove(other);
+        }
+
+        action.termOffset = begin;
+        action.length = end - begin;
+        action.linger(determineLingerTimeout(), nanoClock.nanoTime());
+        if (null == activeRetransmitsMap.get(action.termId, begin))
+        {
+            activeRetransmitsMap.put(action.termId, begin, action);
+        }
+    }
+
+    private void remove(final RetransmitAction action)
+    {
+        unindex(action);
+        action.cancel();
+        activeCount--;
+    }
+
+    private void unindex(final RetransmitAction action)
+    {
+        if (activeRetransmitsMap.get(action.termId, action.termOffset) == action)
+        {
+            activeRetransmitsMap.remove(action.termId, action.termOffset);
+        }
+    }
+
+    private static void resend(final RetransmitAction action, final RetransmitSender retransmitSender)
+    {
+        resend(action.termId, action.termOffset, action.length, action.destination, retransmitSender);
+    }
+
+    private static void resend(
+        final int termId,
+        final int termOffset,
+        final int length,
+        final InetSocketAddress destination,
+        final RetransmitSender retransmitSender)
+    {
+        if (null == destination)
+        {
+            retransmitSender.resend(termId, termOffset, length);
+        }
+        else
+        {
+            retransmitSender.resend(termId, termOffset, length, destination);
+        }
+    }
+
     private boolean isInvalid(final int termOffset, final int termLength)
     {
         final boolean isInvalid = (termOffset > (termLength - DataHeaderFlyweight.HEADER_LENGTH)) || (termOffset < 0);
@@ -215,8 +485,14 @@ public class RetransmitHandler
         int termId;
         int termOffset;
         int length;
+        InetSocketAddress destination;
         State state = State.INACTIVE;
 
+        boolean covers(final InetSocketAddress destination)
+        {
+            return null == this.destination || this.destination.equals(destination);
+        }
+
         public void delay(final long delayNs, final long nowNs)
         {
             state = State.DELAYED;
@@ -232,6 +508,7 @@ public class RetransmitHandler
         public void cancel()
         {
             state = State.INACTIVE;
+            destination = null;
         }
     }
 }
@@ -15,6 +15,8 @@
  */
 package io.aeron.driver;
 
+import java.net.InetSocketAddress;
+
 /**
  * Handler for sending a retransmit
  */
@@ -29,4 +31,18 @@ public interface RetransmitSender
      * @param length     for the NAK
      */
     void resend(int termId, int termOffset, int length);
+
+    /**
+     * Called when a retransmit should be sent only to the destination which requested it, such as one of the
+     * destinations of a multi-destination-cast publication. By default the retransmit is sent to all destinations.
+     *
+     * @param termId      for the NAK
+     * @param termOffset  for the NAK
+     * @param length      for the NAK
+     * @param destination which sent the NAK
+     */
+    default void resend(final int termId, final int termOffset, final int length, final InetSocketAddress destination)
+    {
+        resend(termId, termOffset, length);
+    }
 }
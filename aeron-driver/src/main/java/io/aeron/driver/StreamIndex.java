@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.collections.Int2ObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
+
+/**
+ * Index of resources by the canonical form of their channel and stream id so the resources which could match a stream
+ * can be found without scanning all resources of a type.
+ *
+ * @param <T> type of resource indexed.
+ */
+final class StreamIndex<T>
+{
+    private final HashMap<String, Int2ObjectHashMap<ArrayList<T>>> resourcesByStreamIdByChannelMap = new HashMap<>();
+    private final ArrayList<T> emptyList = new ArrayList<>(0);
+
+    /**
+     * Add a resource to the index.
+     *
+     * @param channel  canonical form of the channel for the resource.
+     * @param streamId of the resource.
+     * @param resource to be added.
+     */
+    void add(final String channel, final int streamId, final T resource)
+    {
+        Int2ObjectHashMap<ArrayList<T>> resourcesByStreamIdMap = resourcesByStreamIdByChannelMap.get(channel);
+        if (null == resourcesByStreamIdMap)
+        {
+            resourcesByStreamIdMap = new Int2ObjectHashMap<>();
+            resourcesByStreamIdByChannelMap.put(channel, resourcesByStreamIdMap);
+        }
+
+        ArrayList<T> resources = resourcesByStreamIdMap.get(streamId);
+        if (null == resources)
+        {
+            resources = new ArrayList<>();
+            resourcesByStreamIdMap.put(streamId, resources);
+        }
+
+        resources.add(resource);
+    }
+
+    /**
+     * Remove a resource from the index if present.
+     *
+     * @param channel  canonical form of the channel for the resource.
+     * @param streamId of the resource.
+     * @param resource to be removed.
+     */
+    void remove(final String channel, final int streamId, final T resource)
+    {
+        final Int2ObjectHashMap<ArrayList<T>> resourcesByStreamIdMap = resourcesByStreamIdByChannelMap.get(channel);
+        if (null != resourcesByStreamIdMap)
+        {
+            final ArrayList<T> resources = resourcesByStreamIdMap.get(streamId);
+            if (null != resources && fastUnorderedRemove(resources, resource) && resources.isEmpty())
+            {
+                resourcesByStreamIdMap.remove(streamId);
+                if (resourcesByStreamIdMap.isEmpty())
+                {
+                    resourcesByStreamIdByChannelMap.remove(channel);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the resources for a channel and stream id. The returned list must not be modified and is only valid until
+     * the index is next changed.
+     *
+     * @param channel  canonical form of the channel.
+     * @param streamId within the channel.
+     * @return the resources for the channel and stream id which may be empty.
+     */
+    ArrayList<T> get(final String channel, final int streamId)
+    {
+        final Int2ObjectHashMap<ArrayList<T>> resourcesByStreamIdMap = resourcesByStreamIdByChannelMap.get(channel);
+        if (null != resourcesByStreamIdMap)
+        {
+            final ArrayList<T> resources = resourcesByStreamIdMap.get(streamId);
+            if (null != resources)
+            {
+                return resources;
+            }
+        }
+
+        return emptyList;
+    }
+}
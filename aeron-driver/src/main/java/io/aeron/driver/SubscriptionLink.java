@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.CommonContext;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.concurrent.status.ReadablePosition;
@@ -35,6 +36,8 @@ public abstract class SubscriptionLink implements DriverManagedResource
     protected final Map<Subscribable, ReadablePosition> positionBySubscribableMap = new IdentityHashMap<>();
 
     protected boolean reachedEndOfLife = false;
+    protected boolean isClosed = false;
+    private DeadlineTimerWheel.Timer timer;
 
     protected SubscriptionLink(
         final long registrationId,
@@ -70,6 +73,13 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return null;
     }
 
+    /**
+     * Canonical form of the channel this subscription is on for indexing by channel and stream.
+     *
+     * @return canonical form of the channel this subscription is on.
+     */
+    public abstract String canonicalChannel();
+
     public boolean isReliable()
     {
         return true;
@@ -90,6 +100,16 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return false;
     }
 
+    public void timer(final DeadlineTimerWheel.Timer timer)
+    {
+        this.timer = timer;
+    }
+
+    public DeadlineTimerWheel.Timer timer()
+    {
+        return timer;
+    }
+
     public boolean isLinked(final Subscribable subscribable)
     {
         return positionBySubscribableMap.containsKey(subscribable);
@@ -105,14 +125,24 @@ public abstract class SubscriptionLink implements DriverManagedResource
         positionBySubscribableMap.remove(subscribable);
     }
 
+    /**
+     * Remove this subscription from what it is linked to and mark it as having reached end of life so it is removed
+     * when its timer is next due, which the conductor reschedules for the next tick when the subscription is removed.
+     * Subsequent calls have no effect.
+     */
     public void close()
     {
-        positionBySubscribableMap.forEach(Subscribable::removeSubscriber);
+        if (!isClosed)
+        {
+            isClosed = true;
+            reachedEndOfLife = true;
+            positionBySubscribableMap.forEach(Subscribable::removeSubscriber);
+        }
     }
 
     public void onTimeEvent(final long timeNs, final long timeMs, final DriverConductor conductor)
     {
-        if (timeNs > (aeronClient.timeOfLastKeepalive() + clientLivenessTimeoutNs))
+        if (!reachedEndOfLife && timeNs > (aeronClient.timeOfLastKeepalive() + clientLivenessTimeoutNs))
         {
             reachedEndOfLife = true;
             conductor.cleanupSubscriptionLink(this);
@@ -124,6 +154,11 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return reachedEndOfLife;
     }
 
+    public long timeOfNextTimeEventNs(final long timeNs)
+    {
+        return reachedEndOfLife ? timeNs : aeronClient.timeOfLastKeepalive() + clientLivenessTimeoutNs + 1;
+    }
+
     public void timeOfLastStateChange(final long time)
     {
         // not set this way
@@ -170,6 +205,11 @@ class NetworkSubscriptionLink extends SubscriptionLink
         return channelEndpoint;
     }
 
+    public String canonicalChannel()
+    {
+        return channelEndpoint.udpChannel().canonicalForm();
+    }
+
     public boolean matches(final ReceiveChannelEndpoint channelEndpoint, final int streamId)
     {
         return channelEndpoint == this.channelEndpoint && streamId == this.streamId;
@@ -188,6 +228,11 @@ class IpcSubscriptionLink extends SubscriptionLink
         super(registrationId, streamId, channelUri, aeronClient, clientLivenessTimeoutNs);
     }
 
+    public String canonicalChannel()
+    {
+        return CommonContext.IPC_CHANNEL;
+    }
+
     public boolean matches(final int streamId)
     {
         return streamId() == streamId;
@@ -209,6 +254,11 @@ class SpySubscriptionLink extends SubscriptionLink
         this.udpChannel = spiedChannel;
     }
 
+    public String canonicalChannel()
+    {
+        return udpChannel.canonicalForm();
+    }
+
     public boolean matches(final NetworkPublication publication)
     {
         return streamId == publication.streamId() &&
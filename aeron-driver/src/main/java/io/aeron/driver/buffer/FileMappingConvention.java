@@ -22,9 +22,10 @@ import java.io.File;
 /**
  * Encodes the file mapping convention used by the media driver for log buffer backing files.
  *
- * Root directory is the "aeron.dir"
- * Source publications are under "${aeron.dir}/publications"
- * Rebuilt publications are under "${aeron.dir}/images"
+ * Root directory is the "aeron.log.buffer.dir", which defaults to the "aeron.dir"
+ * Source publications are under "${aeron.log.buffer.dir}/publications"
+ * Rebuilt publications are under "${aeron.log.buffer.dir}/images"
+ * Pooled log buffers awaiting use are under "${aeron.log.buffer.dir}/log-pool"
  *
  * Both publications and images share the same structure of "sessionId/streamId/consumptionTermId".
  */
@@ -32,9 +33,11 @@ class FileMappingConvention
 {
     public static final String PUBLICATIONS = "publications";
     public static final String IMAGES = "images";
+    public static final String LOG_POOL = "log-pool";
 
     private final File publicationsDir;
     private final File imagesDir;
+    private final File logPoolDir;
 
     FileMappingConvention(final String dataDirName)
     {
@@ -43,6 +46,7 @@ class FileMappingConvention
 
         publicationsDir = new File(dataDir, PUBLICATIONS);
         imagesDir = new File(dataDir, IMAGES);
+        logPoolDir = new File(dataDir, LOG_POOL);
     }
 
     /**
@@ -65,6 +69,16 @@ class FileMappingConvention
         return imagesDir;
     }
 
+    /**
+     * Get the directory used for pooled log buffer files which are awaiting reuse.
+     *
+     * @return the directory used for pooled log buffer files.
+     */
+    public File logPoolDir()
+    {
+        return logPoolDir;
+    }
+
     public static File streamLocation(
         final File rootDir,
         final String channel,
@@ -25,45 +25,56 @@ import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 
+import static io.aeron.driver.Configuration.FILE_PAGE_LENGTH_DEFAULT;
 import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static java.nio.file.StandardOpenOption.*;
 
 /**
  * Encapsulates responsibility for mapping the files into memory used by the log partitions.
+ *
+ * Closing always unmaps and deletes the file, as clients may still have it mapped, and when created with a pool a new
+ * file is queued to be filled in the pool to replace it so the pool only ever holds files which have never been handed
+ * out.
  */
 class MappedRawLog implements RawLog
 {
     private static final int ONE_GIG = 1 << 30;
-    private static final int PAGE_LENGTH = 4096;
 
     private final int termLength;
+    private final int filePageLength;
     private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
-    private final File logFile;
+    private final RawLogFactory logPool;
+    private File logFile;
     private final MappedByteBuffer[] mappedBuffers;
     private final UnsafeBuffer logMetaDataBuffer;
     private final DistinctErrorLog errorLog;
+    private long allocatedLength = 0;
 
     MappedRawLog(
         final File location,
         final boolean useSparseFiles,
         final int termLength,
-        final DistinctErrorLog errorLog)
+        final int filePageLength,
+        final DistinctErrorLog errorLog,
+        final RawLogFactory logPool)
     {
         this.termLength = termLength;
+        this.filePageLength = filePageLength;
         this.errorLog = errorLog;
         this.logFile = location;
+        this.logPool = logPool;
 
         try (FileChannel logChannel = FileChannel.open(logFile.toPath(), CREATE_NEW, READ, WRITE))
         {
-            final long logLength = computeLogLength(termLength);
+            final long logLength = computePaddedLogLength(termLength, filePageLength);
 
             if (logLength <= Integer.MAX_VALUE)
             {
                 final MappedByteBuffer mappedBuffer = logChannel.map(READ_WRITE, 0, logLength);
                 if (!useSparseFiles)
                 {
-                    allocatePages(mappedBuffer, (int)logLength);
+                    allocatePages(mappedBuffer, (int)logLength, filePageLength);
                 }
 
                 mappedBuffers = new MappedByteBuffer[]{ mappedBuffer };
@@ -85,13 +96,13 @@ class MappedRawLog implements RawLog
                     mappedBuffers[i] = logChannel.map(READ_WRITE, termLength * (long)i, termLength);
                     if (!useSparseFiles)
                     {
-                        allocatePages(mappedBuffers[i], termLength);
+                        allocatePages(mappedBuffers[i], termLength, filePageLength);
                     }
 
                     termBuffers[i] = new UnsafeBuffer(mappedBuffers[i]);
                 }
 
-                final long metaDataSectionOffset = termLength * (long)PARTITION_COUNT;
+                final long metaDataSectionOffset = logLength - LOG_META_DATA_LENGTH;
                 final MappedByteBuffer metaDataMappedBuffer = logChannel.map(
                     READ_WRITE, metaDataSectionOffset, LOG_META_DATA_LENGTH);
                 mappedBuffers[LOG_META_DATA_SECTION_INDEX] = metaDataMappedBuffer;
@@ -109,7 +120,73 @@ class MappedRawLog implements RawLog
         return termLength;
     }
 
+    /**
+     * Compute the length of a log file, padded before the meta data to be a multiple of the file page length when it
+     * is larger than the default, as huge page file systems require. Logs on the default page length are not padded.
+     *
+     * @param termLength     of each term in the log.
+     * @param filePageLength of the file system on which the log is created.
+     * @return the length of the log file.
+     */
+    static long computePaddedLogLength(final int termLength, final int filePageLength)
+    {
+        final long logLength = computeLogLength(termLength);
+        if (filePageLength <= FILE_PAGE_LENGTH_DEFAULT)
+        {
+            return logLength;
+        }
+
+        final long alignmentMask = filePageLength - 1;
+
+        return (logLength + alignmentMask) & ~alignmentMask;
+    }
+
     public void close()
+    {
+        free();
+
+        if (null != logPool)
+        {
+            logPool.replenish(termLength);
+        }
+    }
+
+    /**
+     * Touch the next pages of a log created with a sparse file, so it can be allocated over a number of calls.
+     *
+     * @param length in bytes of the log to touch in this call.
+     * @return true if all pages of the terms and meta data have been touched otherwise false.
+     */
+    boolean allocatePages(final int length)
+    {
+        final long termsLength = (long)termLength * PARTITION_COUNT;
+        final long limit = Math.min(allocatedLength + Math.max(length, 1), termsLength + LOG_META_DATA_LENGTH);
+
+        long offset = allocatedLength;
+        while (offset < limit)
+        {
+            if (offset < termsLength)
+            {
+                final int index = (int)(offset / termLength);
+                termBuffers[index].putByte((int)(offset - ((long)index * termLength)), (byte)0);
+            }
+            else
+            {
+                logMetaDataBuffer.putByte((int)(offset - termsLength), (byte)0);
+            }
+
+            offset += filePageLength;
+        }
+
+        allocatedLength = offset;
+
+        return offset >= termsLength + LOG_META_DATA_LENGTH;
+    }
+
+    /**
+     * Unmap and delete the log file without replenishing any pool.
+     */
+    void free()
     {
         for (final MappedByteBuffer buffer : mappedBuffers)
         {
@@ -122,6 +199,23 @@ class MappedRawLog implements RawLog
         }
     }
 
+    /**
+     * Rename the log file while it remains mapped.
+     *
+     * @param location to which the log file is moved.
+     * @return true if the file was moved otherwise false.
+     */
+    boolean moveTo(final File location)
+    {
+        final boolean isMoved = logFile.renameTo(location);
+        if (isMoved)
+        {
+            logFile = location;
+        }
+
+        return isMoved;
+    }
+
     public UnsafeBuffer[] termBuffers()
     {
         return termBuffers;
@@ -161,9 +255,9 @@ class MappedRawLog implements RawLog
         return logFile.getAbsolutePath();
     }
 
-    private static void allocatePages(final MappedByteBuffer buffer, final int length)
+    private static void allocatePages(final MappedByteBuffer buffer, final int length, final int pageLength)
     {
-        for (int i = 0; i < length; i += PAGE_LENGTH)
+        for (int i = 0; i < length; i += pageLength)
         {
             buffer.put(i, (byte)0);
         }
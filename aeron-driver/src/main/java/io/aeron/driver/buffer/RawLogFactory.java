@@ -15,45 +15,99 @@
  */
 package io.aeron.driver.buffer;
 
-import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.errors.DistinctErrorLog;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.ArrayDeque;
 
+import static io.aeron.driver.Configuration.FILE_PAGE_LENGTH_DEFAULT;
+import static io.aeron.driver.Configuration.LOG_POOL_REPLENISH_LENGTH;
 import static io.aeron.driver.Configuration.LOW_FILE_STORE_WARNING_THRESHOLD;
 import static io.aeron.driver.buffer.FileMappingConvention.streamLocation;
 
 /**
  * Factory for creating {@link RawLog}s in the source publications or publication images directories as appropriate.
+ *
+ * Optionally logs are created ahead of need in a pool, grouped by term length and capped in total length, so new logs
+ * can be drawn from the pool rather than creating and page faulting a new file. Closed logs are never recycled as
+ * clients may still have them mapped, instead a closed log is deleted and a new file is filled in the pool to take its
+ * place by {@link #doWork()}, a bounded number of pages at a time, so the conductor is not stalled by a whole log.
+ *
+ * The directory may be on a file system with large pages, such as hugetlbfs, in which case log files are padded to a
+ * multiple of the page length and term lengths must be a multiple of it.
  */
-public class RawLogFactory
+public class RawLogFactory implements AutoCloseable
 {
     private final DistinctErrorLog errorLog;
     private final int maxTermBufferLength;
     private final boolean useSparseFiles;
+    private final int filePageLength;
     private final File publicationsDir;
     private final File imagesDir;
+    private final File logPoolDir;
     private final FileStore fileStore;
+    private final long maxPoolLength;
+    private final AtomicCounter poolHits;
+    private final AtomicCounter poolMisses;
+    private final Int2ObjectHashMap<ArrayDeque<MappedRawLog>> poolByTermLength = new Int2ObjectHashMap<>();
+    private final IntArrayList replenishTermLengths = new IntArrayList();
+    private MappedRawLog replenishLog;
+    private long pooledLength = 0;
+    private long pooledLogId = 0;
+    private boolean isClosed = false;
 
     public RawLogFactory(
         final String dataDirectoryName,
         final int imagesTermBufferMaxLength,
         final boolean useSparseFiles,
         final DistinctErrorLog errorLog)
+    {
+        this(
+            dataDirectoryName,
+            imagesTermBufferMaxLength,
+            useSparseFiles,
+            FILE_PAGE_LENGTH_DEFAULT,
+            errorLog,
+            0,
+            null,
+            null);
+    }
+
+    public RawLogFactory(
+        final String dataDirectoryName,
+        final int imagesTermBufferMaxLength,
+        final boolean useSparseFiles,
+        final int filePageLength,
+        final DistinctErrorLog errorLog,
+        final long maxPoolLength,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses)
     {
         this.errorLog = errorLog;
         this.useSparseFiles = useSparseFiles;
+        this.filePageLength = filePageLength;
+        this.maxPoolLength = maxPoolLength;
+        this.poolHits = poolHits;
+        this.poolMisses = poolMisses;
 
         final FileMappingConvention fileMappingConvention = new FileMappingConvention(dataDirectoryName);
         publicationsDir = fileMappingConvention.publicationsDir();
         imagesDir = fileMappingConvention.imagesDir();
+        logPoolDir = fileMappingConvention.logPoolDir();
 
         IoUtil.ensureDirectoryExists(publicationsDir, FileMappingConvention.PUBLICATIONS);
         IoUtil.ensureDirectoryExists(imagesDir, FileMappingConvention.IMAGES);
+        if (maxPoolLength > 0)
+        {
+            IoUtil.ensureDirectoryExists(logPoolDir, FileMappingConvention.LOG_POOL);
+        }
 
         FileStore fs = null;
         try
@@ -69,6 +123,23 @@ public class RawLogFactory
         this.maxTermBufferLength = imagesTermBufferMaxLength;
     }
 
+    /**
+     * The directories of log buffer files owned by a driver under a data directory. Only these are deleted when a
+     * driver starts with a log buffer directory which is separate from the aeron directory.
+     *
+     * @param dataDir under which the log buffer files are created.
+     * @return the directories of log buffer files owned by a driver.
+     */
+    public static File[] logDirectories(final File dataDir)
+    {
+        return new File[]
+        {
+            new File(dataDir, FileMappingConvention.PUBLICATIONS),
+            new File(dataDir, FileMappingConvention.IMAGES),
+            new File(dataDir, FileMappingConvention.LOG_POOL)
+        };
+    }
+
     /**
      * Create new {@link RawLog} in the publications directory for the supplied triplet.
      *
@@ -124,6 +195,160 @@ public class RawLogFactory
         return newInstance(publicationsDir, "ipc", sessionId, streamId, correlationId, termBufferLength);
     }
 
+    /**
+     * Create logs with touched pages in the pool ahead of them being needed, up to the max length of the pool.
+     *
+     * @param termBufferLength of the logs to create.
+     * @param count            of logs to create.
+     * @return the number of logs which were added to the pool.
+     */
+    public int preallocate(final int termBufferLength, final int count)
+    {
+        validateTermBufferLength(termBufferLength);
+
+        final long logLength = MappedRawLog.computePaddedLogLength(termBufferLength, filePageLength);
+        int added = 0;
+
+        while (added < count && (pooledLength + logLength) <= maxPoolLength && getUsableSpace() >= logLength)
+        {
+            final MappedRawLog rawLog = new MappedRawLog(
+                nextPoolLocation(termBufferLength), false, termBufferLength, filePageLength, errorLog, this);
+            addToPool(rawLog, logLength);
+            added++;
+        }
+
+        return added;
+    }
+
+    /**
+     * Fill the next pages of a log replacing one which has been closed, adding it to the pool once all its pages have
+     * been touched.
+     *
+     * @return the amount of work done.
+     */
+    public int doWork()
+    {
+        int workCount = 0;
+
+        if (null != replenishLog)
+        {
+            if (replenishLog.allocatePages(LOG_POOL_REPLENISH_LENGTH))
+            {
+                addToPool(replenishLog, MappedRawLog.computePaddedLogLength(replenishLog.termLength(), filePageLength));
+                replenishLog = null;
+            }
+
+            workCount = 1;
+        }
+        else if (replenishTermLengths.size() > 0)
+        {
+            final int termBufferLength = replenishTermLengths.getInt(0);
+            replenishTermLengths.removeInt(termBufferLength);
+
+            final long logLength = MappedRawLog.computePaddedLogLength(termBufferLength, filePageLength);
+            if ((pooledLength + logLength) <= maxPoolLength && getUsableSpace() >= logLength)
+            {
+                replenishLog = new MappedRawLog(
+                    nextPoolLocation(termBufferLength), true, termBufferLength, filePageLength, errorLog, this);
+            }
+
+            workCount = 1;
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Number of bytes of log buffers currently held in the pool.
+     *
+     * @return number of bytes of log buffers currently held in the pool.
+     */
+    public long pooledLength()
+    {
+        return pooledLength;
+    }
+
+    /**
+     * Unmap and delete the logs held in the pool.
+     */
+    public void close()
+    {
+        isClosed = true;
+        poolByTermLength.forEach(
+            (termLength, pool) ->
+            {
+                MappedRawLog rawLog;
+                while (null != (rawLog = pool.pollFirst()))
+                {
+                    rawLog.free();
+                }
+            });
+
+        poolByTermLength.clear();
+        pooledLength = 0;
+        replenishTermLengths.clear();
+
+        if (null != replenishLog)
+        {
+            replenishLog.free();
+            replenishLog = null;
+        }
+    }
+
+    /**
+     * Queue a log which has been closed to be replaced with a new file in the pool by {@link #doWork()}, if there is
+     * room for it then.
+     *
+     * @param termBufferLength of the log which has been closed.
+     */
+    void replenish(final int termBufferLength)
+    {
+        if (!isClosed)
+        {
+            replenishTermLengths.addInt(termBufferLength);
+        }
+    }
+
+    private MappedRawLog pollPool(final int termBufferLength, final File location)
+    {
+        final ArrayDeque<MappedRawLog> pool = poolByTermLength.get(termBufferLength);
+        MappedRawLog rawLog = null != pool ? pool.pollFirst() : null;
+
+        if (null != rawLog)
+        {
+            pooledLength -= MappedRawLog.computePaddedLogLength(termBufferLength, filePageLength);
+            if (!rawLog.moveTo(location))
+            {
+                errorLog.record(new IllegalStateException("Unable to move pooled log to " + location));
+                rawLog.free();
+                rawLog = null;
+            }
+        }
+
+        return rawLog;
+    }
+
+    private void addToPool(final MappedRawLog rawLog, final long logLength)
+    {
+        ArrayDeque<MappedRawLog> pool = poolByTermLength.get(rawLog.termLength());
+        if (null == pool)
+        {
+            pool = new ArrayDeque<>();
+            poolByTermLength.put(rawLog.termLength(), pool);
+        }
+
+        pool.addLast(rawLog);
+        pooledLength += logLength;
+    }
+
+    private File nextPoolLocation(final int termBufferLength)
+    {
+        final String fileName = Integer.toHexString(termBufferLength) + '-' + Long.toHexString(pooledLogId++) +
+            ".logbuffer";
+
+        return new File(logPoolDir, fileName);
+    }
+
     private RawLog newInstance(
         final File rootDir,
         final String channel,
@@ -134,8 +359,22 @@ public class RawLogFactory
     {
         validateTermBufferLength(termBufferLength);
 
+        final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
+
+        if (maxPoolLength > 0)
+        {
+            final MappedRawLog pooledLog = pollPool(termBufferLength, location);
+            if (null != pooledLog)
+            {
+                poolHits.orderedIncrement();
+                return pooledLog;
+            }
+
+            poolMisses.orderedIncrement();
+        }
+
         final long usableSpace = getUsableSpace();
-        final long logLength = LogBufferDescriptor.computeLogLength(termBufferLength);
+        final long logLength = MappedRawLog.computePaddedLogLength(termBufferLength, filePageLength);
 
         if (usableSpace <= LOW_FILE_STORE_WARNING_THRESHOLD)
         {
@@ -149,9 +388,8 @@ public class RawLogFactory
                 "Insufficient usable storage for new log of length=" + logLength + " in " + fileStore);
         }
 
-        final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
-
-        return new MappedRawLog(location, useSparseFiles, termBufferLength, errorLog);
+        return new MappedRawLog(
+            location, useSparseFiles, termBufferLength, filePageLength, errorLog, maxPoolLength > 0 ? this : null);
     }
 
     private long getUsableSpace()
@@ -177,5 +415,19 @@ public class RawLogFactory
             throw new IllegalArgumentException(
                 "invalid buffer length: " + termBufferLength + " max is " + maxTermBufferLength);
         }
+
+        if ((termBufferLength & (filePageLength - 1)) != 0)
+        {
+            throw new IllegalArgumentException(
+                "buffer length: " + termBufferLength + " is not a multiple of file page length: " + filePageLength);
+        }
+
+        if (filePageLength > FILE_PAGE_LENGTH_DEFAULT &&
+            MappedRawLog.computePaddedLogLength(termBufferLength, filePageLength) > Integer.MAX_VALUE)
+        {
+            throw new IllegalArgumentException(
+                "buffer length: " + termBufferLength + " is too long to map in one region for file page length: " +
+                filePageLength);
+        }
     }
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControlUtil.packOutcome;
+
+/**
+ * BBR style congestion control manipulation of the receiver window length.
+ *
+ * https://queue.acm.org/detail.cfm?id=3022184
+ *
+ * Rather than reacting to loss the window is sized from a model of the path:
+ *
+ * window = gain * BtlBw * RTprop
+ *
+ * BtlBw = windowed max of the delivery rate, sampled from the rebuild position once per round trip
+ * RTprop = windowed min of the RTT measurements to the sender
+ *
+ * The model moves through STARTUP, where the window grows by 2/ln2 each round until the delivery rate stops
+ * growing, DRAIN, which holds the window at one BDP for a round to remove the queue built during startup, and
+ * PROBE_BW, which cycles the gain to probe for more bandwidth then drain any queue it caused. When the min RTT has
+ * not been refreshed within its expiry the window is held at its minimum during PROBE_RTT so a queue free RTT can
+ * be observed.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    enum State
+    {
+        STARTUP, DRAIN, PROBE_BW, PROBE_RTT
+    }
+
+    private static final long INITIAL_RTT_NS = BbrCongestionControlConfiguration.INITIAL_RTT_NS;
+    private static final long MIN_RTT_EXPIRY_NS = BbrCongestionControlConfiguration.MIN_RTT_EXPIRY_NS;
+    private static final long PROBE_RTT_DURATION_NS = BbrCongestionControlConfiguration.PROBE_RTT_DURATION_NS;
+    private static final double WINDOW_GAIN = BbrCongestionControlConfiguration.WINDOW_GAIN;
+
+    private static final long RTT_MEASUREMENT_TIMEOUT_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long RTT_MAX_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double HIGH_GAIN = 2.0 / Math.log(2.0);
+    private static final double[] PROBE_BW_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+    private static final double FULL_BW_THRESHOLD = 1.25;
+    private static final int FULL_BW_ROUNDS = 3;
+    private static final int BW_FILTER_ROUNDS = 10;
+    private static final int MIN_WINDOW_MTUS = 4;
+
+    private final int minWindow;
+    private final int maxWindow;
+    private final long[] bwSamples = new long[BW_FILTER_ROUNDS];
+
+    private State state = State.STARTUP;
+    private long roundCount;
+    private long roundStartNs;
+    private long roundStartPosition = -1;
+    private long maxBw;
+    private long fullBw;
+    private int fullBwCount;
+    private int probeBwGainIndex;
+    private long probeRttDoneNs;
+    private long minRttNs;
+    private long minRttTimestampNs;
+    private long lastRttSampleCount;
+    private int window;
+
+    private long lastRttTimestampNs;
+    private boolean isRttMeasurementOutstanding;
+    private volatile long rttSampleNs;
+    private volatile long rttSampleCount;
+
+    private final AtomicCounter rttIndicator;
+    private final AtomicCounter windowIndicator;
+    private final AtomicCounter bandwidthIndicator;
+    private final AtomicCounter stateIndicator;
+
+    BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final NanoClock clock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        maxWindow = Math.min(termLength / 2, context.initialWindowLength());
+        minWindow = Math.min(maxWindow, MIN_WINDOW_MTUS * senderMtuLength);
+        window = minWindow;
+        minRttNs = INITIAL_RTT_NS;
+
+        final long nowNs = clock.nanoTime();
+        minRttTimestampNs = nowNs;
+        roundStartNs = nowNs;
+
+        final String channel = udpChannel.originalUriString();
+        rttIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-rtt", countersManager, registrationId, sessionId, streamId, channel, "");
+        windowIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-wnd", countersManager, registrationId, sessionId, streamId, channel, "");
+        bandwidthIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-bw", countersManager, registrationId, sessionId, streamId, channel, "");
+        stateIndicator = PerImageIndicator.allocate(
+            "rcv-cc-bbr-state", countersManager, registrationId, sessionId, streamId, channel, "");
+
+        rttIndicator.setOrdered(minRttNs);
+        windowIndicator.setOrdered(window);
+        bandwidthIndicator.setOrdered(0);
+        stateIndicator.setOrdered(state.ordinal());
+    }
+
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        boolean result = false;
+
+        if (nowNs > (lastRttTimestampNs + RTT_MAX_TIMEOUT_NS) ||
+            (!isRttMeasurementOutstanding && nowNs > (lastRttTimestampNs + RTT_MEASUREMENT_TIMEOUT_NS)))
+        {
+            lastRttTimestampNs = nowNs;
+            isRttMeasurementOutstanding = true;
+            result = true;
+        }
+
+        return result;
+    }
+
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        isRttMeasurementOutstanding = false;
+        lastRttTimestampNs = nowNs;
+        rttSampleNs = rttNs;
+        rttSampleCount = rttSampleCount + 1;
+    }
+
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        final boolean isMinRttExpired = updateMinRtt(nowNs);
+
+        if (-1 == roundStartPosition)
+        {
+            roundStartPosition = endingRebuildPosition;
+        }
+        else if (nowNs >= (roundStartNs + minRttNs))
+        {
+            onRoundEnd(nowNs, endingRebuildPosition);
+        }
+
+        if (isMinRttExpired && State.PROBE_RTT != state)
+        {
+            enterState(State.PROBE_RTT);
+            probeRttDoneNs = nowNs + Math.max(PROBE_RTT_DURATION_NS, minRttNs);
+        }
+        else if (State.PROBE_RTT == state && nowNs >= probeRttDoneNs)
+        {
+            minRttTimestampNs = nowNs;
+            enterState(fullBwCount >= FULL_BW_ROUNDS ? State.PROBE_BW : State.STARTUP);
+        }
+
+        final int oldWindow = window;
+        window = computeWindow();
+        windowIndicator.setOrdered(window);
+
+        return packOutcome(window, window > oldWindow);
+    }
+
+    public int initialWindowLength()
+    {
+        return minWindow;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(rttIndicator);
+        CloseHelper.close(windowIndicator);
+        CloseHelper.close(bandwidthIndicator);
+        CloseHelper.close(stateIndicator);
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    long bottleneckBandwidth()
+    {
+        return maxBw;
+    }
+
+    private boolean updateMinRtt(final long nowNs)
+    {
+        final boolean isExpired = nowNs > (minRttTimestampNs + MIN_RTT_EXPIRY_NS);
+        final long sampleCount = rttSampleCount;
+
+        if (sampleCount != lastRttSampleCount)
+        {
+            lastRttSampleCount = sampleCount;
+            final long rttNs = rttSampleNs;
+
+            if (rttNs > 0 && (rttNs <= minRttNs || isExpired))
+            {
+                minRttNs = rttNs;
+                minRttTimestampNs = nowNs;
+                rttIndicator.setOrdered(rttNs);
+            }
+        }
+
+        return isExpired;
+    }
+
+    private void onRoundEnd(final long nowNs, final long endingRebuildPosition)
+    {
+        final long bytesDelivered = endingRebuildPosition - roundStartPosition;
+        final long deliveryRate = (bytesDelivered * SECOND_IN_NS) / (nowNs - roundStartNs);
+        bwSamples[(int)(roundCount % BW_FILTER_ROUNDS)] = deliveryRate;
+
+        long maxBw = 0;
+        for (final long sample : bwSamples)
+        {
+            maxBw = Math.max(maxBw, sample);
+        }
+        this.maxBw = maxBw;
+        bandwidthIndicator.setOrdered(maxBw);
+
+        roundCount++;
+        roundStartNs = nowNs;
+        roundStartPosition = endingRebuildPosition;
+
+        switch (state)
+        {
+            case STARTUP:
+                checkFullBandwidthReached();
+                break;
+
+            case DRAIN:
+                enterState(State.PROBE_BW);
+                break;
+
+            case PROBE_BW:
+                probeBwGainIndex = (probeBwGainIndex + 1) % PROBE_BW_GAINS.length;
+                break;
+        }
+    }
+
+    private void checkFullBandwidthReached()
+    {
+        if (maxBw >= (long)(fullBw * FULL_BW_THRESHOLD))
+        {
+            fullBw = maxBw;
+            fullBwCount = 0;
+        }
+        else if (++fullBwCount >= FULL_BW_ROUNDS)
+        {
+            enterState(State.DRAIN);
+        }
+    }
+
+    private int computeWindow()
+    {
+        final double gain;
+        switch (state)
+        {
+            case STARTUP:
+                gain = HIGH_GAIN;
+                break;
+
+            case DRAIN:
+                gain = 1.0;
+                break;
+
+            case PROBE_RTT:
+                return minWindow;
+
+            default:
+                gain = PROBE_BW_GAINS[probeBwGainIndex] * WINDOW_GAIN;
+                break;
+        }
+
+        if (0 == maxBw)
+        {
+            return window;
+        }
+
+        final double bdp = ((double)maxBw * minRttNs) / SECOND_IN_NS;
+        final long window = (long)(bdp * gain);
+
+        return (int)Math.max(minWindow, Math.min(maxWindow, window));
+    }
+
+    private void enterState(final State newState)
+    {
+        state = newState;
+        stateIndicator.setOrdered(newState.ordinal());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration options to be applied when {@link BbrCongestionControl}
+ * are loaded.
+ */
+public class BbrCongestionControlConfiguration
+{
+    /**
+     * Property name for initial RTT estimate in nanoseconds used until a measurement is taken.
+     */
+    public static final String INITIAL_RTT_NS_PROP_NAME = "aeron.BbrCongestionControl.initialRtt";
+
+    /**
+     * Default initial RTT estimate in nanoseconds.
+     */
+    public static final long INITIAL_RTT_NS_DEFAULT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Property name for how long a min RTT estimate is trusted before the window is drained to probe for it again.
+     */
+    public static final String MIN_RTT_EXPIRY_NS_PROP_NAME = "aeron.BbrCongestionControl.minRttExpiry";
+
+    /**
+     * Default expiry of the min RTT estimate in nanoseconds.
+     */
+    public static final long MIN_RTT_EXPIRY_NS_DEFAULT = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Property name for how long the window is held at its minimum while probing for min RTT.
+     */
+    public static final String PROBE_RTT_DURATION_NS_PROP_NAME = "aeron.BbrCongestionControl.probeRttDuration";
+
+    /**
+     * Default duration in nanoseconds of the probe RTT phase.
+     */
+    public static final long PROBE_RTT_DURATION_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * Property name for the gain applied to the estimated bandwidth-delay product to give the receiver window
+     * in steady state. Headroom above 1.0 covers the interval between status messages.
+     */
+    public static final String WINDOW_GAIN_PROP_NAME = "aeron.BbrCongestionControl.windowGain";
+
+    /**
+     * Default gain applied to the bandwidth-delay product to give the receiver window.
+     */
+    public static final double WINDOW_GAIN_DEFAULT = 2.0;
+
+    public static final long INITIAL_RTT_NS = Long.getLong(INITIAL_RTT_NS_PROP_NAME, INITIAL_RTT_NS_DEFAULT);
+    public static final long MIN_RTT_EXPIRY_NS = Long.getLong(MIN_RTT_EXPIRY_NS_PROP_NAME, MIN_RTT_EXPIRY_NS_DEFAULT);
+    public static final long PROBE_RTT_DURATION_NS = Long.getLong(
+        PROBE_RTT_DURATION_NS_PROP_NAME, PROBE_RTT_DURATION_NS_DEFAULT);
+    public static final double WINDOW_GAIN = Double.parseDouble(
+        System.getProperty(WINDOW_GAIN_PROP_NAME, Double.toString(WINDOW_GAIN_DEFAULT)));
+}
@@ -20,6 +20,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.DataPacketDispatcher;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -95,6 +96,22 @@ public class DebugReceiveChannelEndpoint extends ReceiveChannelEndpoint
         return result;
     }
 
+    public int onFecPacket(
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        int result = 0;
+
+        if (!dataLossGenerator.shouldDropFrame(srcAddress, buffer, length))
+        {
+            result = super.onFecPacket(header, buffer, length, srcAddress);
+        }
+
+        return result;
+    }
+
     public void onSetupMessage(
         final SetupFlyweight header,
         final UnsafeBuffer buffer,
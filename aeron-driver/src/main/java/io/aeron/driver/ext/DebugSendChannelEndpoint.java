@@ -73,6 +73,19 @@ public class DebugSendChannelEndpoint extends SendChannelEndpoint
         return result;
     }
 
+    public int send(final ByteBuffer buffer, final InetSocketAddress destination)
+    {
+        int result = buffer.remaining();
+
+        dataBuffer.wrap(buffer, buffer.position(), buffer.remaining());
+        if (!dataLossGenerator.shouldDropFrame(destination, dataBuffer, buffer.remaining()))
+        {
+            result = super.send(buffer, destination);
+        }
+
+        return result;
+    }
+
     public void onStatusMessage(
         final StatusMessageFlyweight msg,
         final UnsafeBuffer buffer,
@@ -16,6 +16,7 @@
 package io.aeron.driver.media;
 
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.LangUtil;
@@ -26,6 +27,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
@@ -44,7 +46,8 @@ public class DataTransportPoller extends UdpTransportPoller
     private final DataHeaderFlyweight dataMessage;
     private final SetupFlyweight setupMessage;
     private final RttMeasurementFlyweight rttMeasurement;
-    private ReceiveChannelEndpoint[] transports = new ReceiveChannelEndpoint[0];
+    private final FecFlyweight fecMessage;
+    private ChannelAndTransport[] channelAndTransports = new ChannelAndTransport[0];
 
     public DataTransportPoller()
     {
@@ -53,13 +56,18 @@ public class DataTransportPoller extends UdpTransportPoller
         dataMessage = new DataHeaderFlyweight(unsafeBuffer);
         setupMessage = new SetupFlyweight(unsafeBuffer);
         rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+        fecMessage = new FecFlyweight(unsafeBuffer);
     }
 
     public void close()
     {
-        for (final ReceiveChannelEndpoint channelEndpoint : transports)
+        for (final ChannelAndTransport channelAndTransport : channelAndTransports)
         {
-            channelEndpoint.close();
+            final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+            if (channelAndTransport.datagramChannel == channelEndpoint.receiveDatagramChannel())
+            {
+                channelEndpoint.close();
+            }
         }
 
         super.close();
@@ -70,11 +78,11 @@ public class DataTransportPoller extends UdpTransportPoller
         int bytesReceived = 0;
         try
         {
-            if (transports.length <= ITERATION_THRESHOLD)
+            if (channelAndTransports.length <= ITERATION_THRESHOLD)
             {
-                for (final ReceiveChannelEndpoint transport : transports)
+                for (final ChannelAndTransport channelAndTransport : channelAndTransports)
                 {
-                    bytesReceived += poll(transport);
+                    bytesReceived += poll(channelAndTransport);
                 }
             }
             else
@@ -84,7 +92,7 @@ public class DataTransportPoller extends UdpTransportPoller
                 final SelectionKey[] keys = selectedKeySet.keys();
                 for (int i = 0, length = selectedKeySet.size(); i < length; i++)
                 {
-                    bytesReceived += poll((ReceiveChannelEndpoint)keys[i].attachment());
+                    bytesReceived += poll((ChannelAndTransport)keys[i].attachment());
                 }
 
                 selectedKeySet.reset();
@@ -108,8 +116,18 @@ public class DataTransportPoller extends UdpTransportPoller
         SelectionKey key = null;
         try
         {
-            transports = ArrayUtil.add(transports, transport);
-            key = transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ, transport);
+            for (final DatagramChannel datagramChannel : transport.receiveDatagramChannels())
+            {
+                final ChannelAndTransport channelAndTransport = new ChannelAndTransport(datagramChannel, transport);
+                channelAndTransport.selectionKey = datagramChannel.register(
+                    selector, SelectionKey.OP_READ, channelAndTransport);
+                channelAndTransports = ArrayUtil.add(channelAndTransports, channelAndTransport);
+
+                if (null == key)
+                {
+                    key = channelAndTransport.selectionKey;
+                }
+            }
         }
         catch (final ClosedChannelException ex)
         {
@@ -126,13 +144,21 @@ public class DataTransportPoller extends UdpTransportPoller
 
     public void cancelRead(final ReceiveChannelEndpoint transport)
     {
-        transports = ArrayUtil.remove(transports, transport);
+        for (final ChannelAndTransport channelAndTransport : channelAndTransports)
+        {
+            if (channelAndTransport.channelEndpoint == transport)
+            {
+                channelAndTransport.selectionKey.cancel();
+                channelAndTransports = ArrayUtil.remove(channelAndTransports, channelAndTransport);
+            }
+        }
     }
 
-    private int poll(final ReceiveChannelEndpoint channelEndpoint)
+    private int poll(final ChannelAndTransport channelAndTransport)
     {
         int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelEndpoint.receive(byteBuffer);
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+        final InetSocketAddress srcAddress = channelEndpoint.receive(channelAndTransport.datagramChannel, byteBuffer);
 
         if (null != srcAddress)
         {
@@ -154,10 +180,27 @@ public class DataTransportPoller extends UdpTransportPoller
                     case HDR_TYPE_RTTM:
                         channelEndpoint.onRttMeasurement(rttMeasurement, unsafeBuffer, length, srcAddress);
                         break;
+
+                    case HDR_TYPE_FEC:
+                        bytesReceived = channelEndpoint.onFecPacket(fecMessage, unsafeBuffer, length, srcAddress);
+                        break;
                 }
             }
         }
 
         return bytesReceived;
     }
+
+    static class ChannelAndTransport
+    {
+        final DatagramChannel datagramChannel;
+        final ReceiveChannelEndpoint channelEndpoint;
+        SelectionKey selectionKey;
+
+        ChannelAndTransport(final DatagramChannel datagramChannel, final ReceiveChannelEndpoint channelEndpoint)
+        {
+            this.datagramChannel = datagramChannel;
+            this.channelEndpoint = channelEndpoint;
+        }
+    }
 }
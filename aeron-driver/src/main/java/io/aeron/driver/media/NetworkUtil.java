@@ -35,6 +35,8 @@ import static java.util.Collections.sort;
  */
 public class NetworkUtil
 {
+    private static final SocketOption<Boolean> SO_REUSEPORT = findReusePortOption();
+
     /**
      * Search for a list of network interfaces that match the specified address and subnet prefix.
      * The results will be ordered by the length of the subnet prefix
@@ -229,4 +231,27 @@ public class NetworkUtil
         buffer.limit(buffer.limit() - alignment);
         return buffer.slice();
     }
+
+    /**
+     * The SO_REUSEPORT {@link SocketOption} if supported by the running JVM.
+     *
+     * @return the SO_REUSEPORT {@link SocketOption} or null if not supported by the running JVM.
+     */
+    public static SocketOption<Boolean> reusePortOption()
+    {
+        return SO_REUSEPORT;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SocketOption<Boolean> findReusePortOption()
+    {
+        try
+        {
+            return (SocketOption<Boolean>)StandardSocketOptions.class.getField("SO_REUSEPORT").get(null);
+        }
+        catch (final ReflectiveOperationException ignore)
+        {
+            return null;
+        }
+    }
 }
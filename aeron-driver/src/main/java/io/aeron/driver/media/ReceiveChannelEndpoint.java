@@ -142,7 +142,7 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     public void openChannel()
     {
-        openDatagramChannel(statusIndicator);
+        openDatagramChannel(statusIndicator, udpChannel.reusePortCount());
 
         soRcvBufLength = getOption(StandardSocketOptions.SO_RCVBUF);
     }
@@ -199,6 +199,15 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         return dispatcher.onDataPacket(this, header, buffer, length, srcAddress);
     }
 
+    public int onFecPacket(
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        return dispatcher.onFecPacket(this, header, buffer, length, srcAddress);
+    }
+
     public void onSetupMessage(
         final SetupFlyweight header,
         final UnsafeBuffer buffer,
@@ -190,6 +190,41 @@ public class SendChannelEndpoint extends UdpChannelTransport
         return byteSent;
     }
 
+    /**
+     * Send contents of a {@link ByteBuffer} to only one of the destinations of a multi-destination-cast channel.
+     * This is used for retransmits so they only go to the destination which sent the NAK. Falls back to
+     * {@link #send(ByteBuffer)} when the address is not a current destination.
+     *
+     * @param buffer      to send
+     * @param destination to send to
+     * @return number of bytes sent
+     */
+    public int send(final ByteBuffer buffer, final InetSocketAddress destination)
+    {
+        int byteSent = 0;
+
+        if (null == multiDestinationTracker)
+        {
+            byteSent = send(buffer);
+        }
+        else
+        {
+            byteSent = multiDestinationTracker.sendToDestination(sendDatagramChannel, buffer, destination);
+        }
+
+        return byteSent;
+    }
+
+    /**
+     * Is this a multi-destination-cast channel which sends to each of its destinations separately.
+     *
+     * @return true if this is a multi-destination-cast channel.
+     */
+    public boolean isMultiDestination()
+    {
+        return null != multiDestinationTracker;
+    }
+
     /*
      * Method used as a hook for logging.
      */
@@ -242,7 +277,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         if (null != publication)
         {
-            publication.onNak(msg.termId(), msg.termOffset(), msg.length());
+            publication.onNak(msg.termId(), msg.termOffset(), msg.length(), srcAddress);
             nakMessagesReceived.orderedIncrement();
         }
     }
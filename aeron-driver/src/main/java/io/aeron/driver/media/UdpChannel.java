@@ -61,7 +61,14 @@ public final class UdpChannel
      */
     public static final String CONTROL_KEY = "control";
 
+    /**
+     * The key for the number of sockets bound with SO_REUSEPORT to a unicast receive endpoint so the kernel can
+     * spread flows from different sources across them. Subscriptions sharing an endpoint must agree on the count.
+     */
+    public static final String REUSEPORT_COUNT_KEY = "reuseport-count";
+
     private final int multicastTtl;
+    private final int reusePortCount;
     private final InetSocketAddress remoteData;
     private final InetSocketAddress localData;
     private final InetSocketAddress remoteControl;
@@ -84,6 +91,7 @@ public final class UdpChannel
         this.localInterface = context.localInterface;
         this.protocolFamily = context.protocolFamily;
         this.multicastTtl = context.multicastTtl;
+        this.reusePortCount = context.reusePortCount;
         this.aeronUri = context.aeronUri;
         this.hasExplicitControl = context.hasExplicitControl;
     }
@@ -129,6 +137,8 @@ public final class UdpChannel
                 endpointAddress = new InetSocketAddress("0.0.0.0", 0);
             }
 
+            context.reusePortCount(getReusePortCount(aeronUri, endpointAddress));
+
             if (endpointAddress.getAddress().isMulticastAddress())
             {
                 final InetSocketAddress controlAddress = getMulticastControlAddress(endpointAddress);
@@ -289,6 +299,16 @@ public final class UdpChannel
         return multicastTtl;
     }
 
+    /**
+     * Number of sockets to bind with SO_REUSEPORT when receiving on this channel.
+     *
+     * @return number of sockets to bind with SO_REUSEPORT when receiving on this channel.
+     */
+    public int reusePortCount()
+    {
+        return reusePortCount;
+    }
+
     /**
      * The canonical form for the channel
      *
@@ -446,6 +466,27 @@ public final class UdpChannel
         return ttl;
     }
 
+    private static int getReusePortCount(final AeronUri uri, final InetSocketAddress endpointAddress)
+    {
+        int count = 1;
+
+        if (uri.containsKey(REUSEPORT_COUNT_KEY))
+        {
+            count = Integer.parseInt(uri.get(REUSEPORT_COUNT_KEY));
+            if (count < 1)
+            {
+                throw new IllegalArgumentException(REUSEPORT_COUNT_KEY + " must be at least 1: " + count);
+            }
+
+            if (count > 1 && endpointAddress.getAddress().isMulticastAddress())
+            {
+                throw new IllegalArgumentException(REUSEPORT_COUNT_KEY + " is only valid for unicast channels");
+            }
+        }
+
+        return count;
+    }
+
     private static InetSocketAddress getExplicitControlAddress(final AeronUri uri) throws UnknownHostException
     {
         final InetSocketAddress controlAddress;
@@ -518,6 +559,7 @@ public final class UdpChannel
     static class Context
     {
         private int multicastTtl;
+        private int reusePortCount = 1;
         private InetSocketAddress remoteData;
         private InetSocketAddress localData;
         private InetSocketAddress remoteControl;
@@ -583,6 +625,12 @@ public final class UdpChannel
             return this;
         }
 
+        public Context reusePortCount(final int reusePortCount)
+        {
+            this.reusePortCount = reusePortCount;
+            return this;
+        }
+
         public Context aeronUri(final AeronUri aeronUri)
         {
             this.aeronUri = aeronUri;
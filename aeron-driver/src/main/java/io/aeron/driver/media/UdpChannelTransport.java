@@ -46,6 +46,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
     protected InetSocketAddress connectAddress;
     protected DatagramChannel sendDatagramChannel;
     protected DatagramChannel receiveDatagramChannel;
+    protected DatagramChannel[] receiveDatagramChannels;
     protected int multicastTtl = 0;
 
     public UdpChannelTransport(
@@ -70,11 +71,24 @@ public abstract class UdpChannelTransport implements AutoCloseable
      * @param statusIndicator to set for status
      */
     public void openDatagramChannel(final AtomicCounter statusIndicator)
+    {
+        openDatagramChannel(statusIndicator, 1);
+    }
+
+    /**
+     * Create the underlying channel for reading and writing plus any additional unicast receive channels
+     * bound to the same address with SO_REUSEPORT so the kernel can spread flows across them.
+     *
+     * @param statusIndicator to set for status
+     * @param reusePortCount  number of receive channels to bind to the same unicast address.
+     */
+    public void openDatagramChannel(final AtomicCounter statusIndicator, final int reusePortCount)
     {
         try
         {
             sendDatagramChannel = DatagramChannel.open(udpChannel.protocolFamily());
             receiveDatagramChannel = sendDatagramChannel;
+            receiveDatagramChannels = new DatagramChannel[reusePortCount];
             if (udpChannel.isMulticast())
             {
                 final NetworkInterface localInterface = udpChannel.localInterface();
@@ -102,6 +116,11 @@ public abstract class UdpChannelTransport implements AutoCloseable
             }
             else
             {
+                if (reusePortCount > 1)
+                {
+                    sendDatagramChannel.setOption(reusePortOption(), true);
+                }
+
                 sendDatagramChannel.bind(bindAddress);
 
                 if (null != connectAddress)
@@ -122,14 +141,55 @@ public abstract class UdpChannelTransport implements AutoCloseable
 
             sendDatagramChannel.configureBlocking(false);
             receiveDatagramChannel.configureBlocking(false);
+
+            receiveDatagramChannels[0] = receiveDatagramChannel;
+            for (int i = 1; i < reusePortCount; i++)
+            {
+                receiveDatagramChannels[i] = openReusePortChannel();
+            }
         }
-        catch (final IOException ex)
+        catch (final IOException | UnsupportedOperationException ex)
         {
             statusIndicator.setOrdered(ChannelEndpointStatus.ERRORED);
             throw new RuntimeException("Erroneous channel: " + udpChannel.originalUriString(), ex);
         }
     }
 
+    private DatagramChannel openReusePortChannel() throws IOException
+    {
+        final DatagramChannel datagramChannel = DatagramChannel.open(udpChannel.protocolFamily());
+        try
+        {
+            datagramChannel.setOption(reusePortOption(), true);
+            datagramChannel.bind(bindAddress);
+
+            if (0 != Configuration.SOCKET_RCVBUF_LENGTH)
+            {
+                datagramChannel.setOption(SO_RCVBUF, Configuration.SOCKET_RCVBUF_LENGTH);
+            }
+
+            datagramChannel.configureBlocking(false);
+        }
+        catch (final IOException ex)
+        {
+            datagramChannel.close();
+            throw ex;
+        }
+
+        return datagramChannel;
+    }
+
+    private static SocketOption<Boolean> reusePortOption()
+    {
+        final SocketOption<Boolean> option = NetworkUtil.reusePortOption();
+        if (null == option)
+        {
+            throw new UnsupportedOperationException("SO_REUSEPORT is not supported by this JVM");
+        }
+
+        return option;
+    }
+
     /**
      * Register this transport for reading from a {@link UdpTransportPoller}.
      *
@@ -161,6 +221,17 @@ public abstract class UdpChannelTransport implements AutoCloseable
         return receiveDatagramChannel;
     }
 
+    /**
+     * All the {@link DatagramChannel}s this transport receives on. The first is {@link #receiveDatagramChannel()}
+     * and any others are bound to the same address with SO_REUSEPORT.
+     *
+     * @return all the {@link DatagramChannel}s this transport receives on.
+     */
+    public DatagramChannel[] receiveDatagramChannels()
+    {
+        return receiveDatagramChannels;
+    }
+
     /**
      * Get the multicast TTL value for sending datagrams on the channel.
      *
@@ -198,6 +269,17 @@ public abstract class UdpChannelTransport implements AutoCloseable
             {
                 receiveDatagramChannel.close();
             }
+
+            if (null != receiveDatagramChannels)
+            {
+                for (int i = 1; i < receiveDatagramChannels.length; i++)
+                {
+                    if (null != receiveDatagramChannels[i])
+                    {
+                        receiveDatagramChannels[i].close();
+                    }
+                }
+            }
         }
         catch (final IOException ex)
         {
@@ -248,13 +330,25 @@ public abstract class UdpChannelTransport implements AutoCloseable
      * @return the source address of the datagram if one is available otherwise false.
      */
     public InetSocketAddress receive(final ByteBuffer buffer)
+    {
+        return receive(receiveDatagramChannel, buffer);
+    }
+
+    /**
+     * Receive a datagram from one of the {@link #receiveDatagramChannels()} of this transport.
+     *
+     * @param datagramChannel to receive from.
+     * @param buffer          into which the datagram will be received.
+     * @return the source address of the datagram if one is available otherwise false.
+     */
+    public InetSocketAddress receive(final DatagramChannel datagramChannel, final ByteBuffer buffer)
     {
         buffer.clear();
 
         InetSocketAddress address = null;
         try
         {
-            address = (InetSocketAddress)receiveDatagramChannel.receive(buffer);
+            address = (InetSocketAddress)datagramChannel.receive(buffer);
         }
         catch (final PortUnreachableException | ClosedChannelException ignored)
         {
@@ -73,28 +73,31 @@ public class UdpDestinationTracker
             }
             else
             {
-                int byteSent = 0;
-                try
-                {
-                    preSendFunction.presend(buffer, destination.address);
+                minByteSent = Math.min(minByteSent, send(sendDatagramChannel, buffer, destination));
+            }
+        }
 
-                    final int position = buffer.position();
-                    byteSent = sendDatagramChannel.send(buffer, destination.address);
-                    buffer.position(position);
-                }
-                catch (final PortUnreachableException | ClosedChannelException ignore)
-                {
-                }
-                catch (final IOException ex)
-                {
-                    LangUtil.rethrowUnchecked(ex);
-                }
+        return minByteSent;
+    }
+
+    public int sendToDestination(
+        final DatagramChannel sendDatagramChannel, final ByteBuffer buffer, final InetSocketAddress address)
+    {
+        final ArrayList<Destination> destinationList = this.destinationList;
+        final long nowNs = nanoClock.nanoTime();
+
+        for (int i = 0, size = destinationList.size(); i < size; i++)
+        {
+            final Destination destination = destinationList.get(i);
 
-                minByteSent = Math.min(minByteSent, byteSent);
+            if (nowNs <= (destination.timeOfLastActivityNs + destinationTimeoutNs) &&
+                address.equals(destination.address))
+            {
+                return send(sendDatagramChannel, buffer, destination);
             }
         }
 
-        return minByteSent;
+        return sendToDestinations(sendDatagramChannel, buffer);
     }
 
     public void destinationActivity(final long receiverId, final InetSocketAddress destAddress)
@@ -150,6 +153,28 @@ public class UdpDestinationTracker
         }
     }
 
+    private int send(final DatagramChannel sendDatagramChannel, final ByteBuffer buffer, final Destination destination)
+    {
+        int byteSent = 0;
+        try
+        {
+            preSendFunction.presend(buffer, destination.address);
+
+            final int position = buffer.position();
+            byteSent = sendDatagramChannel.send(buffer, destination.address);
+            buffer.position(position);
+        }
+        catch (final PortUnreachableException | ClosedChannelException ignore)
+        {
+        }
+        catch (final IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return byteSent;
+    }
+
     public static class Destination
     {
         long timeOfLastActivityNs;
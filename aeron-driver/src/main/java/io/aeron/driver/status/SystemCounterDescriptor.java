@@ -47,7 +47,15 @@ public enum SystemCounterDescriptor
     UNBLOCKED_COMMANDS(20, "Unblocked Control Commands"),
     POSSIBLE_TTL_ASYMMETRY(21, "Possible TTL Asymmetry"),
     CONTROLLABLE_IDLE_STRATEGY(22, "ControllableIdleStrategy status"),
-    LOSS_GAP_FILLS(23, "Loss gap fills");
+    LOSS_GAP_FILLS(23, "Loss gap fills"),
+    NAKS_COALESCED(24, "NAKs coalesced"),
+    RETRANSMITTED_BYTES(25, "Retransmitted bytes"),
+    FEC_PARITY_FRAMES_SENT(26, "FEC parity frames sent"),
+    FEC_DATAGRAMS_RECOVERED(27, "FEC datagrams recovered"),
+    SENDER_PACING_DELAYS(28, "Sender pacing delays"),
+    LOG_POOL_HITS(29, "Log buffer pool hits"),
+    LOG_POOL_MISSES(30, "Log buffer pool misses"),
+    RETRANSMIT_DATAGRAMS_RECOVERED(31, "Retransmit datagrams recovered");
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Others types can exist.
      */
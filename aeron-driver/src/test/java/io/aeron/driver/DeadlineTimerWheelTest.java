@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+public class DeadlineTimerWheelTest
+{
+    private static final long START_TIME_NS = TimeUnit.SECONDS.toNanos(7);
+    private static final long TICK_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int TICKS_PER_WHEEL = 8;
+
+    private final DeadlineTimerWheel wheel = new DeadlineTimerWheel(START_TIME_NS, TICK_DURATION_NS, TICKS_PER_WHEEL);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTicksPerWheelWhichIsNotPowerOfTwo()
+    {
+        new DeadlineTimerWheel(START_TIME_NS, TICK_DURATION_NS, 10);
+    }
+
+    @Test
+    public void shouldExpireTimerOnlyOnceDeadlineIsReached()
+    {
+        final long deadlineNs = START_TIME_NS + (3 * TICK_DURATION_NS) + 1;
+        wheel.schedule(new RecordingTimer("a"), deadlineNs);
+
+        assertThat(wheel.poll(deadlineNs - 1), is(0));
+        assertThat(expired, empty());
+
+        assertThat(wheel.poll(deadlineNs), is(1));
+        assertThat(expired, contains("a"));
+        assertThat(wheel.timerCount(), is(0));
+    }
+
+    @Test
+    public void shouldExpireTimersOfElapsedTicksInOnePoll()
+    {
+        wheel.schedule(new RecordingTimer("a"), START_TIME_NS + TICK_DURATION_NS);
+        wheel.schedule(new RecordingTimer("b"), START_TIME_NS + (5 * TICK_DURATION_NS));
+        wheel.schedule(new RecordingTimer("c"), START_TIME_NS + (6 * TICK_DURATION_NS));
+
+        assertThat(wheel.poll(START_TIME_NS + (5 * TICK_DURATION_NS)), is(2));
+        assertThat(expired, contains("a", "b"));
+        assertThat(wheel.timerCount(), is(1));
+    }
+
+    @Test
+    public void shouldExpireTimerWithDeadlineBeyondSpanOfWheelOnLaterRevolution()
+    {
+        final long deadlineNs = START_TIME_NS + ((TICKS_PER_WHEEL + 2) * TICK_DURATION_NS);
+        wheel.schedule(new RecordingTimer("a"), deadlineNs);
+
+        assertThat(wheel.poll(START_TIME_NS + (3 * TICK_DURATION_NS)), is(0));
+        assertThat(wheel.poll(deadlineNs - 1), is(0));
+        assertThat(wheel.poll(deadlineNs), is(1));
+        assertThat(expired, contains("a"));
+    }
+
+    @Test
+    public void shouldExpireTimerWithPassedDeadlineOnNextPoll()
+    {
+        final long nowNs = START_TIME_NS + (4 * TICK_DURATION_NS);
+        wheel.poll(nowNs);
+
+        wheel.schedule(new RecordingTimer("a"), START_TIME_NS);
+
+        assertThat(wheel.poll(nowNs), is(1));
+        assertThat(expired, contains("a"));
+    }
+
+    @Test
+    public void shouldNotExpireCancelledTimer()
+    {
+        final RecordingTimer timer = new RecordingTimer("a");
+        wheel.schedule(timer, START_TIME_NS + TICK_DURATION_NS);
+
+        assertThat(wheel.cancel(timer), is(true));
+        assertThat(wheel.cancel(timer), is(false));
+        assertThat(timer.isScheduled(), is(false));
+
+        assertThat(wheel.poll(START_TIME_NS + (2 * TICK_DURATION_NS)), is(0));
+        assertThat(expired, empty());
+    }
+
+    @Test
+    public void shouldRescheduleTimerFromExpiry()
+    {
+        final long intervalNs = 3 * TICK_DURATION_NS;
+        final DeadlineTimerWheel.Timer timer = new RecordingTimer("a")
+        {
+            void onExpiry(final long nowNs)
+            {
+                super.onExpiry(nowNs);
+                wheel.schedule(this, nowNs + intervalNs);
+            }
+        };
+
+        wheel.schedule(timer, START_TIME_NS + intervalNs);
+
+        assertThat(wheel.poll(START_TIME_NS + intervalNs), is(1));
+        assertThat(timer.isScheduled(), is(true));
+        assertThat(timer.deadlineNs(), is(START_TIME_NS + (2 * intervalNs)));
+
+        assertThat(wheel.poll(START_TIME_NS + (2 * intervalNs)), is(1));
+        assertThat(expired, contains("a", "a"));
+    }
+
+    @Test
+    public void shouldNotExpireTimerCancelledByExpiryOfAnotherInSameTick()
+    {
+        final long deadlineNs = START_TIME_NS + TICK_DURATION_NS;
+        final RecordingTimer cancelled = new RecordingTimer("cancelled");
+        final DeadlineTimerWheel.Timer canceller = new RecordingTimer("canceller")
+        {
+            void onExpiry(final long nowNs)
+            {
+                super.onExpiry(nowNs);
+                wheel.cancel(cancelled);
+            }
+        };
+
+        wheel.schedule(cancelled, deadlineNs);
+        wheel.schedule(canceller, deadlineNs);
+
+        assertThat(wheel.poll(deadlineNs), is(1));
+        assertThat(expired, contains("canceller"));
+        assertThat(wheel.timerCount(), is(0));
+    }
+
+    class RecordingTimer extends DeadlineTimerWheel.Timer
+    {
+        private final String name;
+
+        RecordingTimer(final String name)
+        {
+            this.name = name;
+        }
+
+        void onExpiry(final long nowNs)
+        {
+            expired.add(name);
+        }
+    }
+}
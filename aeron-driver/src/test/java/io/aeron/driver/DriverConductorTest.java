@@ -663,6 +663,46 @@ public class DriverConductorTest
         verify(mockClientProxy).onUnavailableImage(eq(publicationImage.correlationId()), eq(STREAM_ID_1), anyString());
     }
 
+    @Test
+    public void shouldEndCoolDownOnTimerOnceImageLingers() throws Exception
+    {
+        final InetSocketAddress sourceAddress = new InetSocketAddress("localhost", 4400);
+
+        driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ReceiveChannelEndpoint receiveChannelEndpoint =
+            driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000));
+        assertNotNull(receiveChannelEndpoint);
+
+        receiveChannelEndpoint.openChannel();
+
+        driverConductor.onCreatePublicationImage(
+            SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH,
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+
+        final ArgumentCaptor<PublicationImage> captor = ArgumentCaptor.forClass(PublicationImage.class);
+        verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor.capture());
+
+        final PublicationImage publicationImage = captor.getValue();
+
+        publicationImage.status(PublicationImage.Status.ACTIVE);
+
+        doWorkUntil(() -> nanoClock.nanoTime() >= IMAGE_LIVENESS_TIMEOUT_NS / 2);
+
+        verify(receiverProxy, never()).removeCoolDown(any(), anyInt(), anyInt());
+
+        publicationImage.status(PublicationImage.Status.INACTIVE);
+
+        doWorkUntil(() -> nanoClock.nanoTime() >= IMAGE_LIVENESS_TIMEOUT_NS + 1000);
+
+        final InOrder inOrder = inOrder(mockClientProxy, receiverProxy);
+        inOrder.verify(mockClientProxy).onUnavailableImage(
+            eq(publicationImage.correlationId()), eq(STREAM_ID_1), anyString());
+        inOrder.verify(receiverProxy).removeCoolDown(receiveChannelEndpoint, SESSION_ID, STREAM_ID_1);
+    }
+
     @Test
     public void shouldAlwaysGiveNetworkPublicationCorrelationIdToClientCallbacks() throws Exception
     {
@@ -1153,6 +1193,19 @@ public class DriverConductorTest
         verify(mockClientProxy).onError(any(ErrorCode.class), anyString(), eq(id2));
     }
 
+    @Test
+    public void shouldErrorWhenConflictingReusePortCountSubscriptionAdded() throws Exception
+    {
+        driverProxy.addSubscription(CHANNEL_4000 + "|reuseport-count=2", STREAM_ID_1);
+        driverConductor.doWork();
+
+        final long id2 = driverProxy.addSubscription(CHANNEL_4000 + "|reuseport-count=4", STREAM_ID_2);
+        driverConductor.doWork();
+
+        verify(mockClientProxy).onError(any(ErrorCode.class), anyString(), eq(id2));
+        verify(receiverProxy, never()).addSubscription(any(), eq(STREAM_ID_2));
+    }
+
     private long doWorkUntil(final BooleanSupplier condition) throws Exception
     {
         final long startTime = currentTimeNs;
@@ -26,6 +26,7 @@ import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.Position;
+import org.agrona.concurrent.status.ReadablePosition;
 import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.nio.ByteBuffer;
@@ -119,4 +120,23 @@ public class IpcPublicationTest
 
         assertThat(publisherLimit.get(), is(greaterThan(0L)));
     }
+
+    @Test
+    public void shouldHoldPublisherLimitBackUntilDirtyTermsAreCleaned()
+    {
+        final long subscriberPosition = TERM_BUFFER_LENGTH * 4L;
+        final ReadablePosition position = mock(ReadablePosition.class);
+        when(position.getVolatile()).thenReturn(subscriberPosition);
+        ipcPublication.addSubscriber(position);
+
+        ipcPublication.updatePublishersLimit();
+        assertThat(publisherLimit.get(), is(TERM_BUFFER_LENGTH * 3L));
+
+        ipcPublication.updatePublishersLimit();
+        assertThat(publisherLimit.get(), is(TERM_BUFFER_LENGTH * 4L));
+
+        ipcPublication.updatePublishersLimit();
+        final int termWindowLength = Configuration.ipcPublicationTermWindowLength(TERM_BUFFER_LENGTH);
+        assertThat(publisherLimit.get(), is(subscriberPosition + termWindowLength));
+    }
 }
@@ -291,6 +291,136 @@ public class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    public void shouldNakAllGapsInOneScanWhenTrackingMultipleGaps()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final InOrder inOrder = inOrder(lossHandler);
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength());
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(5), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldLimitGapsToMaxTracked()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 2);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldNakGapExtendingToHwmWhenTrackingMultipleGaps()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength() * 2);
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldNotNakRepairedGapWhenTrackingMultipleGaps()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(3));
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldNakExistingGapWhileNewGapsKeepBeingFound()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 3);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(4));
+        hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(10);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(6));
+        hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(20);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldKeepTimerOfPartlyFilledGap()
+    {
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 4);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(3));
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(1));
+        currentTime = TimeUnit.MILLISECONDS.toNanos(10);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        verifyZeroInteractions(lossHandler);
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(20);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(2), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014-2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MinMulticastFlowControlTest
+{
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int POSITION_BITS_TO_SHIFT = 16;
+    private static final int WINDOW_LENGTH = 100;
+    private static final long LAGGARD_TIMEOUT_NS = 1000;
+
+    private final StatusMessageFlyweight statusMessage =
+        new StatusMessageFlyweight(new UnsafeBuffer(ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH)));
+    private final MinMulticastFlowControl flowControl = new MinMulticastFlowControl(LAGGARD_TIMEOUT_NS);
+
+    @Test
+    public void shouldDropSlowReceiverWhichHoldsLimitForLaggardTimeout()
+    {
+        onStatusMessage(flowControl, 1, 0, 0);
+        onStatusMessage(flowControl, 2, 0, 0);
+        assertThat(onStatusMessage(flowControl, 1, 100, 0), is(100L));
+
+        assertThat(onStatusMessage(flowControl, 2, 0, LAGGARD_TIMEOUT_NS), is(100L));
+        assertThat(onStatusMessage(flowControl, 2, 0, LAGGARD_TIMEOUT_NS + 1), is(200L));
+        assertThat(onStatusMessage(flowControl, 2, 50, LAGGARD_TIMEOUT_NS + 2), is(200L));
+    }
+
+    @Test
+    public void shouldTrackLaggardAgainOnceCaughtUp()
+    {
+        onStatusMessage(flowControl, 1, 0, 0);
+        onStatusMessage(flowControl, 2, 0, 0);
+        onStatusMessage(flowControl, 1, 100, 0);
+        onStatusMessage(flowControl, 2, 0, LAGGARD_TIMEOUT_NS + 1);
+
+        assertThat(onStatusMessage(flowControl, 1, 200, LAGGARD_TIMEOUT_NS + 2), is(300L));
+        assertThat(onStatusMessage(flowControl, 2, 100, LAGGARD_TIMEOUT_NS + 3), is(200L));
+    }
+
+    @Test
+    public void shouldNotDropSlowReceiverWhenNoReceiverHasReachedLimit()
+    {
+        onStatusMessage(flowControl, 1, 0, 0);
+        onStatusMessage(flowControl, 2, 50, 0);
+
+        assertThat(flowControl.onIdle(LAGGARD_TIMEOUT_NS * 2, 0), is(100L));
+    }
+
+    @Test
+    public void shouldNotDropSlowReceiverWithoutLaggardTimeout()
+    {
+        final MinMulticastFlowControl flowControl = new MinMulticastFlowControl(0);
+
+        onStatusMessage(flowControl, 1, 0, 0);
+        onStatusMessage(flowControl, 2, 0, 0);
+        onStatusMessage(flowControl, 1, 100, 0);
+
+        assertThat(onStatusMessage(flowControl, 2, 0, LAGGARD_TIMEOUT_NS * 2), is(100L));
+    }
+
+    private long onStatusMessage(
+        final MinMulticastFlowControl flowControl, final long receiverId, final int termOffset, final long nowNs)
+    {
+        statusMessage
+            .receiverId(receiverId)
+            .consumptionTermId(INITIAL_TERM_ID)
+            .consumptionTermOffset(termOffset)
+            .receiverWindowLength(WINDOW_LENGTH);
+
+        return flowControl.onStatusMessage(statusMessage, null, 0, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, nowNs);
+    }
+}
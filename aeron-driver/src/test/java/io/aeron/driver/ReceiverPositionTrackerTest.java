@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ReceiverPositionTrackerTest
+{
+    private static final long TIMEOUT_NS = 1000;
+
+    @Test
+    public void shouldHaveNoQuorumPositionWhenEmpty()
+    {
+        final ReceiverPositionTracker tracker = new ReceiverPositionTracker(2);
+
+        assertThat(tracker.size(), is(0));
+        assertThat(tracker.quorumPosition(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldUseSlowestWhenFewerReceiversThanQuorum()
+    {
+        final ReceiverPositionTracker tracker = new ReceiverPositionTracker(3);
+
+        tracker.onStatusMessage(1, 300, 0, null);
+        tracker.onStatusMessage(2, 100, 0, null);
+
+        assertThat(tracker.quorumPosition(), is(100L));
+    }
+
+    @Test
+    public void shouldTrackKthFastestReceiver()
+    {
+        final ReceiverPositionTracker tracker = new ReceiverPositionTracker(2);
+
+        tracker.onStatusMessage(1, 100, 0, null);
+        tracker.onStatusMessage(2, 200, 0, null);
+        tracker.onStatusMessage(3, 300, 0, null);
+        assertThat(tracker.quorumPosition(), is(200L));
+
+        tracker.onStatusMessage(1, 400, 0, null);
+        assertThat(tracker.quorumPosition(), is(300L));
+
+        tracker.onStatusMessage(3, 350, 0, null);
+        assertThat(tracker.quorumPosition(), is(350L));
+    }
+
+    @Test
+    public void shouldRefillQuorumWhenReceiversTimeOut()
+    {
+        final ReceiverPositionTracker tracker = new ReceiverPositionTracker(2);
+
+        tracker.onStatusMessage(1, 100, 0, null);
+        tracker.onStatusMessage(3, 300, 0, null);
+        tracker.onStatusMessage(2, 200, TIMEOUT_NS, null);
+
+        tracker.removeTimedOut(TIMEOUT_NS + 1, TIMEOUT_NS);
+
+        assertThat(tracker.size(), is(1));
+        assertThat(tracker.isTracked(2), is(true));
+        assertThat(tracker.quorumPosition(), is(200L));
+    }
+
+    @Test
+    public void shouldNotTimeOutReceiverWhichHasSentStatusMessageSinceTracked()
+    {
+        final ReceiverPositionTracker tracker = new ReceiverPositionTracker(Integer.MAX_VALUE);
+
+        tracker.onStatusMessage(1, 100, 0, null);
+        tracker.onStatusMessage(2, 200, 0, null);
+        tracker.onStatusMessage(3, 300, 0, null);
+        tracker.onStatusMessage(1, 150, TIMEOUT_NS, null);
+
+        tracker.removeTimedOut(TIMEOUT_NS + 1, TIMEOUT_NS);
+
+        assertThat(tracker.size(), is(1));
+        assertThat(tracker.isTracked(1), is(true));
+        assertThat(tracker.quorumPosition(), is(150L));
+    }
+
+    @Test
+    public void shouldMatchSortedReceiversForRandomUpdates()
+    {
+        final Random random = new Random(7);
+        final Map<Long, Long> positionById = new HashMap<>();
+        final Map<Long, Long> timeById = new HashMap<>();
+
+        for (final int quorum : new int[]{ 1, 3, 10, Integer.MAX_VALUE })
+        {
+            final ReceiverPositionTracker tracker = new ReceiverPositionTracker(quorum);
+            positionById.clear();
+            timeById.clear();
+
+            for (long nowNs = 0; nowNs < 10_000; nowNs++)
+            {
+                final long receiverId = random.nextInt(50);
+                final long position = random.nextInt(1_000_000);
+                tracker.onStatusMessage(receiverId, position, nowNs, null);
+                positionById.put(receiverId, position);
+                timeById.put(receiverId, nowNs);
+
+                if (0 == (nowNs % 100))
+                {
+                    tracker.removeTimedOut(nowNs, 50);
+                    final long now = nowNs;
+                    timeById.entrySet().removeIf((e) -> now > e.getValue() + 50);
+                    positionById.keySet().retainAll(timeById.keySet());
+                }
+
+                assertThat(tracker.size(), is(positionById.size()));
+                assertThat(tracker.quorumPosition(), is(expectedQuorumPosition(positionById, quorum)));
+            }
+        }
+    }
+
+    private static long expectedQuorumPosition(final Map<Long, Long> positionById, final int quorum)
+    {
+        final long[] positions = positionById.values().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(positions);
+
+        return positions[Math.max(0, positions.length - Math.min(quorum, positions.length))];
+    }
+}
@@ -303,6 +303,129 @@ public class ReceiverTest
         assertThat(readOutcome, is(1));
     }
 
+    @Test
+    public void shouldRecoverMissingDatagramFromFecParity() throws Exception
+    {
+        addImageForFec();
+
+        final int alignedFrameLength =
+            align(DataHeaderFlyweight.HEADER_LENGTH + FAKE_PAYLOAD.length, FrameDescriptor.FRAME_ALIGNMENT);
+        final UnsafeBuffer fecBuffer = new UnsafeBuffer(
+            ByteBuffer.allocateDirect(FecFlyweight.parityOffset(2) + alignedFrameLength));
+        final FecFlyweight fecHeader = new FecFlyweight(fecBuffer);
+        fecHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(ACTIVE_TERM_ID)
+            .datagramCount(2)
+            .parityLength(alignedFrameLength)
+            .datagram(0, 0, alignedFrameLength)
+            .datagram(1, alignedFrameLength, alignedFrameLength)
+            .headerType(HeaderFlyweight.HDR_TYPE_FEC)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .frameLength(fecBuffer.capacity());
+
+        dataBuffer.setMemory(0, alignedFrameLength, (byte)0);
+        fillDataFrame(dataHeader, alignedFrameLength, FAKE_PAYLOAD);
+        xorInto(fecBuffer, FecFlyweight.parityOffset(2), dataBuffer, alignedFrameLength);
+
+        dataBuffer.setMemory(0, alignedFrameLength, (byte)0);
+        fillDataFrame(dataHeader, 0, FAKE_PAYLOAD);
+        xorInto(fecBuffer, FecFlyweight.parityOffset(2), dataBuffer, alignedFrameLength);
+        receiveChannelEndpoint.onDataPacket(dataHeader, dataBuffer, alignedFrameLength, senderAddress);
+
+        receiveChannelEndpoint.onFecPacket(fecHeader, fecBuffer, fecBuffer.capacity(), senderAddress);
+
+        final int readOutcome = TermReader.read(
+            termBuffers[ACTIVE_INDEX],
+            INITIAL_TERM_OFFSET,
+            (buffer, offset, length, header) ->
+            {
+                assertThat(header.type(), is(HeaderFlyweight.HDR_TYPE_DATA));
+                assertThat(header.termId(), is(ACTIVE_TERM_ID));
+                assertThat(header.frameLength(), is(DataHeaderFlyweight.HEADER_LENGTH + FAKE_PAYLOAD.length));
+            },
+            Integer.MAX_VALUE,
+            header,
+            mockErrorHandler,
+            0,
+            mockSubscriberPosition);
+
+        assertThat(readOutcome, is(2));
+    }
+
+    @Test
+    public void shouldNotRecoverFromFecParityWhenOtherDatagramIsPartlyReceived() throws Exception
+    {
+        addImageForFec();
+
+        final int alignedFrameLength =
+            align(DataHeaderFlyweight.HEADER_LENGTH + FAKE_PAYLOAD.length, FrameDescriptor.FRAME_ALIGNMENT);
+        final int datagramLength = alignedFrameLength * 2;
+        final UnsafeBuffer fecBuffer = new UnsafeBuffer(
+            ByteBuffer.allocateDirect(FecFlyweight.parityOffset(2) + datagramLength));
+        final FecFlyweight fecHeader = new FecFlyweight(fecBuffer);
+        fecHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(ACTIVE_TERM_ID)
+            .datagramCount(2)
+            .parityLength(datagramLength)
+            .datagram(0, 0, datagramLength)
+            .datagram(1, datagramLength, datagramLength)
+            .headerType(HeaderFlyweight.HDR_TYPE_FEC)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .frameLength(fecBuffer.capacity());
+
+        for (int i = 3; i >= 0; i--)
+        {
+            final int termOffset = i * alignedFrameLength;
+            dataBuffer.setMemory(0, alignedFrameLength, (byte)0);
+            fillDataFrame(dataHeader, termOffset, FAKE_PAYLOAD);
+            xorInto(
+                fecBuffer,
+                FecFlyweight.parityOffset(2) + (termOffset % datagramLength),
+                dataBuffer,
+                alignedFrameLength);
+        }
+
+        receiveChannelEndpoint.onDataPacket(dataHeader, dataBuffer, alignedFrameLength, senderAddress);
+        receiveChannelEndpoint.onFecPacket(fecHeader, fecBuffer, fecBuffer.capacity(), senderAddress);
+
+        final UnsafeBuffer termBuffer = termBuffers[ACTIVE_INDEX];
+        assertThat(termBuffer.getInt(0), is(DataHeaderFlyweight.HEADER_LENGTH + FAKE_PAYLOAD.length));
+        assertThat(termBuffer.getInt(alignedFrameLength), is(0));
+        assertThat(termBuffer.getInt(datagramLength), is(0));
+        assertThat(termBuffer.getInt(datagramLength + alignedFrameLength), is(0));
+    }
+
+    @Test
+    public void shouldIgnoreFecParityForTermBeforeInitialTerm() throws Exception
+    {
+        addImageForFec();
+
+        final int alignedFrameLength =
+            align(DataHeaderFlyweight.HEADER_LENGTH + FAKE_PAYLOAD.length, FrameDescriptor.FRAME_ALIGNMENT);
+        final UnsafeBuffer fecBuffer = new UnsafeBuffer(
+            ByteBuffer.allocateDirect(FecFlyweight.parityOffset(2) + alignedFrameLength));
+        final FecFlyweight fecHeader = new FecFlyweight(fecBuffer);
+        fecHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(INITIAL_TERM_ID - 1)
+            .datagramCount(2)
+            .parityLength(alignedFrameLength)
+            .datagram(0, 0, alignedFrameLength)
+            .datagram(1, alignedFrameLength, alignedFrameLength)
+            .headerType(HeaderFlyweight.HDR_TYPE_FEC)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .frameLength(fecBuffer.capacity());
+
+        receiveChannelEndpoint.onFecPacket(fecHeader, fecBuffer, fecBuffer.capacity(), senderAddress);
+
+        assertThat(termBuffers[ACTIVE_INDEX].getInt(0), is(0));
+    }
+
     @Test
     public void shouldNotOverwriteDataFrameWithHeartbeat() throws Exception
     {
@@ -573,6 +696,50 @@ public class ReceiverTest
         verify(mockImage, never()).removeFromDispatcher();
     }
 
+    private void addImageForFec() throws Exception
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiverProxy.addSubscription(receiveChannelEndpoint, STREAM_ID);
+
+        receiver.doWork();
+
+        fillSetupFrame(setupHeader);
+        receiveChannelEndpoint.onSetupMessage(setupHeader, setupBuffer, SetupFlyweight.HEADER_LENGTH, senderAddress);
+
+        final int commandsRead = toConductorQueue.drain(
+            (e) ->
+            {
+                receiverProxy.newPublicationImage(
+                    receiveChannelEndpoint,
+                    new PublicationImage(
+                        CORRELATION_ID,
+                        Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+                        receiveChannelEndpoint,
+                        senderAddress,
+                        SESSION_ID,
+                        STREAM_ID,
+                        INITIAL_TERM_ID,
+                        ACTIVE_TERM_ID,
+                        INITIAL_TERM_OFFSET,
+                        rawLog,
+                        mockFeedbackDelayGenerator,
+                        POSITIONS,
+                        mockHighestReceivedPosition,
+                        mockRebuildPosition,
+                        nanoClock,
+                        epochClock,
+                        mockSystemCounters,
+                        SOURCE_ADDRESS,
+                        congestionControl,
+                        lossReport,
+                        true));
+            });
+
+        assertThat(commandsRead, is(1));
+
+        receiver.doWork();
+    }
+
     private void fillDataFrame(final DataHeaderFlyweight header, final int termOffset, final byte[] payload)
     {
         header.wrap(dataBuffer);
@@ -592,6 +759,15 @@ public class ReceiverTest
         }
     }
 
+    private static void xorInto(
+        final UnsafeBuffer parity, final int parityOffset, final UnsafeBuffer datagram, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            parity.putByte(parityOffset + i, (byte)(parity.getByte(parityOffset + i) ^ datagram.getByte(i)));
+        }
+    }
+
     private void fillSetupFrame(final SetupFlyweight header)
     {
         fillSetupFrame(header, 0);
@@ -30,11 +30,14 @@ import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 
+import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.NAKS_COALESCED;
 import static java.nio.ByteBuffer.allocateDirect;
 import static org.mockito.Mockito.*;
 import static org.agrona.BitUtil.align;
@@ -68,12 +71,12 @@ public class RetransmitHandlerTest
 
     private final RetransmitSender retransmitSender = mock(RetransmitSender.class);
     private final SystemCounters systemCounters = mock(SystemCounters.class);
+    private final AtomicCounter naksCoalesced = mock(AtomicCounter.class);
 
     private final HeaderWriter headerWriter =
         new HeaderWriter(DataHeaderFlyweight.createDefaultHeader(0, 0, 0));
 
-    private RetransmitHandler handler = new RetransmitHandler(
-        () -> currentTime, systemCounters, DELAY_GENERATOR, LINGER_GENERATOR);
+    private RetransmitHandler handler;
 
     @DataPoint
     public static final BiConsumer<RetransmitHandlerTest, Integer> SENDER_ADD_DATA_FRAME =
@@ -83,6 +86,13 @@ public class RetransmitHandlerTest
     public static final BiConsumer<RetransmitHandlerTest, Integer> RECEIVER_ADD_DATA_FRAME =
         RetransmitHandlerTest::addReceivedDataFrame;
 
+    public RetransmitHandlerTest()
+    {
+        when(systemCounters.get(NAKS_COALESCED)).thenReturn(naksCoalesced);
+
+        handler = new RetransmitHandler(() -> currentTime, systemCounters, DELAY_GENERATOR, LINGER_GENERATOR);
+    }
+
     @Theory
     public void shouldRetransmitOnNak(final BiConsumer<RetransmitHandlerTest, Integer> creator)
     {
@@ -129,13 +139,13 @@ public class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
         final InOrder inOrder = inOrder(retransmitSender);
         inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
-        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
     }
 
     @Theory
@@ -178,12 +188,12 @@ public class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         handler.onRetransmitReceived(TERM_ID, offsetOfFrame(0));
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
-        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
     }
 
     @Theory
@@ -220,6 +230,270 @@ public class RetransmitHandlerTest
         verifyZeroInteractions(retransmitSender);
     }
 
+    @Theory
+    public void shouldCoalesceAdjacentNaks(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(naksCoalesced).orderedIncrement();
+    }
+
+    @Theory
+    public void shouldCoalesceOverlappingNaks(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldMergeDelayedRetransmitsBridgedByNak(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldOnlyRetransmitUncoveredPartOfNakWhileInLinger(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        inOrder.verifyNoMoreInteractions();
+        verify(naksCoalesced, times(2)).orderedIncrement();
+    }
+
+    @Theory
+    public void shouldTrimNakAgainstLingeringRangesInAnyOrder(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Theory
+    public void shouldOnlyRetransmitAroundLingeringRangeNestedInNak(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4, TERM_BUFFER_LENGTH, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Theory
+    public void shouldJoinAdjacentNaksIntoLingeringRetransmitWithZeroDelay(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verifyNoMoreInteractions();
+        verify(naksCoalesced, times(2)).orderedIncrement();
+    }
+
+    @Theory
+    public void shouldNotRunOutOfRetransmitsForAdjacentNaksWithZeroDelay(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        final int nakCount = Configuration.MAX_RETRANSMITS_DEFAULT * 2;
+        createTermBuffer(creator, nakCount);
+        handler = newZeroDelayRetransmitHandler();
+
+        for (int i = 0; i < nakCount; i += 2)
+        {
+            handler.onNak(TERM_ID, offsetOfFrame(i), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        }
+
+        for (int i = 1; i < nakCount; i += 2)
+        {
+            handler.onNak(TERM_ID, offsetOfFrame(i), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        }
+
+        handler.onNak(TERM_ID, offsetOfFrame(nakCount), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+
+        for (int i = 0; i <= nakCount; i++)
+        {
+            verify(retransmitSender).resend(TERM_ID, offsetOfFrame(i), ALIGNED_FRAME_LENGTH);
+        }
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldRetransmitOnlyToDestinationWhichSentNak(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        final InetSocketAddress destinationOne = new InetSocketAddress("localhost", 40123);
+        final InetSocketAddress destinationTwo = new InetSocketAddress("localhost", 40124);
+
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationOne, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationOne, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationTwo, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, destinationOne);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, destinationTwo);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Theory
+    public void shouldNotRetransmitRepeatedNakFromOtherDestinationWhileInLinger(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        final InetSocketAddress destinationOne = new InetSocketAddress("localhost", 40123);
+        final InetSocketAddress destinationTwo = new InetSocketAddress("localhost", 40124);
+
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationOne, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationTwo, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationTwo, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(20);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationTwo, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, destinationOne);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, destinationTwo);
+        verifyNoMoreInteractions(retransmitSender);
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationTwo, retransmitSender);
+
+        verify(retransmitSender, times(2)).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, destinationTwo);
+    }
+
+    @Theory
+    public void shouldRetransmitToAllDestinationsWhenMergingNaksFromDifferentDestinations(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+
+        handler.onNak(
+            TERM_ID,
+            offsetOfFrame(0),
+            ALIGNED_FRAME_LENGTH,
+            TERM_BUFFER_LENGTH,
+            new InetSocketAddress("localhost", 40123),
+            retransmitSender);
+        handler.onNak(
+            TERM_ID,
+            offsetOfFrame(1),
+            ALIGNED_FRAME_LENGTH,
+            TERM_BUFFER_LENGTH,
+            new InetSocketAddress("localhost", 40124),
+            retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldRetransmitMergedNakWhichSharesOffsetWithLingerForOtherDestination(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        final InetSocketAddress destinationOne = new InetSocketAddress("localhost", 40123);
+        final InetSocketAddress destinationTwo = new InetSocketAddress("localhost", 40124);
+
+        createTermBuffer(creator, 5);
+
+        handler.onNak(
+            TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationTwo, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(30);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(60);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationOne, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationOne, retransmitSender);
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(75);
+        handler.processTimeouts(currentTime, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, destinationTwo);
+        inOrder.verify(retransmitSender).resend(
+            TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, destinationOne);
+        inOrder.verifyNoMoreInteractions();
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(200);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(
+            TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, destinationOne, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(300);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, destinationOne);
+    }
+
     private RetransmitHandler newZeroDelayRetransmitHandler()
     {
         return new RetransmitHandler(() -> currentTime, systemCounters, ZERO_DELAY_GENERATOR, LINGER_GENERATOR);
@@ -17,8 +17,10 @@ package io.aeron.driver;
 
 import io.aeron.driver.media.*;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
+import io.aeron.driver.status.ChannelEndpointStatus;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
@@ -29,11 +31,16 @@ import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
 public class SelectorAndTransportTest
@@ -48,6 +55,9 @@ public class SelectorAndTransportTest
     private static final UdpChannel SRC_DST =
         UdpChannel.parse("aeron:udp?interface=localhost:" + SRC_PORT + "|endpoint=localhost:" + RCV_PORT);
     private static final UdpChannel RCV_DST = UdpChannel.parse("aeron:udp?endpoint=localhost:" + RCV_PORT);
+    private static final int REUSEPORT_COUNT = 3;
+    private static final UdpChannel RCV_REUSEPORT_DST =
+        UdpChannel.parse("aeron:udp?endpoint=localhost:" + RCV_PORT + "|reuseport-count=" + REUSEPORT_COUNT);
 
     private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(256);
     private final UnsafeBuffer buffer = new UnsafeBuffer(byteBuffer);
@@ -285,6 +295,92 @@ public class SelectorAndTransportTest
         verify(mockStatusMessagesReceivedCounter, times(1)).orderedIncrement();
     }
 
+    @Test(timeout = 1000)
+    public void shouldOpenAndRegisterReusePortChannelsWhichShareOneDispatcher() throws Exception
+    {
+        Assume.assumeNotNull(NetworkUtil.reusePortOption());
+
+        final int senderCount = 8;
+        final AtomicInteger dataHeadersReceived = new AtomicInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                assertThat(invocation.getArgument(0), sameInstance(receiveChannelEndpoint));
+                dataHeadersReceived.incrementAndGet();
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class));
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_REUSEPORT_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        receiveChannelEndpoint.openChannel();
+        receiveChannelEndpoint.registerForRead(dataTransportPoller);
+
+        final DatagramChannel[] channels = receiveChannelEndpoint.receiveDatagramChannels();
+        assertThat(channels.length, is(REUSEPORT_COUNT));
+
+        final SocketAddress localAddress = channels[0].getLocalAddress();
+        for (final DatagramChannel channel : channels)
+        {
+            assertThat(channel.getLocalAddress(), is(localAddress));
+            assertTrue(channel.isRegistered());
+        }
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        for (int i = 0; i < senderCount; i++)
+        {
+            try (DatagramChannel senderChannel = DatagramChannel.open())
+            {
+                byteBuffer.position(0).limit(FRAME_LENGTH);
+                senderChannel.send(byteBuffer, localAddress);
+            }
+        }
+
+        while (dataHeadersReceived.get() < senderCount)
+        {
+            processLoop(dataTransportPoller, 1);
+        }
+
+        assertThat(dataHeadersReceived.get(), is(senderCount));
+    }
+
+    @Test(timeout = 1000)
+    public void shouldMarkChannelErroredWhenReusePortIsNotSupported() throws Exception
+    {
+        Assume.assumeTrue(null == NetworkUtil.reusePortOption());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_REUSEPORT_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+
+        try
+        {
+            receiveChannelEndpoint.openChannel();
+            fail("expected channel to be errored");
+        }
+        catch (final RuntimeException ex)
+        {
+            assertThat(ex.getCause() instanceof UnsupportedOperationException, is(true));
+        }
+
+        verify(mockReceiveStatusIndicator).setOrdered(ChannelEndpointStatus.ERRORED);
+    }
+
     private void processLoop(final UdpTransportPoller transportPoller, final int iterations) throws Exception
     {
         for (int i = 0; i < iterations; i++)
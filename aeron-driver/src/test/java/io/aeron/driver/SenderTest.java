@@ -43,6 +43,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -86,6 +87,7 @@ public class SenderTest
     private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
     private final SetupFlyweight setupHeader = new SetupFlyweight();
     private final SystemCounters mockSystemCounters = mock(SystemCounters.class);
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
     private final OneToOneConcurrentArrayQueue<SenderCmd> senderCommandQueue =
         new OneToOneConcurrentArrayQueue<>(Configuration.CMD_QUEUE_CAPACITY);
 
@@ -107,7 +109,6 @@ public class SenderTest
     @Before
     public void setUp() throws Exception
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
@@ -127,25 +128,7 @@ public class SenderTest
             termAppenders[i] = new TermAppender(rawLog.termBuffers()[i], rawLog.metaData(), i);
         }
 
-        publication = new NetworkPublication(
-            1,
-            mockSendChannelEndpoint,
-            () -> currentTimestamp,
-            () -> currentTimestamp / (1_000_000L),
-            rawLog,
-            mock(Position.class),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            SESSION_ID,
-            STREAM_ID,
-            INITIAL_TERM_ID,
-            MAX_FRAME_LENGTH,
-            mockSystemCounters,
-            flowControl,
-            mockRetransmitHandler,
-            new NetworkPublicationThreadLocals(),
-            Configuration.PUBLICATION_UNBLOCK_TIMEOUT_NS,
-            false);
+        publication = newNetworkPublication(0, 1);
 
         senderCommandQueue.offer(new NewPublicationCmd(publication));
     }
@@ -487,6 +470,170 @@ public class SenderTest
         assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
     }
 
+    @Test
+    public void shouldPaceDataFramesToPacingRate()
+    {
+        publication = newNetworkPublication(MAX_FRAME_LENGTH * 1000L, 1);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(4 * MAX_FRAME_LENGTH);
+        publication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        for (int i = 0; i < MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        }
+
+        assertThat(publication.send(currentTimestamp), is(MAX_FRAME_LENGTH));
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        assertThat(publication.send(currentTimestamp), is(0));
+
+        currentTimestamp += TimeUnit.MILLISECONDS.toNanos(1);
+        assertThat(publication.send(currentTimestamp), is(ALIGNED_FRAME_LENGTH));
+    }
+
+    @Test
+    public void shouldRefillPacingTokensWhenRateExceedsCapacityPerNanosecond()
+    {
+        publication = newNetworkPublication(MAX_FRAME_LENGTH * 2_000_000_000L, 1);
+        onStatusMessageWithWindow(TERM_BUFFER_LENGTH);
+        appendMessages(3 * MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH);
+
+        assertThat(publication.send(currentTimestamp), is(MAX_FRAME_LENGTH));
+
+        currentTimestamp += 1;
+        assertThat(publication.send(currentTimestamp), is(MAX_FRAME_LENGTH));
+
+        currentTimestamp += 1;
+        assertThat(publication.send(currentTimestamp), is(MAX_FRAME_LENGTH));
+    }
+
+    @Test
+    public void shouldSendUpToBurstOfDatagramsInSingleSend()
+    {
+        publication = newNetworkPublication(0, 3);
+        onStatusMessageWithWindow(TERM_BUFFER_LENGTH);
+        appendMessages(5 * MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH);
+
+        assertThat(publication.send(currentTimestamp), is(3 * MAX_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(4));  // setup & 3 data frames
+        assertThat(publication.send(currentTimestamp), is(2 * MAX_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(6));
+    }
+
+    @Test
+    public void shouldStopBurstAtSenderLimit()
+    {
+        publication = newNetworkPublication(0, 3);
+        onStatusMessageWithWindow(MAX_FRAME_LENGTH + ALIGNED_FRAME_LENGTH);
+        appendMessages(5 * MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH);
+
+        assertThat(publication.send(currentTimestamp), is(MAX_FRAME_LENGTH + ALIGNED_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(3));  // setup & 2 data frames
+        assertThat(publication.send(currentTimestamp), is(0));
+    }
+
+    @Test
+    public void shouldNotSendBurstPastEndOfTerm()
+    {
+        final int termOffset = TERM_BUFFER_LENGTH - (MAX_FRAME_LENGTH / 2);
+        LogBufferDescriptor.rawTail(rawLog.metaData(), 0, LogBufferDescriptor.packTail(INITIAL_TERM_ID, termOffset));
+        final AtomicLongPosition senderPosition = new AtomicLongPosition();
+        senderPosition.set(termOffset);
+
+        publication = newNetworkPublication(0, 3, senderPosition, 0);
+        onStatusMessageWithWindow(TERM_BUFFER_LENGTH * 2);
+        appendMessages((TERM_BUFFER_LENGTH - termOffset) / ALIGNED_FRAME_LENGTH);
+
+        assertThat(publication.send(currentTimestamp), is(MAX_FRAME_LENGTH / 2));
+        assertThat(senderPosition.get(), is((long)TERM_BUFFER_LENGTH));
+        assertThat(receivedFrames.size(), is(2));  // setup & data frame
+    }
+
+    @Test
+    public void shouldOnlyFlushPartialFecGroupWhenHeartbeatIsDue()
+    {
+        publication = newNetworkPublication(0, 1, new AtomicLongPosition(), 4);
+        onStatusMessageWithWindow(TERM_BUFFER_LENGTH);
+        appendMessages(2);
+
+        assertThat(publication.send(currentTimestamp), is(2 * ALIGNED_FRAME_LENGTH));
+        assertThat(receivedFrames.size(), is(2));  // setup & data frame
+
+        currentTimestamp += Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS - 1;
+        assertThat(publication.send(currentTimestamp), is(0));
+        assertThat(receivedFrames.size(), is(2));  // partial group held while idle
+
+        currentTimestamp += 10;
+        publication.send(currentTimestamp);
+        assertThat(receivedFrames.size(), is(4));  // parity & heartbeat
+
+        receivedFrames.remove();
+        receivedFrames.remove();
+        dataHeader.wrap(receivedFrames.remove());
+        assertThat(dataHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_FEC));
+        dataHeader.wrap(receivedFrames.remove());
+        assertThat(dataHeader.frameLength(), is(0));
+    }
+
+    private void onStatusMessageWithWindow(final int receiverWindowLength)
+    {
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(receiverWindowLength);
+        publication.onStatusMessage(msg, rcvAddress);
+    }
+
+    private void appendMessages(final int count)
+    {
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        for (int i = 0; i < count; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null);
+        }
+    }
+
+    private NetworkPublication newNetworkPublication(final long pacingRate, final int sendBurstDatagrams)
+    {
+        return newNetworkPublication(pacingRate, sendBurstDatagrams, new AtomicLongPosition(), 0);
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final long pacingRate, final int sendBurstDatagrams, final Position senderPosition, final int fecGroupSize)
+    {
+        return new NetworkPublication(
+            1,
+            mockSendChannelEndpoint,
+            () -> currentTimestamp,
+            () -> currentTimestamp / (1_000_000L),
+            rawLog,
+            mock(Position.class),
+            senderPosition,
+            new AtomicLongPosition(),
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            MAX_FRAME_LENGTH,
+            fecGroupSize,
+            pacingRate,
+            sendBurstDatagrams,
+            mockSystemCounters,
+            flowControl,
+            mockRetransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            Configuration.PUBLICATION_UNBLOCK_TIMEOUT_NS,
+            false);
+    }
+
     private int offsetOfMessage(final int offset)
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
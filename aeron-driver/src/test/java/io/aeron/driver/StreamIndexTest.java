@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+public class StreamIndexTest
+{
+    private static final String CHANNEL_A = "UDP-00000000-0-7f000001-40456";
+    private static final String CHANNEL_B = "UDP-00000000-0-7f000001-40457";
+    private static final int STREAM_ID_1 = 1;
+    private static final int STREAM_ID_2 = 2;
+
+    private final StreamIndex<String> index = new StreamIndex<>();
+
+    @Test
+    public void shouldBeEmptyForUnknownChannelOrStream()
+    {
+        index.add(CHANNEL_A, STREAM_ID_1, "a1");
+
+        assertThat(index.get(CHANNEL_B, STREAM_ID_1), empty());
+        assertThat(index.get(CHANNEL_A, STREAM_ID_2), empty());
+    }
+
+    @Test
+    public void shouldGetResourcesForChannelAndStream()
+    {
+        index.add(CHANNEL_A, STREAM_ID_1, "a1-first");
+        index.add(CHANNEL_A, STREAM_ID_2, "a2");
+        index.add(CHANNEL_B, STREAM_ID_1, "b1");
+        index.add(CHANNEL_A, STREAM_ID_1, "a1-second");
+
+        assertThat(index.get(CHANNEL_A, STREAM_ID_1), containsInAnyOrder("a1-first", "a1-second"));
+        assertThat(index.get(CHANNEL_A, STREAM_ID_2), contains("a2"));
+        assertThat(index.get(CHANNEL_B, STREAM_ID_1), contains("b1"));
+    }
+
+    @Test
+    public void shouldRemoveResourcesAndIgnoreThoseNotPresent()
+    {
+        index.add(CHANNEL_A, STREAM_ID_1, "a1-first");
+        index.add(CHANNEL_A, STREAM_ID_1, "a1-second");
+
+        index.remove(CHANNEL_A, STREAM_ID_1, "a1-first");
+        index.remove(CHANNEL_A, STREAM_ID_1, "unknown");
+        index.remove(CHANNEL_B, STREAM_ID_2, "unknown");
+        assertThat(index.get(CHANNEL_A, STREAM_ID_1), contains("a1-second"));
+
+        index.remove(CHANNEL_A, STREAM_ID_1, "a1-second");
+        assertThat(index.get(CHANNEL_A, STREAM_ID_1), empty());
+
+        index.add(CHANNEL_A, STREAM_ID_1, "a1-third");
+        assertThat(index.get(CHANNEL_A, STREAM_ID_1), contains("a1-third"));
+    }
+}
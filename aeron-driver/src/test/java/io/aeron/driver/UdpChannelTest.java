@@ -107,6 +107,34 @@ public class UdpChannelTest
         UdpChannel.parse("aeron:udp?endpoint=224.10.9.8");
     }
 
+    @Test
+    public void shouldDefaultToSingleReusePortSocket() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("aeron:udp?endpoint=localhost:40124");
+
+        assertThat(udpChannel.reusePortCount(), is(1));
+    }
+
+    @Test
+    public void shouldParseReusePortCountForUnicast() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("aeron:udp?endpoint=localhost:40124|reuseport-count=4");
+
+        assertThat(udpChannel.reusePortCount(), is(4));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionOnReusePortCountForMulticast() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?endpoint=224.10.9.9:40124|reuseport-count=2");
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionOnZeroReusePortCount() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?endpoint=localhost:40124|reuseport-count=0");
+    }
+
     @Test
     public void shouldParseValidMulticastAddress() throws Exception
     {
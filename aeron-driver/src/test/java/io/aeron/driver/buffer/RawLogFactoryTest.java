@@ -15,20 +15,25 @@
  */
 package io.aeron.driver.buffer;
 
+import io.aeron.LogBuffers;
 import io.aeron.driver.Configuration;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.IoUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.errors.DistinctErrorLog;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.*;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class RawLogFactoryTest
 {
@@ -124,4 +129,176 @@ public class RawLogFactoryTest
         final int imageTermBufferMaxLength = TERM_BUFFER_MAX_LENGTH * 2;
         rawLogFactory.newNetworkedImage(canonicalForm, SESSION_ID, STREAM_ID, CREATION_ID, imageTermBufferMaxLength);
     }
+
+    @Test
+    public void shouldReplaceClosedLogWithNewFileInPoolRatherThanRecycleIt() throws Exception
+    {
+        final AtomicCounter poolHits = mock(AtomicCounter.class);
+        final AtomicCounter poolMisses = mock(AtomicCounter.class);
+        final RawLogFactory pooledFactory = newPooledFactory(
+            LogBufferDescriptor.computeLogLength(TERM_BUFFER_LENGTH), poolHits, poolMisses);
+
+        final String canonicalForm = udpChannel.canonicalForm();
+        final RawLog rawLog = pooledFactory.newNetworkPublication(
+            canonicalForm, SESSION_ID, STREAM_ID, CREATION_ID, TERM_BUFFER_LENGTH);
+        verify(poolMisses).orderedIncrement();
+
+        final File closedLogFile = new File(rawLog.fileName());
+        try (LogBuffers clientLogBuffers = new LogBuffers(rawLog.fileName(), FileChannel.MapMode.READ_ONLY))
+        {
+            rawLog.termBuffers()[1].putByte(TERM_BUFFER_LENGTH - 1, (byte)7);
+            rawLog.metaData().putByte(0, (byte)7);
+            rawLog.close();
+
+            assertThat(closedLogFile.exists(), is(false));
+            assertThat(pooledFactory.pooledLength(), is(0L));
+
+            replenish(pooledFactory);
+            assertThat(pooledFactory.pooledLength(), is(LogBufferDescriptor.computeLogLength(TERM_BUFFER_LENGTH)));
+
+            final RawLog pooledLog = pooledFactory.newNetworkedImage(
+                canonicalForm, SESSION_ID, STREAM_ID, CREATION_ID + 1, TERM_BUFFER_LENGTH);
+            verify(poolHits).orderedIncrement();
+
+            pooledLog.termBuffers()[1].putByte(TERM_BUFFER_LENGTH - 1, (byte)9);
+            assertThat(clientLogBuffers.termBuffers()[1].getByte(TERM_BUFFER_LENGTH - 1), is((byte)7));
+            assertThat(pooledLog.metaData().getByte(0), is((byte)0));
+            assertThat(new File(pooledLog.fileName()).exists(), is(true));
+
+            pooledFactory.close();
+            pooledLog.close();
+            assertThat(new File(pooledLog.fileName()).exists(), is(false));
+            assertThat(pooledFactory.pooledLength(), is(0L));
+        }
+    }
+
+    @Test
+    public void shouldNotPoolBeyondMaxLength() throws Exception
+    {
+        final long logLength = LogBufferDescriptor.computeLogLength(TERM_BUFFER_LENGTH);
+        final AtomicCounter poolHits = mock(AtomicCounter.class);
+        final RawLogFactory pooledFactory = newPooledFactory(logLength, poolHits, mock(AtomicCounter.class));
+
+        assertThat(pooledFactory.preallocate(TERM_BUFFER_LENGTH, 2), is(1));
+
+        final RawLog rawLog = pooledFactory.newIpcPublication(SESSION_ID, STREAM_ID, CREATION_ID, TERM_BUFFER_LENGTH);
+        verify(poolHits).orderedIncrement();
+
+        final RawLog otherLog = pooledFactory.newIpcPublication(
+            SESSION_ID, STREAM_ID, CREATION_ID + 1, TERM_BUFFER_LENGTH);
+
+        rawLog.close();
+        otherLog.close();
+        replenish(pooledFactory);
+
+        assertThat(pooledFactory.pooledLength(), is(logLength));
+        assertThat(new File(otherLog.fileName()).exists(), is(false));
+
+        pooledFactory.close();
+    }
+
+    @Test
+    public void shouldNotReuseLogWithDifferentTermLength() throws Exception
+    {
+        final AtomicCounter poolHits = mock(AtomicCounter.class);
+        final RawLogFactory pooledFactory = newPooledFactory(
+            LogBufferDescriptor.computeLogLength(TERM_BUFFER_LENGTH), poolHits, mock(AtomicCounter.class));
+
+        pooledFactory.preallocate(TERM_BUFFER_LENGTH / 2, 1);
+
+        final RawLog rawLog = pooledFactory.newIpcPublication(SESSION_ID, STREAM_ID, CREATION_ID, TERM_BUFFER_LENGTH);
+        verify(poolHits, never()).orderedIncrement();
+        assertThat(rawLog.termLength(), is(TERM_BUFFER_LENGTH));
+
+        rawLog.close();
+        pooledFactory.close();
+    }
+
+    @Test
+    public void shouldPadLogToFilePageLength() throws Exception
+    {
+        final int filePageLength = 2 * 1024 * 1024;
+        final RawLogFactory hugePageFactory = newHugePageFactory(filePageLength);
+
+        final RawLog rawLog = hugePageFactory.newIpcPublication(SESSION_ID, STREAM_ID, CREATION_ID, TERM_BUFFER_LENGTH);
+        final long logLength = new File(rawLog.fileName()).length();
+
+        assertThat(logLength % filePageLength, is(0L));
+        assertThat(LogBufferDescriptor.computeTermLength(logLength), is(TERM_BUFFER_LENGTH));
+        assertThat(rawLog.termBuffers()[PARTITION_COUNT - 1].capacity(), is(TERM_BUFFER_LENGTH));
+
+        rawLog.metaData().putLong(0, 7L);
+        try (LogBuffers logBuffers = new LogBuffers(rawLog.fileName(), FileChannel.MapMode.READ_ONLY))
+        {
+            assertThat(logBuffers.termLength(), is(TERM_BUFFER_LENGTH));
+            assertThat(logBuffers.metaDataBuffer().getLong(0), is(7L));
+        }
+
+        rawLog.close();
+    }
+
+    @Test
+    public void shouldPreTouchReadWriteMappingWithoutChangingData() throws Exception
+    {
+        final RawLog rawLog = rawLogFactory.newIpcPublication(SESSION_ID, STREAM_ID, CREATION_ID, TERM_BUFFER_LENGTH);
+        rawLog.termBuffers()[0].putInt(0, 7);
+        rawLog.termBuffers()[PARTITION_COUNT - 1].putInt(TERM_BUFFER_LENGTH - 4096, 9);
+        rawLog.metaData().putInt(0, 11);
+
+        try (LogBuffers logBuffers = new LogBuffers(rawLog.fileName(), FileChannel.MapMode.READ_WRITE))
+        {
+            logBuffers.preTouch();
+
+            assertThat(logBuffers.termBuffers()[0].getInt(0), is(7));
+            assertThat(logBuffers.termBuffers()[PARTITION_COUNT - 1].getInt(TERM_BUFFER_LENGTH - 4096), is(9));
+            assertThat(logBuffers.metaDataBuffer().getInt(0), is(11));
+            assertThat(logBuffers.termBuffers()[1].getInt(0), is(0));
+        }
+
+        rawLog.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTermLengthWhichIsNotMultipleOfFilePageLength() throws Exception
+    {
+        final int filePageLength = 2 * 1024 * 1024;
+        final RawLogFactory hugePageFactory = newHugePageFactory(filePageLength);
+
+        hugePageFactory.newIpcPublication(SESSION_ID, STREAM_ID, CREATION_ID, filePageLength / 2);
+    }
+
+    private static void replenish(final RawLogFactory rawLogFactory)
+    {
+        while (rawLogFactory.doWork() > 0)
+        {
+            // keep filling the replacement logs
+        }
+    }
+
+    private static RawLogFactory newHugePageFactory(final int filePageLength)
+    {
+        return new RawLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            TERM_BUFFER_MAX_LENGTH,
+            PRE_ZERO_LOG,
+            filePageLength,
+            mock(DistinctErrorLog.class),
+            0,
+            null,
+            null);
+    }
+
+    private static RawLogFactory newPooledFactory(
+        final long maxPoolLength, final AtomicCounter poolHits, final AtomicCounter poolMisses)
+    {
+        return new RawLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            TERM_BUFFER_MAX_LENGTH,
+            PRE_ZERO_LOG,
+            Configuration.FILE_PAGE_LENGTH_DEFAULT,
+            mock(DistinctErrorLog.class),
+            maxPoolLength,
+            poolHits,
+            poolMisses);
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControlUtil;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BbrCongestionControlTest
+{
+    private static final int TERM_LENGTH = 64 * 1024 * 1024;
+    private static final int MTU_LENGTH = 4096;
+    private static final int MAX_WINDOW = 16 * 1024 * 1024;
+    private static final long RTT_NS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long TICK_NS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long BOTTLENECK_BYTES_PER_SECOND = 1_000_000_000L;
+
+    private final MediaDriver.Context context = mock(MediaDriver.Context.class);
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(ByteBuffer.allocateDirect(64 * 1024)), new UnsafeBuffer(ByteBuffer.allocateDirect(16 * 1024)));
+
+    private long nowNs = 0;
+    private long rebuildPosition = 0;
+    private BbrCongestionControl congestionControl;
+
+    @Before
+    public void setUp()
+    {
+        when(context.initialWindowLength()).thenReturn(MAX_WINDOW);
+
+        congestionControl = new BbrCongestionControl(
+            1,
+            UdpChannel.parse("aeron:udp?endpoint=localhost:40123"),
+            10,
+            20,
+            TERM_LENGTH,
+            MTU_LENGTH,
+            () -> nowNs,
+            context,
+            countersManager);
+    }
+
+    @Test
+    public void shouldStartWithMinimumWindowInStartup()
+    {
+        assertThat(congestionControl.initialWindowLength(), is(4 * MTU_LENGTH));
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.STARTUP));
+    }
+
+    @Test
+    public void shouldLeaveStartupOnceBandwidthStopsGrowing()
+    {
+        congestionControl.onRttMeasurement(nowNs, RTT_NS, null);
+        run(TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.PROBE_BW));
+        assertThat(congestionControl.bottleneckBandwidth(), lessThanOrEqualTo(BOTTLENECK_BYTES_PER_SECOND));
+        assertThat(congestionControl.bottleneckBandwidth(), greaterThan(BOTTLENECK_BYTES_PER_SECOND * 9 / 10));
+    }
+
+    @Test
+    public void shouldHoldWindowNearBandwidthDelayProductInProbeBw()
+    {
+        congestionControl.onRttMeasurement(nowNs, RTT_NS, null);
+        final int window = run(TimeUnit.MILLISECONDS.toNanos(50));
+
+        final long bdp = (BOTTLENECK_BYTES_PER_SECOND * RTT_NS) / TimeUnit.SECONDS.toNanos(1);
+        assertThat((long)window, lessThanOrEqualTo((long)(bdp * 1.25 * BbrCongestionControlConfiguration.WINDOW_GAIN)));
+        assertThat((long)window, greaterThanOrEqualTo((long)(bdp * 0.7)));
+    }
+
+    @Test
+    public void shouldProbeRttWhenMinRttExpires()
+    {
+        congestionControl.onRttMeasurement(nowNs, RTT_NS, null);
+        run(TimeUnit.MILLISECONDS.toNanos(20));
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_EXPIRY_NS + 1;
+        final long outcome = congestionControl.onTrackRebuild(
+            nowNs, rebuildPosition, rebuildPosition, rebuildPosition, rebuildPosition, rebuildPosition, false);
+
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.PROBE_RTT));
+        assertThat(CongestionControlUtil.receiverWindowLength(outcome), is(4 * MTU_LENGTH));
+    }
+
+    private int run(final long durationNs)
+    {
+        int window = congestionControl.initialWindowLength();
+        final long endNs = nowNs + durationNs;
+        final long bottleneckBytesPerTick = (BOTTLENECK_BYTES_PER_SECOND * TICK_NS) / TimeUnit.SECONDS.toNanos(1);
+
+        while (nowNs < endNs)
+        {
+            nowNs += TICK_NS;
+            final long windowBytesPerTick = ((long)window * TICK_NS) / RTT_NS;
+            final long startPosition = rebuildPosition;
+            rebuildPosition += Math.min(bottleneckBytesPerTick, windowBytesPerTick);
+
+            final long outcome = congestionControl.onTrackRebuild(
+                nowNs, rebuildPosition, startPosition, rebuildPosition, startPosition, rebuildPosition, false);
+            window = CongestionControlUtil.receiverWindowLength(outcome);
+        }
+
+        return window;
+    }
+}
@@ -35,6 +35,7 @@ public class SampleConfiguration
 
     public static final String FRAME_COUNT_LIMIT_PROP = "aeron.sample.frameCountLimit";
     public static final String MESSAGE_LENGTH_PROP = "aeron.sample.messageLength";
+    public static final String BATCH_LENGTH_PROP = "aeron.sample.batchLength";
     public static final String NUMBER_OF_MESSAGES_PROP = "aeron.sample.messages";
     public static final String LINGER_TIMEOUT_MS_PROP = "aeron.sample.lingerTimeout";
     public static final String EMBEDDED_MEDIA_DRIVER_PROP = "aeron.sample.embeddedMediaDriver";
@@ -50,6 +51,7 @@ public class SampleConfiguration
     public static final int PONG_STREAM_ID;
     public static final int FRAGMENT_COUNT_LIMIT;
     public static final int MESSAGE_LENGTH;
+    public static final int BATCH_LENGTH;
     public static final int NUMBER_OF_MESSAGES;
     public static final int WARMUP_NUMBER_OF_MESSAGES;
     public static final int WARMUP_NUMBER_OF_ITERATIONS;
@@ -68,6 +70,7 @@ public class SampleConfiguration
         PONG_STREAM_ID = Integer.getInteger(PONG_STREAM_ID_PROP, 10);
         FRAGMENT_COUNT_LIMIT = Integer.getInteger(FRAME_COUNT_LIMIT_PROP, 20);
         MESSAGE_LENGTH = Integer.getInteger(MESSAGE_LENGTH_PROP, 256);
+        BATCH_LENGTH = Integer.getInteger(BATCH_LENGTH_PROP, 16);
         RANDOM_MESSAGE_LENGTH = Boolean.getBoolean(RANDOM_MESSAGE_LENGTH_PROP);
         NUMBER_OF_MESSAGES = Integer.getInteger(NUMBER_OF_MESSAGES_PROP, 1_000_000);
         WARMUP_NUMBER_OF_MESSAGES = Integer.getInteger(WARMUP_NUMBER_OF_MESSAGES_PROP, 10_000);
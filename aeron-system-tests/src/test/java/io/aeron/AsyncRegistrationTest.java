@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.exceptions.RegistrationException;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoint;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongFunction;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+@RunWith(Theories.class)
+public class AsyncRegistrationTest
+{
+    @DataPoint
+    public static final String UNICAST_CHANNEL = "aeron:udp?endpoint=localhost:54325";
+
+    @DataPoint
+    public static final String IPC_CHANNEL = CommonContext.IPC_CHANNEL;
+
+    public static final int STREAM_COUNT = 20;
+    public static final int MESSAGE_LENGTH = 100;
+
+    @Theory
+    @Test(timeout = 10000)
+    public void shouldAddManyPublicationsAndSubscriptionsWithoutWaiting(final String channel) throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+             Aeron aeron = Aeron.connect())
+        {
+            final long[] subscriptionIds = new long[STREAM_COUNT];
+            final long[] publicationIds = new long[STREAM_COUNT];
+            for (int i = 0; i < STREAM_COUNT; i++)
+            {
+                subscriptionIds[i] = aeron.asyncAddSubscription(channel, i);
+                publicationIds[i] = aeron.asyncAddPublication(channel, i);
+            }
+
+            final long duplicatePublicationId = aeron.asyncAddPublication(channel, 0);
+
+            final Subscription[] subscriptions = new Subscription[STREAM_COUNT];
+            final Publication[] publications = new Publication[STREAM_COUNT];
+            for (int i = 0; i < STREAM_COUNT; i++)
+            {
+                subscriptions[i] = awaitRegistration(aeron::getSubscription, subscriptionIds[i]);
+                publications[i] = awaitRegistration(aeron::getPublication, publicationIds[i]);
+            }
+
+            final Publication duplicate = awaitRegistration(aeron::getPublication, duplicatePublicationId);
+            assertThat(duplicate, sameInstance(publications[0]));
+
+            for (int i = 0; i < STREAM_COUNT; i++)
+            {
+                assertThat(publications[i].streamId(), is(i));
+
+                while (publications[i].offer(srcBuffer, 0, MESSAGE_LENGTH) < 0L)
+                {
+                    Thread.yield();
+                }
+
+                final int[] received = new int[1];
+                while (0 == received[0])
+                {
+                    subscriptions[i].poll((buffer, offset, length, header) -> received[0]++, 1);
+                }
+            }
+
+            duplicate.close();
+            assertThat(publications[0].isClosed(), is(false));
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+
+    @Test(timeout = 10000, expected = RegistrationException.class)
+    public void shouldThrowRegistrationErrorWhenGettingRejectedPublication() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context();
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+             Aeron aeron = Aeron.connect())
+        {
+            final long registrationId = aeron.asyncAddPublication("aeron:udp?interface=localhost", 1);
+
+            awaitRegistration(aeron::getPublication, registrationId);
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+
+    private static <T> T awaitRegistration(final LongFunction<T> getFunction, final long registrationId)
+    {
+        T resource;
+        while (null == (resource = getFunction.apply(registrationId)))
+        {
+            Thread.yield();
+        }
+
+        return resource;
+    }
+}
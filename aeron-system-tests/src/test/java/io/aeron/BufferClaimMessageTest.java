@@ -23,14 +23,17 @@ import org.junit.experimental.theories.Theory;
 import org.junit.runner.RunWith;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FragmentedBufferClaim;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.nio.ByteBuffer;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
 @RunWith(Theories.class)
@@ -130,6 +133,69 @@ public class BufferClaimMessageTest
         }
     }
 
+    @Theory
+    @Test(timeout = 10000)
+    public void shouldReceiveMessageClaimedAcrossFragments(final String channel) throws Exception
+    {
+        final FragmentedBufferClaim bufferClaim = new FragmentedBufferClaim();
+        final MediaDriver.Context ctx = new MediaDriver.Context();
+
+        try (MediaDriver ignore = MediaDriver.launch(ctx);
+             Aeron aeron = Aeron.connect();
+             Publication publication = aeron.addPublication(channel, STREAM_ID);
+             Subscription subscription = aeron.addSubscription(channel, STREAM_ID))
+        {
+            final int maxPayloadLength = publication.maxPayloadLength();
+            final int messageLength = Math.min(publication.maxMessageLength(), (maxPayloadLength * 3) + 7);
+            while (publication.tryClaim(messageLength, bufferClaim) < 0L)
+            {
+                Thread.yield();
+            }
+
+            final int fragmentCount = FragmentedBufferClaim.computeFragmentCount(messageLength, maxPayloadLength);
+            assertThat(bufferClaim.fragmentCount(), is(fragmentCount));
+
+            int value = 0;
+            do
+            {
+                final MutableDirectBuffer buffer = bufferClaim.buffer();
+                final int limit = bufferClaim.offset() + bufferClaim.length();
+                for (int i = bufferClaim.offset(); i < limit; i++)
+                {
+                    buffer.putByte(i, (byte)value++);
+                }
+            }
+            while (bufferClaim.nextFragment());
+
+            bufferClaim.commit();
+
+            final boolean[] done = new boolean[1];
+            final FragmentAssembler assembler = new FragmentAssembler(
+                (buffer, offset, length, header) ->
+                {
+                    assertThat(length, is(messageLength));
+                    for (int i = 0; i < length; i++)
+                    {
+                        if (buffer.getByte(offset + i) != (byte)i)
+                        {
+                            fail("unexpected value at index " + i);
+                        }
+                    }
+
+                    done[0] = true;
+                });
+
+            while (!done[0])
+            {
+                subscription.poll(assembler, FRAGMENT_COUNT_LIMIT);
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+
     private static void publishMessage(final UnsafeBuffer srcBuffer, final Publication publication)
     {
         while (publication.offer(srcBuffer, 0, MESSAGE_LENGTH) < 0L)